@@ -0,0 +1,181 @@
+package com.andyln.benchmarks;
+
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copy of the range methods of MockCoach before ChainPlan, kept as the comparison point for range method benchmarks.
+ * <p>
+ * Every range method looks up its mock in a HashMap and runs its own loop over the lambdas, wrapping exceptions the way
+ * MockCoach did. Only path chains, and only the range methods the benchmarks call, are copied. Not thread safe.
+ */
+final class BaselineMockCoach {
+
+    private final Object[] mocks;
+    private final WhenLambda[] whenLambdas;
+    private final VerifyLambda[] verifyLambdas;
+
+    private final Map<Object, Integer> mockMap = new HashMap<>();
+
+    private boolean canCallWhenTheRest;
+    private boolean canCallVerifyTheRest;
+    private int lastSuccessfulMockIndex;
+
+    BaselineMockCoach(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas) {
+        for (int i = 0; i < mocks.length; i++) {
+            if (mockMap.put(mocks[i], i) != null) {
+                throw new IllegalArgumentException(String.format("m%d cannot be the same as a previous mock in mocks!", i + 1));
+            }
+        }
+
+        this.mocks = mocks;
+        this.whenLambdas = whenLambdas;
+        this.verifyLambdas = verifyLambdas;
+    }
+
+    void whenBefore(Object mock) {
+        int indexOfMock = indexOf(mock, "whenBefore(Object mock)");
+
+        for (int i = 0; i < indexOfMock; i++) {
+            try {
+                whenLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
+            }
+        }
+
+        canCallWhenTheRest = true;
+        lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    void whenAll() {
+        for (int i = 0; i < this.mocks.length; i++) {
+            try {
+                whenLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
+            }
+        }
+    }
+
+    void whenTheRest() {
+        if (!canCallWhenTheRest) {
+            throw new IllegalStateException("Cannot call whenTheRest()! Must be called only after whenBefore(mock)");
+        }
+
+        for (int i = lastSuccessfulMockIndex + 1; i < this.mocks.length; i++) {
+            try {
+                whenLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
+            }
+        }
+
+        canCallWhenTheRest = false;
+    }
+
+    void whenTheRestAfter(Object mock) {
+        if (!canCallWhenTheRest) {
+            throw new IllegalStateException("Cannot call whenTheRestAfter(Object mock)! Must be called only after whenBefore(mock)");
+        }
+
+        int indexOfMock = indexOfRestAfter(mock, "whenTheRestAfter(Object mock)");
+
+        for (int i = indexOfMock + 1; i < this.mocks.length; i++) {
+            try {
+                whenLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
+            }
+        }
+    }
+
+    void verifyBefore(Object mock) {
+        int indexOfMock = indexOf(mock, "verifyBefore(Object mock)");
+
+        for (int i = 0; i < indexOfMock; i++) {
+            try {
+                verifyLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
+            }
+        }
+
+        canCallVerifyTheRest = true;
+        lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    void verifyThrough(Object mock) {
+        int indexOfMock = indexOf(mock, "verifyThrough(Object mock)");
+
+        for (int i = 0; i <= indexOfMock; i++) {
+            try {
+                verifyLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
+            }
+        }
+
+        canCallVerifyTheRest = true;
+        lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    void verifyTheRest() {
+        if (!canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyTheRest()! Must be called only after verifyBefore(mock)/verifyThrough(mock)");
+        }
+
+        for (int i = lastSuccessfulMockIndex + 1; i < this.mocks.length; i++) {
+            try {
+                verifyLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
+            }
+        }
+
+        canCallVerifyTheRest = false;
+    }
+
+    void verifyTheRestAfter(Object mock) {
+        if (!canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyTheRestAfter(Object mock)! Must be called only after verifyBefore(mock)/verifyThrough(mock)");
+        }
+
+        int indexOfMock = indexOfRestAfter(mock, "verifyTheRestAfter(Object mock)");
+
+        for (int i = indexOfMock + 1; i < this.mocks.length; i++) {
+            try {
+                verifyLambdas[i].run();
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
+            }
+        }
+    }
+
+    private int indexOf(Object mock, String methodName) {
+        Integer objectIndexOfMock = mockMap.get(mock);
+
+        if (objectIndexOfMock == null) {
+            throw new IllegalArgumentException(String.format("Cannot call %s for mock not in mocks!", methodName));
+        }
+
+        return objectIndexOfMock;
+    }
+
+    private int indexOfRestAfter(Object mock, String methodName) {
+        if (mock == mocks[mocks.length - 1]) {
+            throw new IllegalArgumentException(String.format("Cannot call %s for the last mock! Not calling this method will have identical functionality", methodName));
+        }
+
+        int indexOfMock = indexOf(mock, methodName);
+
+        if (indexOfMock < lastSuccessfulMockIndex) {
+            throw new IllegalArgumentException(String.format("Cannot call %s for a mock located before previously used mock! Make sure correct mock is being passed into this method", methodName));
+        }
+
+        return indexOfMock;
+    }
+}
@@ -0,0 +1,51 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import com.andyln.MockCoachLegacy;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+
+/**
+ * Creates chains of plain objects standing in for mocks, so benchmarks do not measure Mockito.
+ */
+final class Chains {
+
+    private Chains() {
+    }
+
+    static Object[] mocks(int size) {
+        Object[] mocks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            mocks[i] = new Object();
+        }
+        return mocks;
+    }
+
+    static WhenLambda[] whens(int size, LambdaBody body) {
+        WhenLambda[] whens = new WhenLambda[size];
+        for (int i = 0; i < size; i++) {
+            whens[i] = body.when();
+        }
+        return whens;
+    }
+
+    static VerifyLambda[] verifies(int size, LambdaBody body) {
+        VerifyLambda[] verifies = new VerifyLambda[size];
+        for (int i = 0; i < size; i++) {
+            verifies[i] = body.verify();
+        }
+        return verifies;
+    }
+
+    static MockCoach mockCoach(Object[] mocks, WhenLambda[] whens, VerifyLambda[] verifies) {
+        MockCoach.Builder builder = MockCoach.builder();
+        for (int i = 0; i < mocks.length; i++) {
+            builder.add(mocks[i], whens[i], verifies[i]);
+        }
+        return builder.build();
+    }
+
+    static MockCoachLegacy mockCoachLegacy(Object[] mocks, WhenLambda[] whens, VerifyLambda[] verifies) {
+        return new MockCoachLegacy(mocks, whens, verifies);
+    }
+}
@@ -0,0 +1,111 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of constructing a MockCoach, comparing each overloaded constructor against Builder.build() of the same arity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+    public int arity;
+
+    private Object[] m;
+    private WhenLambda[] w;
+    private VerifyLambda[] v;
+
+    @Setup
+    public void setup() {
+        m = Chains.mocks(8);
+        w = Chains.whens(8, LambdaBody.NOOP);
+        v = Chains.verifies(8, LambdaBody.NOOP);
+    }
+
+    @Benchmark
+    public MockCoach constructor() {
+        switch (arity) {
+            case 1:
+                return new MockCoach(
+                        m[0], w[0], v[0]
+                );
+            case 2:
+                return new MockCoach(
+                        m[0], w[0], v[0],
+                        m[1], w[1], v[1]
+                );
+            case 3:
+                return new MockCoach(
+                        m[0], w[0], v[0],
+                        m[1], w[1], v[1],
+                        m[2], w[2], v[2]
+                );
+            case 4:
+                return new MockCoach(
+                        m[0], w[0], v[0],
+                        m[1], w[1], v[1],
+                        m[2], w[2], v[2],
+                        m[3], w[3], v[3]
+                );
+            case 5:
+                return new MockCoach(
+                        m[0], w[0], v[0],
+                        m[1], w[1], v[1],
+                        m[2], w[2], v[2],
+                        m[3], w[3], v[3],
+                        m[4], w[4], v[4]
+                );
+            case 6:
+                return new MockCoach(
+                        m[0], w[0], v[0],
+                        m[1], w[1], v[1],
+                        m[2], w[2], v[2],
+                        m[3], w[3], v[3],
+                        m[4], w[4], v[4],
+                        m[5], w[5], v[5]
+                );
+            case 7:
+                return new MockCoach(
+                        m[0], w[0], v[0],
+                        m[1], w[1], v[1],
+                        m[2], w[2], v[2],
+                        m[3], w[3], v[3],
+                        m[4], w[4], v[4],
+                        m[5], w[5], v[5],
+                        m[6], w[6], v[6]
+                );
+            case 8:
+                return new MockCoach(
+                        m[0], w[0], v[0],
+                        m[1], w[1], v[1],
+                        m[2], w[2], v[2],
+                        m[3], w[3], v[3],
+                        m[4], w[4], v[4],
+                        m[5], w[5], v[5],
+                        m[6], w[6], v[6],
+                        m[7], w[7], v[7]
+                );
+            default:
+                throw new IllegalStateException("arity must be between 1 and 8");
+        }
+    }
+
+    @Benchmark
+    public MockCoach builder() {
+        MockCoach.Builder builder = MockCoach.builder();
+        for (int i = 0; i < arity; i++) {
+            builder.add(m[i], w[i], v[i]);
+        }
+        return builder.build();
+    }
+}
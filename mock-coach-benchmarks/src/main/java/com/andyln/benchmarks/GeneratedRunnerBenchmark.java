@@ -0,0 +1,85 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running whens/verifies with the usual loops, against a runner generated for the chain (MockCoach.putGeneratedRunner()).
+ * <p>
+ * Each chain cycles through eight lambda classes, like a test suite with many different lambdas, so the loops' call
+ * sites are megamorphic, while each call site of the generated runner only sees one lambda class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratedRunnerBenchmark {
+
+    public enum Runner {
+        LOOP,
+        GENERATED
+    }
+
+    // Each lambda expression is its own class
+    private static final WhenLambda[] DISTINCT_WHENS = {
+            () -> Blackhole.consumeCPU(1),
+            () -> Blackhole.consumeCPU(2),
+            () -> Blackhole.consumeCPU(3),
+            () -> Blackhole.consumeCPU(4),
+            () -> Blackhole.consumeCPU(5),
+            () -> Blackhole.consumeCPU(6),
+            () -> Blackhole.consumeCPU(7),
+            () -> Blackhole.consumeCPU(8)
+    };
+
+    private static final VerifyLambda[] DISTINCT_VERIFIES = {
+            () -> Blackhole.consumeCPU(1),
+            () -> Blackhole.consumeCPU(2),
+            () -> Blackhole.consumeCPU(3),
+            () -> Blackhole.consumeCPU(4),
+            () -> Blackhole.consumeCPU(5),
+            () -> Blackhole.consumeCPU(6),
+            () -> Blackhole.consumeCPU(7),
+            () -> Blackhole.consumeCPU(8)
+    };
+
+    @Param({"8", "100"})
+    public int chainSize;
+
+    @Param({"LOOP", "GENERATED"})
+    public Runner runner;
+
+    private MockCoach mockCoach;
+
+    @Setup
+    public void setup() {
+        WhenLambda[] whens = new WhenLambda[chainSize];
+        VerifyLambda[] verifies = new VerifyLambda[chainSize];
+        for (int i = 0; i < chainSize; i++) {
+            whens[i] = DISTINCT_WHENS[i % DISTINCT_WHENS.length];
+            verifies[i] = DISTINCT_VERIFIES[i % DISTINCT_VERIFIES.length];
+        }
+
+        mockCoach = Chains.mockCoach(Chains.mocks(chainSize), whens, verifies);
+        if (runner == Runner.GENERATED) {
+            mockCoach.putGeneratedRunner();
+        }
+    }
+
+    @Benchmark
+    public void whenAll() {
+        mockCoach.whenAll();
+    }
+
+    @Benchmark
+    public void verifyAll() {
+        mockCoach.verifyAll();
+    }
+}
@@ -0,0 +1,40 @@
+package com.andyln.benchmarks;
+
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Body of the when/verify lambdas used by benchmarks.
+ */
+public enum LambdaBody {
+
+    /**
+     * Lambdas do nothing, so benchmarks measure only the overhead of Mock Coach.
+     */
+    NOOP,
+
+    /**
+     * Lambdas burn CPU roughly equal to a Mockito "when(...).thenReturn(...)" or "verify(...)" call,
+     * so Mock Coach overhead can be compared against the cost of the lambdas it runs.
+     */
+    MOCKITO_COST;
+
+    private static final long MOCKITO_COST_TOKENS = 200;
+
+    WhenLambda when() {
+        if (this == NOOP) {
+            return () -> {
+            };
+        }
+        return () -> Blackhole.consumeCPU(MOCKITO_COST_TOKENS);
+    }
+
+    VerifyLambda verify() {
+        if (this == NOOP) {
+            return () -> {
+            };
+        }
+        return () -> Blackhole.consumeCPU(MOCKITO_COST_TOKENS);
+    }
+}
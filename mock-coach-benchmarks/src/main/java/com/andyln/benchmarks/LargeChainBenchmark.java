@@ -0,0 +1,61 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of generated chains of 1,000 to 100,000 mocks.
+ * <p>
+ * Building and running a whole chain should grow linearly with chainSize, so time per mock (score / chainSize) stays flat.
+ * Looking up the first mock runs at most one lambda, so it should take the same time at any chainSize.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LargeChainBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int chainSize;
+
+    private Object[] mocks;
+    private WhenLambda[] whens;
+    private VerifyLambda[] verifies;
+
+    private MockCoach mockCoach;
+
+    @Setup
+    public void setup() {
+        mocks = Chains.mocks(chainSize);
+        whens = Chains.whens(chainSize, LambdaBody.NOOP);
+        verifies = Chains.verifies(chainSize, LambdaBody.NOOP);
+        mockCoach = Chains.mockCoach(mocks, whens, verifies);
+    }
+
+    @Benchmark
+    public MockCoach build() {
+        return Chains.mockCoach(mocks, whens, verifies);
+    }
+
+    @Benchmark
+    public void whenAllVerifyAll() {
+        mockCoach.whenAll();
+        mockCoach.verifyAll();
+    }
+
+    @Benchmark
+    public void whenBeforeFirstMock() {
+        mockCoach.whenBefore(mocks[0]);
+    }
+
+    @Benchmark
+    public void verifyThroughLastMock() {
+        mockCoach.verifyThrough(mocks[chainSize - 1]);
+    }
+}
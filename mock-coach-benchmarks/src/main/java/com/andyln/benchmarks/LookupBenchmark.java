@@ -0,0 +1,55 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving a mock in whenBefore(mock)/verifyThrough(mock).
+ * <p>
+ * Looking up the first mock runs at most one lambda, so it isolates the lookup.
+ * Looking up the last mock adds the cost of running the whole range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    public enum Position {
+        FIRST, LAST
+    }
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int chainSize;
+
+    @Param({"FIRST", "LAST"})
+    public Position position;
+
+    private MockCoach mockCoach;
+    private Object mock;
+
+    @Setup
+    public void setup() {
+        Object[] mocks = Chains.mocks(chainSize);
+        mockCoach = Chains.mockCoach(
+                mocks,
+                Chains.whens(chainSize, LambdaBody.NOOP),
+                Chains.verifies(chainSize, LambdaBody.NOOP)
+        );
+        mock = position == Position.FIRST ? mocks[0] : mocks[chainSize - 1];
+    }
+
+    @Benchmark
+    public void whenBefore() {
+        mockCoach.whenBefore(mock);
+    }
+
+    @Benchmark
+    public void verifyThrough() {
+        mockCoach.verifyThrough(mock);
+    }
+}
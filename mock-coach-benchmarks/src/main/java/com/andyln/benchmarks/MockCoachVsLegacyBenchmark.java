@@ -0,0 +1,103 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import com.andyln.MockCoachLegacy;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares MockCoach against MockCoachLegacy on the same chain. Both run ranges through ChainPlan, so the baseline
+ * benchmarks run the same ranges on BaselineMockCoach, the per-method loops MockCoach had before ChainPlan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MockCoachVsLegacyBenchmark {
+
+    @Param({"8", "100"})
+    public int chainSize;
+
+    @Param({"NOOP", "MOCKITO_COST"})
+    public LambdaBody body;
+
+    private Object[] mocks;
+    private WhenLambda[] whens;
+    private VerifyLambda[] verifies;
+
+    private MockCoach mockCoach;
+    private MockCoachLegacy mockCoachLegacy;
+    private BaselineMockCoach baselineMockCoach;
+    private Object lastMock;
+
+    @Setup
+    public void setup() {
+        mocks = Chains.mocks(chainSize);
+        whens = Chains.whens(chainSize, body);
+        verifies = Chains.verifies(chainSize, body);
+        mockCoach = Chains.mockCoach(mocks, whens, verifies);
+        mockCoachLegacy = Chains.mockCoachLegacy(mocks, whens, verifies);
+        baselineMockCoach = new BaselineMockCoach(mocks, whens, verifies);
+        lastMock = mocks[chainSize - 1];
+    }
+
+    @Benchmark
+    public MockCoach mockCoachConstruction() {
+        return Chains.mockCoach(mocks, whens, verifies);
+    }
+
+    @Benchmark
+    public MockCoachLegacy mockCoachLegacyConstruction() {
+        return Chains.mockCoachLegacy(mocks, whens, verifies);
+    }
+
+    @Benchmark
+    public void mockCoachWhenBefore() {
+        mockCoach.whenBefore(lastMock);
+    }
+
+    @Benchmark
+    public void mockCoachLegacyWhenBefore() {
+        mockCoachLegacy.whenBefore(lastMock);
+    }
+
+    @Benchmark
+    public void baselineWhenBefore() {
+        baselineMockCoach.whenBefore(lastMock);
+    }
+
+    @Benchmark
+    public void mockCoachVerifyThrough() {
+        mockCoach.verifyThrough(lastMock);
+    }
+
+    @Benchmark
+    public void mockCoachLegacyVerifyThrough() {
+        mockCoachLegacy.verifyThrough(lastMock);
+    }
+
+    @Benchmark
+    public void baselineVerifyThrough() {
+        baselineMockCoach.verifyThrough(lastMock);
+    }
+
+    @Benchmark
+    public void mockCoachWhenAll() {
+        mockCoach.whenAll();
+    }
+
+    @Benchmark
+    public void mockCoachLegacyWhenAll() {
+        mockCoachLegacy.whenAll();
+    }
+
+    @Benchmark
+    public void baselineWhenAll() {
+        baselineMockCoach.whenAll();
+    }
+}
@@ -0,0 +1,91 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per call overhead of the range methods, with lambdas that do nothing.
+ * <p>
+ * Each benchmark calls a range method the way a single test would, splitting the chain at its middle mock. The baseline
+ * benchmarks make the same calls on BaselineMockCoach, the per-method loops MockCoach had before ChainPlan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeExecutionBenchmark {
+
+    @Param({"3", "8", "40"})
+    public int chainSize;
+
+    private MockCoach mockCoach;
+    private BaselineMockCoach baselineMockCoach;
+    private Object middleMock;
+    private Object afterMiddleMock;
+
+    @Setup
+    public void setup() {
+        Object[] mocks = Chains.mocks(chainSize);
+        WhenLambda[] whens = Chains.whens(chainSize, LambdaBody.NOOP);
+        VerifyLambda[] verifies = Chains.verifies(chainSize, LambdaBody.NOOP);
+        mockCoach = Chains.mockCoach(mocks, whens, verifies);
+        baselineMockCoach = new BaselineMockCoach(mocks, whens, verifies);
+        middleMock = mocks[chainSize / 2];
+        // whenTheRestAfter/verifyTheRestAfter do not accept the last mock, so stay below it in short chains
+        afterMiddleMock = mocks[Math.min(chainSize / 2 + 1, chainSize - 2)];
+    }
+
+    @Benchmark
+    public void whenBeforeThenWhenTheRest() {
+        mockCoach.whenBefore(middleMock);
+        mockCoach.whenTheRest();
+    }
+
+    @Benchmark
+    public void whenBeforeThenWhenTheRestAfter() {
+        mockCoach.whenBefore(middleMock);
+        mockCoach.whenTheRestAfter(afterMiddleMock);
+    }
+
+    @Benchmark
+    public void verifyBeforeThenVerifyTheRest() {
+        mockCoach.verifyBefore(middleMock);
+        mockCoach.verifyTheRest();
+    }
+
+    @Benchmark
+    public void verifyThroughThenVerifyTheRestAfter() {
+        mockCoach.verifyThrough(middleMock);
+        mockCoach.verifyTheRestAfter(afterMiddleMock);
+    }
+
+    @Benchmark
+    public void baselineWhenBeforeThenWhenTheRest() {
+        baselineMockCoach.whenBefore(middleMock);
+        baselineMockCoach.whenTheRest();
+    }
+
+    @Benchmark
+    public void baselineWhenBeforeThenWhenTheRestAfter() {
+        baselineMockCoach.whenBefore(middleMock);
+        baselineMockCoach.whenTheRestAfter(afterMiddleMock);
+    }
+
+    @Benchmark
+    public void baselineVerifyBeforeThenVerifyTheRest() {
+        baselineMockCoach.verifyBefore(middleMock);
+        baselineMockCoach.verifyTheRest();
+    }
+
+    @Benchmark
+    public void baselineVerifyThroughThenVerifyTheRestAfter() {
+        baselineMockCoach.verifyThrough(middleMock);
+        baselineMockCoach.verifyTheRestAfter(afterMiddleMock);
+    }
+}
@@ -0,0 +1,45 @@
+package com.andyln.benchmarks;
+
+import com.andyln.MockCoach;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of running every when/verify lambda of a chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WhenAllVerifyAllBenchmark {
+
+    @Param({"1", "8", "100"})
+    public int chainSize;
+
+    @Param({"NOOP", "MOCKITO_COST"})
+    public LambdaBody body;
+
+    private MockCoach mockCoach;
+
+    @Setup
+    public void setup() {
+        mockCoach = Chains.mockCoach(
+                Chains.mocks(chainSize),
+                Chains.whens(chainSize, body),
+                Chains.verifies(chainSize, body)
+        );
+    }
+
+    @Benchmark
+    public void whenAll() {
+        mockCoach.whenAll();
+    }
+
+    @Benchmark
+    public void verifyAll() {
+        mockCoach.verifyAll();
+    }
+}
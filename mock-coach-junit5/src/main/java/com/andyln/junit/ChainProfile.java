@@ -0,0 +1,99 @@
+package com.andyln.junit;
+
+import com.andyln.RangeListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Range method calls of one MockCoach, across every test of a suite.
+ * <p>
+ * Thread safe, so tests of a suite can run in parallel.
+ */
+final class ChainProfile {
+
+    /**
+     * Calls and lambda runs of ranges, either of a whole chain or of a single test.
+     */
+    static final class Totals {
+
+        long elapsedNanos;
+        int rangeCalls;
+        int whens;
+        int verifies;
+        int noInteractions;
+
+        void add(String rangeName, int firstIndex, int lastIndex, long elapsedNanos) {
+            this.elapsedNanos += elapsedNanos;
+            rangeCalls++;
+
+            int lambdaCount = Math.max(0, lastIndex - firstIndex + 1);
+            if (rangeName.startsWith("verifyNoInteractions")) {
+                noInteractions += lambdaCount;
+            } else if (rangeName.startsWith("when")) {
+                whens += lambdaCount;
+            } else {
+                verifies += lambdaCount;
+            }
+        }
+    }
+
+    /**
+     * Range method calls of a single test.
+     */
+    static final class TestProfile {
+
+        final String testName;
+        final Totals totals = new Totals();
+
+        // Range label (such as "whenBefore(m3)") to calls of that range, in order of first call
+        final Map<String, Totals> ranges = new LinkedHashMap<>();
+
+        TestProfile(String testName) {
+            this.testName = testName;
+        }
+    }
+
+    final String chainName;
+    final Totals totals = new Totals();
+
+    // Test name to range method calls of that test, in order of first call
+    final Map<String, TestProfile> tests = new LinkedHashMap<>();
+
+    ChainProfile(String chainName) {
+        this.chainName = chainName;
+    }
+
+    /**
+     * Returns listener recording range method calls of this chain, for test.
+     */
+    RangeListener listenerFor(String testName) {
+        return (rangeName, firstIndex, lastIndex, elapsedNanos) -> record(testName, rangeName, firstIndex, lastIndex, elapsedNanos);
+    }
+
+    synchronized void record(String testName, String rangeName, int firstIndex, int lastIndex, long elapsedNanos) {
+        totals.add(rangeName, firstIndex, lastIndex, elapsedNanos);
+
+        TestProfile test = tests.computeIfAbsent(testName, TestProfile::new);
+        test.totals.add(rangeName, firstIndex, lastIndex, elapsedNanos);
+        test.ranges.computeIfAbsent(rangeLabel(rangeName, firstIndex, lastIndex), label -> new Totals())
+                .add(rangeName, firstIndex, lastIndex, elapsedNanos);
+    }
+
+    /**
+     * Returns range method as written in a test, with the mock it was called with (as "m%d") where it takes one.
+     * Example: "whenBefore(m3)", for a whenBefore call running w1 and w2.
+     */
+    static String rangeLabel(String rangeName, int firstIndex, int lastIndex) {
+        if (rangeName.endsWith("Before") || rangeName.endsWith("BeforeAsync")) {
+            return rangeName + "(m" + (lastIndex + 1) + ")";
+        }
+        if (rangeName.endsWith("Through")) {
+            return rangeName + "(m" + lastIndex + ")";
+        }
+        if (rangeName.endsWith("TheRestAfter")) {
+            return rangeName + "(m" + (firstIndex - 1) + ")";
+        }
+        return rangeName;
+    }
+}
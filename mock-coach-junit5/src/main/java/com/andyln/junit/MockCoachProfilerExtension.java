@@ -0,0 +1,120 @@
+package com.andyln.junit;
+
+import com.andyln.MockCoach;
+import com.andyln.MockCoachLegacy;
+import com.andyln.RangeListener;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Paths;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Profiles every MockCoach of a test suite, writing a report of range method calls sorted by total time once the suite
+ * has run. See ProfileReport for the format.
+ * <p>
+ * Before the &#64;BeforeEach methods of each test run, every MockCoach field of the test instance (and of its enclosing
+ * instances, for nested tests) gets a RangeListener recording the test's range method calls, including calls from
+ * &#64;BeforeEach and &#64;AfterEach methods. Fields still null at that point are checked again right before the test
+ * method, so a MockCoach assigned in a &#64;BeforeEach method is profiled from the test method on, but its calls in
+ * &#64;BeforeEach methods are not. A RangeListener the MockCoach already has keeps being called, and is put back after the
+ * &#64;AfterEach methods. A chain is named after its field, as "TestClass.field". Static MockCoach fields, MockCoachs
+ * created inside a test method, and MockCoachLegacys are not profiled: a static MockCoach can be shared by tests running
+ * in parallel, so its calls cannot be attributed to a single test.
+ * <p>
+ * Register with "&#64;ExtendWith(MockCoachProfilerExtension.class)", or for every test class with JUnit's extension
+ * auto detection ("junit.jupiter.extensions.autodetection.enabled=true").
+ * The report is written to "target/mock-coach-profile.txt", or to the path in configuration parameter
+ * "mockcoach.profiler.report".
+ */
+public class MockCoachProfilerExtension implements BeforeEachCallback, BeforeTestExecutionCallback, AfterEachCallback {
+
+    /**
+     * Configuration parameter with path of report file.
+     */
+    public static final String REPORT_PATH_PARAMETER = "mockcoach.profiler.report";
+
+    static final String DEFAULT_REPORT_PATH = "target/mock-coach-profile.txt";
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MockCoachProfilerExtension.class);
+
+    private static final String PROFILED_COACHES_KEY = "profiledCoaches";
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws IllegalAccessException {
+        profileCoachFields(context);
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) throws IllegalAccessException {
+        // Picks up MockCoachs assigned by @BeforeEach methods
+        profileCoachFields(context);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        @SuppressWarnings("unchecked")
+        Map<MockCoach, RangeListener> previousListeners = context.getStore(NAMESPACE).remove(PROFILED_COACHES_KEY, Map.class);
+        if (previousListeners == null) {
+            return;
+        }
+
+        for (Map.Entry<MockCoach, RangeListener> entry : previousListeners.entrySet()) {
+            entry.getKey().putRangeListener(entry.getValue());
+        }
+    }
+
+    /**
+     * Puts a listener on every MockCoach field of the test instances that does not have one from this test yet, keeping
+     * the listener it had to put back after the test.
+     */
+    private static void profileCoachFields(ExtensionContext context) throws IllegalAccessException {
+        SuiteProfile suiteProfile = suiteProfile(context);
+        String testName = context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName();
+
+        @SuppressWarnings("unchecked")
+        Map<MockCoach, RangeListener> previousListeners = context.getStore(NAMESPACE).getOrComputeIfAbsent(
+                PROFILED_COACHES_KEY,
+                key -> new IdentityHashMap<>(),
+                Map.class
+        );
+        for (Object testInstance : context.getRequiredTestInstances().getAllInstances()) {
+            for (Class<?> testClass = testInstance.getClass(); testClass != Object.class; testClass = testClass.getSuperclass()) {
+                for (Field field : testClass.getDeclaredFields()) {
+                    if (!MockCoach.class.isAssignableFrom(field.getType()) || Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+
+                    field.setAccessible(true);
+                    Object value = field.get(testInstance);
+                    if (value == null || value instanceof MockCoachLegacy || previousListeners.containsKey(value)) {
+                        continue;
+                    }
+
+                    MockCoach mockCoach = (MockCoach) value;
+                    RangeListener previousListener = mockCoach.getRangeListener();
+                    previousListeners.put(mockCoach, previousListener);
+
+                    RangeListener profileListener = suiteProfile.chain(testClass.getSimpleName() + "." + field.getName()).listenerFor(testName);
+                    mockCoach.putRangeListener(previousListener == null ? profileListener : (rangeName, firstIndex, lastIndex, elapsedNanos) -> {
+                        profileListener.onRangeRun(rangeName, firstIndex, lastIndex, elapsedNanos);
+                        previousListener.onRangeRun(rangeName, firstIndex, lastIndex, elapsedNanos);
+                    });
+                }
+            }
+        }
+    }
+
+    private static SuiteProfile suiteProfile(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+                SuiteProfile.class,
+                key -> new SuiteProfile(Paths.get(context.getConfigurationParameter(REPORT_PATH_PARAMETER).orElse(DEFAULT_REPORT_PATH))),
+                SuiteProfile.class
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package com.andyln.junit;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compact text report of chain profiles, sorted by total time, slowest chain first. Tests of a chain are also sorted
+ * slowest first.
+ * <p>
+ * Example:
+ * <pre>
+ * Mock Coach profile: 1 chains, 2 tests,    12.500 ms
+ *      12.500 ms  OrderServiceTest.mockCoach  ranges=4 whens=3 verifies=3 noInteractions=0
+ *        10.000 ms  OrderServiceTest.placesOrder  whenBefore(m3) 7.000 ms, verifyAll 3.000 ms
+ *         2.500 ms  OrderServiceTest.rejectsOrder  whenBefore(m2) x2 2.500 ms
+ * </pre>
+ */
+final class ProfileReport {
+
+    private static final Comparator<ChainProfile> SLOWEST_CHAIN_FIRST =
+            Comparator.comparingLong((ChainProfile chain) -> chain.totals.elapsedNanos).reversed()
+                    .thenComparing(chain -> chain.chainName);
+
+    private static final Comparator<ChainProfile.TestProfile> SLOWEST_TEST_FIRST =
+            Comparator.comparingLong((ChainProfile.TestProfile test) -> test.totals.elapsedNanos).reversed()
+                    .thenComparing(test -> test.testName);
+
+    private ProfileReport() {
+    }
+
+    static void write(Collection<ChainProfile> chainProfiles, Writer out) throws IOException {
+        List<ChainProfile> chains = new ArrayList<>(chainProfiles);
+        chains.sort(SLOWEST_CHAIN_FIRST);
+
+        long totalNanos = 0;
+        int testCount = 0;
+        for (ChainProfile chain : chains) {
+            totalNanos += chain.totals.elapsedNanos;
+            testCount += chain.tests.size();
+        }
+        out.write(String.format(Locale.ROOT, "Mock Coach profile: %d chains, %d tests, %s%n", chains.size(), testCount, millis(totalNanos)));
+
+        for (ChainProfile chain : chains) {
+            ChainProfile.Totals totals = chain.totals;
+            out.write(String.format(Locale.ROOT, "  %s  %s  ranges=%d whens=%d verifies=%d noInteractions=%d%n",
+                    millis(totals.elapsedNanos), chain.chainName, totals.rangeCalls, totals.whens, totals.verifies, totals.noInteractions));
+
+            List<ChainProfile.TestProfile> tests = new ArrayList<>(chain.tests.values());
+            tests.sort(SLOWEST_TEST_FIRST);
+            for (ChainProfile.TestProfile test : tests) {
+                out.write(String.format(Locale.ROOT, "    %s  %s  %s%n", millis(test.totals.elapsedNanos), test.testName, ranges(test)));
+            }
+        }
+    }
+
+    private static String ranges(ChainProfile.TestProfile test) {
+        StringBuilder ranges = new StringBuilder();
+        for (Map.Entry<String, ChainProfile.Totals> range : test.ranges.entrySet()) {
+            if (ranges.length() > 0) {
+                ranges.append(", ");
+            }
+            ranges.append(range.getKey());
+            if (range.getValue().rangeCalls > 1) {
+                ranges.append(" x").append(range.getValue().rangeCalls);
+            }
+            ranges.append(' ').append(millis(range.getValue().elapsedNanos).trim());
+        }
+        return ranges.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%9.3f ms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,49 @@
+package com.andyln.junit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chain profiles of a whole test suite. Stored in the root extension context, so JUnit closes it once every test has
+ * run, which writes the report.
+ */
+final class SuiteProfile implements ExtensionContext.Store.CloseableResource {
+
+    private final Path reportPath;
+
+    // Chain name to profile of that chain
+    private final Map<String, ChainProfile> chains = new ConcurrentHashMap<>();
+
+    SuiteProfile(Path reportPath) {
+        this.reportPath = reportPath;
+    }
+
+    ChainProfile chain(String chainName) {
+        return chains.computeIfAbsent(chainName, ChainProfile::new);
+    }
+
+    /**
+     * Writes report, if any chain was profiled.
+     */
+    @Override
+    public void close() throws IOException {
+        if (chains.isEmpty()) {
+            return;
+        }
+
+        Path parent = reportPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8)) {
+            ProfileReport.write(chains.values(), out);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.andyln.junit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChainProfileTest {
+
+    @Nested
+    class RangeLabel {
+
+        @Test
+        void whenBefore_ThenLabelWithMockAfterRange() {
+            assertEquals("whenBefore(m3)", ChainProfile.rangeLabel("whenBefore", 1, 2));
+            assertEquals("verifyBefore(m1)", ChainProfile.rangeLabel("verifyBefore", 1, 0));
+            assertEquals("whenBeforeAsync(m2)", ChainProfile.rangeLabel("whenBeforeAsync", 1, 1));
+        }
+
+        @Test
+        void whenThrough_ThenLabelWithLastMockOfRange() {
+            assertEquals("verifyThrough(m2)", ChainProfile.rangeLabel("verifyThrough", 1, 2));
+        }
+
+        @Test
+        void whenTheRestAfter_ThenLabelWithMockBeforeRange() {
+            assertEquals("whenTheRestAfter(m1)", ChainProfile.rangeLabel("whenTheRestAfter", 2, 3));
+            assertEquals("verifyNoInteractionsTheRestAfter(m2)", ChainProfile.rangeLabel("verifyNoInteractionsTheRestAfter", 3, 3));
+        }
+
+        @Test
+        void whenRangeWithoutMock_ThenLabelIsRangeName() {
+            assertEquals("verifyTheRest", ChainProfile.rangeLabel("verifyTheRest", 2, 3));
+            assertEquals("whenBeforeLast", ChainProfile.rangeLabel("whenBeforeLast", 1, 2));
+            assertEquals("verifyThroughFirst", ChainProfile.rangeLabel("verifyThroughFirst", 1, 1));
+        }
+    }
+
+    @Nested
+    class Record {
+
+        private final ChainProfile chainProfile = new ChainProfile("OrderServiceTest.mockCoach");
+
+        @Test
+        void success() {
+            chainProfile.listenerFor("placesOrder").onRangeRun("whenBefore", 1, 2, 3_000_000);
+            chainProfile.listenerFor("placesOrder").onRangeRun("verifyNoInteractionsTheRest", 3, 3, 1_000_000);
+            chainProfile.listenerFor("rejectsOrder").onRangeRun("verifyAll", 1, 3, 2_000_000);
+
+            assertEquals(6_000_000, chainProfile.totals.elapsedNanos);
+            assertEquals(3, chainProfile.totals.rangeCalls);
+            assertEquals(2, chainProfile.totals.whens);
+            assertEquals(3, chainProfile.totals.verifies);
+            assertEquals(1, chainProfile.totals.noInteractions);
+
+            ChainProfile.TestProfile placesOrder = chainProfile.tests.get("placesOrder");
+            assertEquals(4_000_000, placesOrder.totals.elapsedNanos);
+            assertEquals(Arrays.asList("whenBefore(m3)", "verifyNoInteractionsTheRest"), Arrays.asList(placesOrder.ranges.keySet().toArray()));
+        }
+
+        @Test
+        void whenEmptyRange_ThenNoLambdasCounted() {
+            chainProfile.record("placesOrder", "whenBefore", 1, 0, 100);
+
+            assertEquals(1, chainProfile.totals.rangeCalls);
+            assertEquals(0, chainProfile.totals.whens);
+        }
+    }
+
+    @Nested
+    class Report {
+
+        @Test
+        void whenSeveralChains_ThenSlowestChainAndTestFirst() throws IOException {
+            ChainProfile fastChain = new ChainProfile("FastTest.mockCoach");
+            fastChain.record("FastTest.test", "whenAll", 1, 2, 1_000_000);
+
+            ChainProfile slowChain = new ChainProfile("SlowTest.mockCoach");
+            slowChain.record("SlowTest.quick", "verifyAll", 1, 2, 2_000_000);
+            slowChain.record("SlowTest.slow", "whenBefore", 1, 2, 3_000_000);
+            slowChain.record("SlowTest.slow", "whenBefore", 1, 2, 4_000_000);
+
+            StringWriter out = new StringWriter();
+            ProfileReport.write(Arrays.asList(fastChain, slowChain), out);
+
+            String[] lines = out.toString().split("\\R");
+            assertEquals("Mock Coach profile: 2 chains, 3 tests,    10.000 ms", lines[0]);
+            assertEquals("      9.000 ms  SlowTest.mockCoach  ranges=3 whens=4 verifies=2 noInteractions=0", lines[1]);
+            assertEquals("        7.000 ms  SlowTest.slow  whenBefore(m3) x2 7.000 ms", lines[2]);
+            assertEquals("        2.000 ms  SlowTest.quick  verifyAll 2.000 ms", lines[3]);
+            assertEquals("      1.000 ms  FastTest.mockCoach  ranges=1 whens=2 verifies=0 noInteractions=0", lines[4]);
+            assertEquals(6, lines.length);
+        }
+    }
+
+}
@@ -0,0 +1,258 @@
+package com.andyln.junit;
+
+import com.andyln.MockCoach;
+import com.andyln.MockCoachLegacy;
+import com.andyln.RangeListener;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+class MockCoachProfilerExtensionTest {
+
+    private static final String SAMPLE_RUN_PARAMETER = "mockcoach.profiler.sampleRun";
+
+    /**
+     * Only runs sample tests when launched by MockCoachProfilerExtensionTest, not when discovered by the build.
+     */
+    static class OnlyInSampleRun implements ExecutionCondition {
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            if (context.getConfigurationParameter(SAMPLE_RUN_PARAMETER).isPresent()) {
+                return ConditionEvaluationResult.enabled("Sample run");
+            }
+            return ConditionEvaluationResult.disabled("Only run by MockCoachProfilerExtensionTest");
+        }
+    }
+
+    @ExtendWith({OnlyInSampleRun.class, MockCoachProfilerExtension.class})
+    static class SampleTest {
+
+        private static final WhenLambda NO_WHEN = () -> {
+        };
+        private static final VerifyLambda NO_VERIFY = () -> {
+        };
+
+        private final Object mock1 = new Object();
+        private final Object mock2 = new Object();
+        private final Object mock3 = new Object();
+
+        private final MockCoach mockCoach = new MockCoach.Builder()
+                .add(mock1, NO_WHEN, NO_VERIFY)
+                .add(mock2, NO_WHEN, NO_VERIFY)
+                .add(mock3, NO_WHEN, NO_VERIFY)
+                .build();
+
+        private final MockCoach sameMockCoach = mockCoach;
+
+        private final MockCoachLegacy mockCoachLegacy = new MockCoachLegacy(
+                new Object[]{mock1},
+                new WhenLambda[]{NO_WHEN},
+                new VerifyLambda[]{NO_VERIFY}
+        );
+
+        @Test
+        void placesOrder() {
+            mockCoach.whenBefore(mock3);
+            mockCoach.whenTheRest();
+            mockCoach.verifyAll();
+            mockCoachLegacy.whenAll();
+        }
+
+        @Nested
+        class Rejections {
+
+            private final MockCoach rejectionCoach = new MockCoach.Builder()
+                    .add(mock1, NO_WHEN, NO_VERIFY)
+                    .add(mock2, NO_WHEN, NO_VERIFY)
+                    .build();
+
+            @Test
+            void rejectsOrder() {
+                mockCoach.verifyThrough(mock1);
+                rejectionCoach.whenAll();
+            }
+        }
+    }
+
+    @ExtendWith({OnlyInSampleRun.class, MockCoachProfilerExtension.class})
+    static class LifecycleSampleTest {
+
+        private static final WhenLambda NO_WHEN = () -> {
+        };
+        private static final VerifyLambda NO_VERIFY = () -> {
+        };
+
+        private final Object mock1 = new Object();
+        private final Object mock2 = new Object();
+
+        private final MockCoach fieldCoach = new MockCoach.Builder()
+                .add(mock1, NO_WHEN, NO_VERIFY)
+                .add(mock2, NO_WHEN, NO_VERIFY)
+                .build();
+
+        private MockCoach beforeEachCoach;
+
+        @BeforeEach
+        void setUp() {
+            fieldCoach.whenAll();
+
+            beforeEachCoach = new MockCoach.Builder()
+                    .add(mock1, NO_WHEN, NO_VERIFY)
+                    .build();
+            beforeEachCoach.whenAll();
+        }
+
+        @AfterEach
+        void tearDown() {
+            fieldCoach.verifyAll();
+        }
+
+        @Test
+        void placesOrder() {
+            beforeEachCoach.verifyAll();
+        }
+    }
+
+    @ExtendWith({OnlyInSampleRun.class, MockCoachProfilerExtension.class})
+    static class ListenerSampleTest {
+
+        private static final WhenLambda NO_WHEN = () -> {
+        };
+        private static final VerifyLambda NO_VERIFY = () -> {
+        };
+
+        static final List<String> RANGE_NAMES = Collections.synchronizedList(new ArrayList<>());
+
+        static final RangeListener RANGE_LISTENER = (rangeName, firstIndex, lastIndex, elapsedNanos) -> RANGE_NAMES.add(rangeName);
+
+        static final AtomicReference<MockCoach> LISTENED_COACH = new AtomicReference<>();
+
+        private static final MockCoach staticCoach = new MockCoach.Builder()
+                .add(new Object(), NO_WHEN, NO_VERIFY)
+                .build();
+
+        private final MockCoach listenedCoach = new MockCoach.Builder()
+                .add(new Object(), NO_WHEN, NO_VERIFY)
+                .withRangeListener(RANGE_LISTENER)
+                .build();
+
+        @Test
+        void placesOrder() {
+            LISTENED_COACH.set(listenedCoach);
+            listenedCoach.whenAll();
+            staticCoach.whenAll();
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private List<String> runSampleTests(Path reportPath) throws IOException {
+        return runSampleTests(SampleTest.class, reportPath, 2);
+    }
+
+    private List<String> runSampleTests(Class<?> sampleTestClass, Path reportPath, int testCount) throws IOException {
+        LauncherDiscoveryRequest discoveryRequest = request()
+                .selectors(selectClass(sampleTestClass))
+                .configurationParameter(SAMPLE_RUN_PARAMETER, "true")
+                .configurationParameter(MockCoachProfilerExtension.REPORT_PATH_PARAMETER, reportPath.toString())
+                .build();
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+
+        LauncherFactory.create().execute(discoveryRequest, summary);
+
+        assertEquals(testCount, summary.getSummary().getTestsSucceededCount());
+        return Files.readAllLines(reportPath, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void whenSuiteRuns_ThenWritesReportOfEveryChain() throws IOException {
+        List<String> report = runSampleTests(tempDir.resolve("reports/profile.txt"));
+
+        assertEquals(6, report.size());
+        assertTrue(report.get(0).startsWith("Mock Coach profile: 2 chains, 3 tests, "), report.get(0));
+
+        String chainLine = findLine(report, "SampleTest.mockCoach");
+        assertTrue(chainLine.endsWith("ranges=4 whens=2 verifies=4 noInteractions=0"), chainLine);
+        assertTrue(findLine(report, "SampleTest.placesOrder").contains("whenBefore(m3) "), report.toString());
+        assertTrue(findLine(report, "SampleTest.placesOrder").contains("verifyAll "), report.toString());
+        assertTrue(findLine(report, "Rejections.rejectsOrder  verifyThrough(m1)").contains("verifyThrough(m1) "), report.toString());
+        assertTrue(findLine(report, "Rejections.rejectionCoach").endsWith("ranges=1 whens=2 verifies=0 noInteractions=0"), report.toString());
+    }
+
+    @Test
+    void whenCoachUsedInBeforeEachAndAfterEach_ThenProfilesThoseCalls() throws IOException {
+        List<String> report = runSampleTests(LifecycleSampleTest.class, tempDir.resolve("profile.txt"), 1);
+
+        assertTrue(findLine(report, "LifecycleSampleTest.fieldCoach").endsWith("ranges=2 whens=2 verifies=2 noInteractions=0"), report.toString());
+    }
+
+    @Test
+    void whenCoachAssignedInBeforeEach_ThenProfilesFromTestMethod() throws IOException {
+        List<String> report = runSampleTests(LifecycleSampleTest.class, tempDir.resolve("profile.txt"), 1);
+
+        assertTrue(findLine(report, "LifecycleSampleTest.beforeEachCoach").endsWith("ranges=1 whens=0 verifies=1 noInteractions=0"), report.toString());
+    }
+
+    @Test
+    void whenCoachHasRangeListener_ThenCallsItAndPutsItBack() throws IOException {
+        ListenerSampleTest.RANGE_NAMES.clear();
+
+        List<String> report = runSampleTests(ListenerSampleTest.class, tempDir.resolve("profile.txt"), 1);
+
+        assertTrue(findLine(report, "ListenerSampleTest.listenedCoach").endsWith("ranges=1 whens=1 verifies=0 noInteractions=0"), report.toString());
+        assertEquals(Collections.singletonList("whenAll"), ListenerSampleTest.RANGE_NAMES);
+        assertSame(ListenerSampleTest.RANGE_LISTENER, ListenerSampleTest.LISTENED_COACH.get().getRangeListener());
+    }
+
+    @Test
+    void whenStaticCoach_ThenNotProfiled() throws IOException {
+        List<String> report = runSampleTests(ListenerSampleTest.class, tempDir.resolve("profile.txt"), 1);
+
+        assertFalse(report.toString().contains("staticCoach"), report.toString());
+    }
+
+    @Test
+    void whenNotInSampleRun_ThenSampleTestsAreSkipped() {
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+
+        LauncherFactory.create().execute(request().selectors(selectClass(SampleTest.class)).build(), summary);
+
+        assertEquals(0, summary.getSummary().getTestsStartedCount());
+    }
+
+    private static String findLine(List<String> report, String text) {
+        for (String line : report) {
+            if (line.contains(text)) {
+                return line;
+            }
+        }
+        return fail("No line containing " + text + " in " + report);
+    }
+
+}
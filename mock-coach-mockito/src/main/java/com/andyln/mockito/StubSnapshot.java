@@ -0,0 +1,138 @@
+package com.andyln.mockito;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mockito;
+import org.mockito.internal.invocation.InvocationMatcher;
+import org.mockito.internal.stubbing.InvocationContainerImpl;
+import org.mockito.invocation.Invocation;
+import org.mockito.invocation.InvocationFactory;
+import org.mockito.invocation.MatchableInvocation;
+import org.mockito.invocation.MockHandler;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.Stubbing;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Stubbings of one mock, captured from Mockito, that can be restored onto any mock of the same type.
+ * <p>
+ * Uses Mockito internals, as Mockito has no public API to add a stubbing without calling the mock. Built against Mockito 3.3.3.
+ */
+final class StubSnapshot {
+
+    private static final Field ANSWERS_FIELD = answersField();
+
+    private static final InvocationFactory.RealMethodBehavior<Object> NO_REAL_METHOD = () -> null;
+
+    private final Class<?> mockType;
+
+    // Oldest stubbing first, the order they are restored in
+    private final List<StubEntry> entries;
+
+    private StubSnapshot(Class<?> mockType, List<StubEntry> entries) {
+        this.mockType = mockType;
+        this.entries = entries;
+    }
+
+    static int stubbingCount(Object mock) {
+        return Mockito.mockingDetails(mock).getStubbings().size();
+    }
+
+    static StubSnapshot capture(Object mock) {
+        Collection<Stubbing> stubbings = Mockito.mockingDetails(mock).getStubbings();
+
+        List<StubEntry> entries = new ArrayList<>(stubbings.size());
+        for (Stubbing stubbing : stubbings) {
+            Invocation invocation = stubbing.getInvocation();
+            List<ArgumentMatcher<?>> matchers = new ArrayList<>();
+            for (ArgumentMatcher<?> matcher : ((MatchableInvocation) stubbing).getMatchers()) {
+                matchers.add(matcher);
+            }
+
+            entries.add(new StubEntry(
+                    invocation.getMethod(),
+                    invocation.getRawArguments(),
+                    matchers,
+                    answersOf(stubbing),
+                    stubbing.getStrictness()
+            ));
+        }
+
+        return new StubSnapshot(typeToMock(mock), entries);
+    }
+
+    boolean isFor(Object mock) {
+        return mockType == typeToMock(mock);
+    }
+
+    void restoreTo(Object mock) {
+        MockHandler<?> handler = Mockito.mockingDetails(mock).getMockHandler();
+        InvocationContainerImpl invocationContainer = (InvocationContainerImpl) handler.getInvocationContainer();
+        InvocationFactory invocationFactory = Mockito.framework().getInvocationFactory();
+
+        for (StubEntry entry : entries) {
+            Invocation invocation = invocationFactory.createInvocation(mock, handler.getMockSettings(), entry.method, NO_REAL_METHOD, entry.rawArguments);
+
+            // Same calls Mockito makes for "when(...).thenAnswer(...)", without calling the mock
+            // InvocationMatcher takes a List of raw ArgumentMatcher, which a read only view of entry.matchers is
+            invocationContainer.setInvocationForPotentialStubbing(new InvocationMatcher(invocation, Collections.unmodifiableList(entry.matchers)));
+            invocationContainer.addAnswer(entry.answers.get(0), entry.strictness);
+            for (int i = 1; i < entry.answers.size(); i++) {
+                invocationContainer.addConsecutiveAnswer(entry.answers.get(i));
+            }
+        }
+    }
+
+    private static Class<?> typeToMock(Object mock) {
+        return Mockito.mockingDetails(mock).getMockCreationSettings().getTypeToMock();
+    }
+
+    /**
+     * Consecutive answers are consumed as the mock is called, so they are copied when captured, before any test calls the mock.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Answer<?>> answersOf(Stubbing stubbing) {
+        try {
+            Queue<Answer<?>> answers = (Queue<Answer<?>>) ANSWERS_FIELD.get(stubbing);
+            synchronized (answers) {
+                return new ArrayList<>(answers);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read answers of Mockito stubbing!", e);
+        }
+    }
+
+    private static Field answersField() {
+        try {
+            Field answersField = Class.forName("org.mockito.internal.stubbing.StubbedInvocationMatcher").getDeclaredField("answers");
+            answersField.setAccessible(true);
+            return answersField;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unsupported version of Mockito! Mock Coach Mockito is built against Mockito 3.3.3", e);
+        }
+    }
+
+    private static final class StubEntry {
+
+        final Method method;
+        final Object[] rawArguments;
+        final List<ArgumentMatcher<?>> matchers;
+        final List<Answer<?>> answers;
+        final Strictness strictness;
+
+        StubEntry(Method method, Object[] rawArguments, List<ArgumentMatcher<?>> matchers, List<Answer<?>> answers, Strictness strictness) {
+            this.method = method;
+            this.rawArguments = rawArguments;
+            this.matchers = matchers;
+            this.answers = answers;
+            this.strictness = strictness;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.andyln.mockito;
+
+import com.andyln.WhenLambda;
+import org.mockito.Mockito;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Snapshots of the Mockito stubbings made by when lambdas, restored in later tests in place of replaying the lambdas.
+ * <p>
+ * Example:
+ * <pre>
+ * private static final StubSnapshots SNAPSHOTS = new StubSnapshots();
+ *
+ * MockCoach mockCoach = new MockCoach.Builder()
+ *         .add(userService, SNAPSHOTS.of("userService.find", userService, () -&gt; when(userService.find(anyLong())).thenReturn(USER)), v1)
+ *         .build();
+ * </pre>
+ * The first time a when lambda runs, it runs as usual, and the stubbings it made on its mock are captured. Every later time,
+ * even on a new mock of the same type in a later test, the captured stubbings are restored onto the mock without running the lambda.
+ * <p>
+ * A snapshot is invalidated when a test adds stubs of its own to the mock before its when lambda runs: the lambda is replayed,
+ * and captured again in a later test.
+ * <p>
+ * A snapshot is found by the key passed in with its when lambda, not by the lambda itself: a lambda capturing fields of the test
+ * instance is a new object in every test, and can stub different objects each time. So a key must only be used for when lambdas
+ * that stub its mock, and only its mock, with the same values every time they run. Example: a lambda stubbing a fixture
+ * created in "&#64;BeforeEach" must not be snapshotted, as later tests would get the fixture of the first test.
+ */
+public final class StubSnapshots {
+
+    private final ConcurrentMap<String, StubSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a when lambda that restores the snapshot of key onto mock, or runs whenLambda and captures it as the snapshot of key.
+     *
+     * @param key        Key of snapshot, stubbing the same values every time. Example: "userService.find"
+     * @param mock       Mockito mock stubbed by whenLambda
+     * @param whenLambda When lambda stubbing mock
+     * @return WhenLambda
+     * @throws IllegalArgumentException Calling with a key or whenLambda that is null, or a mock that is not a Mockito mock.
+     */
+    public WhenLambda of(String key, Object mock, WhenLambda whenLambda) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null!");
+        }
+
+        if (whenLambda == null) {
+            throw new IllegalArgumentException("whenLambda cannot be null!");
+        }
+
+        if (mock == null || !Mockito.mockingDetails(mock).isMock()) {
+            throw new IllegalArgumentException("mock must be a Mockito mock!");
+        }
+
+        return () -> run(key, mock, whenLambda);
+    }
+
+    /**
+     * Returns number of captured snapshots.
+     *
+     * @return Number of snapshots
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * Removes every snapshot, so each when lambda runs, and is captured, again.
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    private void run(String key, Object mock, WhenLambda whenLambda) throws Exception {
+        if (StubSnapshot.stubbingCount(mock) != 0) {
+            snapshots.remove(key);
+            whenLambda.run();
+            return;
+        }
+
+        StubSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.isFor(mock)) {
+            snapshot.restoreTo(mock);
+            return;
+        }
+
+        whenLambda.run();
+        snapshots.put(key, StubSnapshot.capture(mock));
+    }
+}
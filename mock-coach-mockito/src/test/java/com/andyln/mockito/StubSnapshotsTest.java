@@ -0,0 +1,184 @@
+package com.andyln.mockito;
+
+import com.andyln.MockCoach;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StubSnapshotsTest {
+
+    interface Repository {
+        String find(long id);
+
+        String findByName(String name);
+    }
+
+    private final StubSnapshots snapshots = new StubSnapshots();
+
+    private final AtomicInteger lambdaRuns = new AtomicInteger();
+
+    private WhenLambda stubFind(Repository repository) {
+        return snapshots.of("repository.find", repository, () -> {
+            lambdaRuns.incrementAndGet();
+            when(repository.find(anyLong())).thenReturn("first", "second");
+            when(repository.findByName(eq("missing"))).thenThrow(new IllegalStateException("missing"));
+        });
+    }
+
+    private WhenLambda stubFindByName(String key, Repository repository, String user) {
+        return snapshots.of(key, repository, () -> {
+            lambdaRuns.incrementAndGet();
+            when(repository.findByName(anyString())).thenReturn(user);
+        });
+    }
+
+    @Nested
+    class Run {
+
+        @Test
+        void whenFirstRun_ThenRunLambdaAndCaptureSnapshot() throws Exception {
+            Repository repository = mock(Repository.class);
+
+            stubFind(repository).run();
+
+            assertEquals(1, lambdaRuns.get());
+            assertEquals(1, snapshots.size());
+            assertEquals("first", repository.find(1L));
+        }
+
+        @Test
+        void whenLaterRunOnNewMock_ThenRestoreSnapshotWithoutRunningLambda() throws Exception {
+            stubFind(mock(Repository.class)).run();
+            Repository repository = mock(Repository.class);
+
+            stubFind(repository).run();
+
+            assertEquals(1, lambdaRuns.get());
+            assertEquals("first", repository.find(7L));
+            assertEquals("second", repository.find(8L));
+            assertEquals("second", repository.find(9L));
+            assertNull(repository.findByName("other"));
+            IllegalStateException actualException = assertThrows(IllegalStateException.class, () -> repository.findByName("missing"));
+            assertEquals("missing", actualException.getMessage());
+        }
+
+        @Test
+        void whenConsecutiveAnswersConsumedOnCapturedMock_ThenRestoreAllAnswers() throws Exception {
+            Repository capturedRepository = mock(Repository.class);
+            stubFind(capturedRepository).run();
+            capturedRepository.find(1L);
+            capturedRepository.find(2L);
+            Repository repository = mock(Repository.class);
+
+            stubFind(repository).run();
+
+            assertEquals("first", repository.find(1L));
+        }
+
+        @Test
+        void whenRestored_ThenMockHasNoInteractions() throws Exception {
+            stubFind(mock(Repository.class)).run();
+            Repository repository = mock(Repository.class);
+
+            stubFind(repository).run();
+
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        void whenTestAddsOwnStubs_ThenInvalidateSnapshotAndRunLambda() throws Exception {
+            stubFind(mock(Repository.class)).run();
+            Repository repository = mock(Repository.class);
+            when(repository.findByName("own")).thenReturn("stub of test");
+
+            stubFind(repository).run();
+
+            assertEquals(2, lambdaRuns.get());
+            assertEquals(0, snapshots.size());
+            assertEquals("stub of test", repository.findByName("own"));
+            assertEquals("first", repository.find(1L));
+        }
+
+        @Test
+        void whenSameLambdaExpressionWithDifferentKeys_ThenKeepSeparateSnapshots() throws Exception {
+            stubFindByName("repository.findByName.first", mock(Repository.class), "first user").run();
+            Repository repository = mock(Repository.class);
+
+            stubFindByName("repository.findByName.second", repository, "second user").run();
+
+            assertEquals(2, lambdaRuns.get());
+            assertEquals(2, snapshots.size());
+            assertEquals("second user", repository.findByName("name"));
+        }
+
+        @Test
+        void whenClear_ThenRunLambdaAgain() throws Exception {
+            stubFind(mock(Repository.class)).run();
+
+            snapshots.clear();
+            stubFind(mock(Repository.class)).run();
+
+            assertEquals(2, lambdaRuns.get());
+        }
+
+        @Test
+        void whenInMockCoach_ThenRestoreOnEveryLaterChain() throws Exception {
+            VerifyLambda verifyLambda = () -> {};
+            for (int test = 0; test < 3; test++) {
+                Repository repository = mock(Repository.class);
+                MockCoach mockCoach = new MockCoach.Builder()
+                        .add(repository, stubFind(repository), verifyLambda)
+                        .build();
+
+                mockCoach.whenAll();
+
+                assertEquals("first", repository.find(1L));
+            }
+
+            assertEquals(1, lambdaRuns.get());
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void whenNotMock_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> snapshots.of("key", new Object(), () -> {})
+            );
+
+            assertEquals("mock must be a Mockito mock!", actualException.getMessage());
+        }
+
+        @Test
+        void whenWhenLambdaIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> snapshots.of("key", mock(Repository.class), null)
+            );
+
+            assertEquals("whenLambda cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void whenKeyIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> snapshots.of(null, mock(Repository.class), () -> {})
+            );
+
+            assertEquals("key cannot be null!", actualException.getMessage());
+        }
+    }
+}
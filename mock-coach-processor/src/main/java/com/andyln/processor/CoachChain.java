@@ -0,0 +1,34 @@
+package com.andyln.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a chain of mocks, from which CoachChainProcessor generates a specialized coach class at compile time.
+ * <p>
+ * Annotate an interface. Each abstract method, in declaration order, is one mock of the chain: its name names the mock,
+ * and its return type is the type of the mock.
+ * <p>
+ * Example:
+ * <pre>
+ * &#64;CoachChain("OrderCoach")
+ * interface OrderChain {
+ *     UserService userService();
+ *     OrderRepository orderRepository();
+ * }
+ * </pre>
+ * generates OrderCoach, with a constructor "OrderCoach(UserService m1, WhenLambda w1, VerifyLambda v1, OrderRepository m2, ...)",
+ * and methods such as "whenBeforeOrderRepository()", "verifyThroughUserService()" and "verifyTheRest()".
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CoachChain {
+
+    /**
+     * Simple name of generated class. Defaults to name of annotated interface, followed by "Coach".
+     */
+    String value() default "";
+
+}
@@ -0,0 +1,481 @@
+package com.andyln.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a specialized coach class for each interface annotated with CoachChain.
+ * <p>
+ * Everything MockCoach resolves at construction or on each call is resolved here, at compile time:
+ * <ul>
+ *     <li>Mocks are selected by method name (for example "whenBeforeOrderRepository()"), so there is no mock lookup at runtime.</li>
+ *     <li>Each range method is unrolled into straight line calls of its lambdas, with constant exception messages.</li>
+ *     <li>whenTheRest()/verifyTheRest()/verifyNoInteractionsTheRest() are a single switch, falling through the remaining lambdas.</li>
+ *     <li>whenTheRestAfter/verifyTheRestAfter/verifyNoInteractionsTheRestAfter are not generated for the last mock, instead of throwing when called with it.</li>
+ *     <li>Mock types that MockCoach rejects (primitives, Integer, Character, String and Enum) are compile errors.</li>
+ *     <li>Mocks are only compared with each other when their declared types could be the same object.</li>
+ * </ul>
+ * Generated classes only support path graph chains.
+ */
+@SupportedAnnotationTypes("com.andyln.processor.CoachChain")
+public class CoachChainProcessor extends AbstractProcessor {
+
+    /**
+     * Mock of a chain, as declared by an abstract method of the annotated interface.
+     */
+    private static final class ChainMock {
+
+        final String name;
+        final TypeMirror type;
+
+        ChainMock(String name, TypeMirror type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        String capitalizedName() {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(CoachChain.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@CoachChain can only be used on an interface!");
+                continue;
+            }
+
+            TypeElement chainInterface = (TypeElement) element;
+            if (!chainInterface.getTypeParameters().isEmpty()) {
+                error(element, "@CoachChain interface cannot have type parameters!");
+                continue;
+            }
+
+            List<ChainMock> chainMocks = chainMocks(chainInterface);
+            if (chainMocks == null) {
+                continue;
+            }
+
+            String coachName = chainInterface.getAnnotation(CoachChain.class).value();
+            if (coachName.isEmpty()) {
+                coachName = chainInterface.getSimpleName() + "Coach";
+            }
+
+            PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(chainInterface);
+            String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+            String qualifiedCoachName = packageName.isEmpty() ? coachName : packageName + "." + coachName;
+
+            try {
+                JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedCoachName, chainInterface);
+                try (Writer writer = sourceFile.openWriter()) {
+                    writer.write(generate(packageName, coachName, chainInterface, chainMocks));
+                }
+            } catch (IOException e) {
+                error(element, "Unable to write " + qualifiedCoachName + ": " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns mocks declared by chainInterface in declaration order, or null if a compile error was reported.
+     */
+    private List<ChainMock> chainMocks(TypeElement chainInterface) {
+        List<ChainMock> chainMocks = new ArrayList<>();
+        boolean isValid = true;
+
+        for (Element enclosed : chainInterface.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.METHOD || !enclosed.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+
+            ExecutableElement method = (ExecutableElement) enclosed;
+            int mockNumber = chainMocks.size() + 1;
+
+            if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()) {
+                error(method, String.format("m%d cannot have parameters or type parameters!", mockNumber));
+                isValid = false;
+            }
+
+            String rejectedType = rejectedType(method.getReturnType());
+            if (rejectedType != null) {
+                error(method, String.format("m%d cannot be %s! Please use MockCoachLegacy for %s support.", mockNumber, rejectedType, rejectedType));
+                isValid = false;
+            }
+
+            chainMocks.add(new ChainMock(method.getSimpleName().toString(), method.getReturnType()));
+        }
+
+        if (chainMocks.isEmpty()) {
+            error(chainInterface, "@CoachChain interface must declare at least one mock!");
+            return null;
+        }
+        return isValid ? chainMocks : null;
+    }
+
+    /**
+     * Returns name of type, if MockCoach does not accept mocks of type, or null otherwise.
+     */
+    private String rejectedType(TypeMirror type) {
+        if (type.getKind() == TypeKind.VOID) {
+            return "void";
+        }
+        if (type.getKind().isPrimitive()) {
+            return type.toString();
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (typeElement.getKind() == ElementKind.ENUM) {
+            return "Enum";
+        }
+        switch (typeElement.getQualifiedName().toString()) {
+            case "java.lang.Integer":
+                return "Integer";
+            case "java.lang.Character":
+                return "Character";
+            case "java.lang.String":
+                return "String";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns true if a mock of type a could be the same object as a mock of type b.
+     */
+    private boolean canBeSameMock(TypeMirror a, TypeMirror b) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erasedA = types.erasure(a);
+        TypeMirror erasedB = types.erasure(b);
+        if (types.isAssignable(erasedA, erasedB) || types.isAssignable(erasedB, erasedA)) {
+            return true;
+        }
+
+        // Two unrelated classes cannot share an instance, but any non final class can implement an interface
+        return isInterface(erasedA) || isInterface(erasedB);
+    }
+
+    private boolean isInterface(TypeMirror type) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        return element != null && element.getKind() == ElementKind.INTERFACE;
+    }
+
+    private String generate(String packageName, String coachName, TypeElement chainInterface, List<ChainMock> chainMocks) {
+        int length = chainMocks.size();
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.andyln.NoInteractionLambda;\n");
+        source.append("import com.andyln.VerifyLambda;\n");
+        source.append("import com.andyln.WhenLambda;\n\n");
+
+        source.append("/**\n");
+        source.append(" * Coach of chain ").append(chainInterface.getQualifiedName()).append(", generated by CoachChainProcessor. Do not edit.\n");
+        source.append(" */\n");
+        source.append("public final class ").append(coachName).append(" {\n\n");
+
+        for (int i = 1; i <= length; i++) {
+            source.append("    private final ").append(chainMocks.get(i - 1).type).append(" m").append(i).append(";\n");
+            source.append("    private final WhenLambda w").append(i).append(";\n");
+            source.append("    private final VerifyLambda v").append(i).append(";\n\n");
+        }
+        source.append("    private boolean canCallWhenTheRest;\n");
+        source.append("    private boolean canCallVerifyTheRest;\n");
+        source.append("    private int lastSuccessfulMockIndex;\n");
+        source.append("    private NoInteractionLambda verifyNoInteractionLambda;\n\n");
+
+        appendConstructor(source, coachName, chainMocks);
+
+        source.append("    /**\n");
+        source.append("     * Allows usage of verifyNoInteractionsTheRest and verifyNoInteractionsTheRestAfter methods.\n");
+        source.append("     */\n");
+        source.append("    public ").append(coachName).append(" putVerifyNoInteractions(NoInteractionLambda verifyNoInteractionLambda) {\n");
+        source.append("        this.verifyNoInteractionLambda = verifyNoInteractionLambda;\n");
+        source.append("        return this;\n");
+        source.append("    }\n\n");
+
+        for (int i = 1; i <= length; i++) {
+            String name = chainMocks.get(i - 1).capitalizedName();
+
+            source.append("    /**\n");
+            source.append("     * Runs when lambdas before, but not including, ").append(chainMocks.get(i - 1).name).append(".\n");
+            source.append("     */\n");
+            source.append("    public void whenBefore").append(name).append("() {\n");
+            appendWhens(source, 1, i - 1);
+            source.append("\n        canCallWhenTheRest = true;\n");
+            source.append("        lastSuccessfulMockIndex = ").append(i - 1).append(";\n");
+            source.append("    }\n\n");
+        }
+
+        source.append("    /**\n");
+        source.append("     * Runs all whens.\n");
+        source.append("     */\n");
+        source.append("    public void whenAll() {\n");
+        appendWhens(source, 1, length);
+        source.append("    }\n\n");
+
+        source.append("    /**\n");
+        source.append("     * Runs when lambdas after, but not including, mock used in previous method.\n");
+        source.append("     */\n");
+        source.append("    public void whenTheRest() {\n");
+        source.append("        if (!canCallWhenTheRest) {\n");
+        source.append("            throw new IllegalStateException(\"Cannot call whenTheRest()! Must be called only after a whenBefore method\");\n");
+        source.append("        }\n\n");
+        appendTheRest(source, length, "runWhen", "w", "Please check your whens.");
+        source.append("\n        canCallWhenTheRest = false;\n");
+        source.append("    }\n\n");
+
+        for (int i = 1; i < length; i++) {
+            String methodName = "whenTheRestAfter" + chainMocks.get(i - 1).capitalizedName();
+
+            source.append("    /**\n");
+            source.append("     * Runs when lambdas after, but not including, ").append(chainMocks.get(i - 1).name).append(".\n");
+            source.append("     */\n");
+            source.append("    public void ").append(methodName).append("() {\n");
+            source.append("        if (!canCallWhenTheRest) {\n");
+            source.append("            throw new IllegalStateException(\"Cannot call ").append(methodName).append("()! Must be called only after a whenBefore method\");\n");
+            source.append("        }\n");
+            appendAfterPreviousMockCheck(source, methodName, i);
+            appendWhens(source, i + 1, length);
+            source.append("    }\n\n");
+        }
+
+        for (int i = 1; i <= length; i++) {
+            String name = chainMocks.get(i - 1).capitalizedName();
+
+            source.append("    /**\n");
+            source.append("     * Runs verify lambdas before, but not including, ").append(chainMocks.get(i - 1).name).append(".\n");
+            source.append("     */\n");
+            source.append("    public void verifyBefore").append(name).append("() {\n");
+            appendVerifies(source, 1, i - 1);
+            source.append("\n        canCallVerifyTheRest = true;\n");
+            source.append("        lastSuccessfulMockIndex = ").append(i - 1).append(";\n");
+            source.append("    }\n\n");
+
+            source.append("    /**\n");
+            source.append("     * Runs verify lambdas up to and including ").append(chainMocks.get(i - 1).name).append(".\n");
+            source.append("     */\n");
+            source.append("    public void verifyThrough").append(name).append("() {\n");
+            appendVerifies(source, 1, i);
+            source.append("\n        canCallVerifyTheRest = true;\n");
+            source.append("        lastSuccessfulMockIndex = ").append(i - 1).append(";\n");
+            source.append("    }\n\n");
+        }
+
+        source.append("    /**\n");
+        source.append("     * Runs all verifies.\n");
+        source.append("     */\n");
+        source.append("    public void verifyAll() {\n");
+        appendVerifies(source, 1, length);
+        source.append("    }\n\n");
+
+        source.append("    /**\n");
+        source.append("     * Runs verify lambdas after, but not including, mock used in previous method.\n");
+        source.append("     */\n");
+        source.append("    public void verifyTheRest() {\n");
+        source.append("        if (!canCallVerifyTheRest) {\n");
+        source.append("            throw new IllegalStateException(\"Cannot call verifyTheRest()! Must be called only after a verifyBefore or verifyThrough method\");\n");
+        source.append("        }\n\n");
+        appendTheRest(source, length, "runVerify", "v", "Please check your verifies.");
+        source.append("\n        canCallVerifyTheRest = false;\n");
+        source.append("    }\n\n");
+
+        for (int i = 1; i < length; i++) {
+            String methodName = "verifyTheRestAfter" + chainMocks.get(i - 1).capitalizedName();
+
+            source.append("    /**\n");
+            source.append("     * Runs verify lambdas after, but not including, ").append(chainMocks.get(i - 1).name).append(".\n");
+            source.append("     */\n");
+            source.append("    public void ").append(methodName).append("() {\n");
+            appendCanCallVerifyTheRestCheck(source, methodName);
+            appendAfterPreviousMockCheck(source, methodName, i);
+            appendVerifies(source, i + 1, length);
+            source.append("    }\n\n");
+        }
+
+        source.append("    /**\n");
+        source.append("     * Runs no interaction lambda after, but not including, mock used in previous method.\n");
+        source.append("     */\n");
+        source.append("    public void verifyNoInteractionsTheRest() {\n");
+        appendNoInteractionLambdaCheck(source);
+        appendCanCallVerifyTheRestCheck(source, "verifyNoInteractionsTheRest");
+        source.append("\n");
+        appendTheRest(source, length, "runNoInteraction", "m", "Please check your mocks and verification lambda.");
+        source.append("\n        canCallVerifyTheRest = false;\n");
+        source.append("    }\n\n");
+
+        for (int i = 1; i < length; i++) {
+            String methodName = "verifyNoInteractionsTheRestAfter" + chainMocks.get(i - 1).capitalizedName();
+
+            source.append("    /**\n");
+            source.append("     * Runs no interaction lambda after, but not including, ").append(chainMocks.get(i - 1).name).append(".\n");
+            source.append("     */\n");
+            source.append("    public void ").append(methodName).append("() {\n");
+            appendNoInteractionLambdaCheck(source);
+            appendCanCallVerifyTheRestCheck(source, methodName);
+            appendAfterPreviousMockCheck(source, methodName, i);
+            for (int j = i + 1; j <= length; j++) {
+                source.append("        runNoInteraction(m").append(j).append(", \"m").append(j).append(" throws an exception! Please check your mocks and verification lambda.\");\n");
+            }
+            source.append("    }\n\n");
+        }
+
+        source.append("    private static void runWhen(WhenLambda whenLambda, String failureMessage) {\n");
+        source.append("        try {\n");
+        source.append("            whenLambda.run();\n");
+        source.append("        } catch (Exception e) {\n");
+        source.append("            throw new RuntimeException(failureMessage, e);\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+
+        source.append("    private static void runVerify(VerifyLambda verifyLambda, String failureMessage) {\n");
+        source.append("        try {\n");
+        source.append("            verifyLambda.run();\n");
+        source.append("        } catch (Exception e) {\n");
+        source.append("            throw new RuntimeException(failureMessage, e);\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+
+        source.append("    private void runNoInteraction(Object mock, String failureMessage) {\n");
+        source.append("        try {\n");
+        source.append("            verifyNoInteractionLambda.run(mock);\n");
+        source.append("        } catch (Exception e) {\n");
+        source.append("            throw new RuntimeException(failureMessage, e);\n");
+        source.append("        }\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        return source.toString();
+    }
+
+    private void appendConstructor(StringBuilder source, String coachName, List<ChainMock> chainMocks) {
+        int length = chainMocks.size();
+
+        source.append("    public ").append(coachName).append("(");
+        for (int i = 1; i <= length; i++) {
+            if (i > 1) {
+                source.append(", ");
+            }
+            source.append(chainMocks.get(i - 1).type).append(" m").append(i)
+                    .append(", WhenLambda w").append(i)
+                    .append(", VerifyLambda v").append(i);
+        }
+        source.append(") {\n");
+
+        for (int i = 1; i <= length; i++) {
+            source.append("        if (m").append(i).append(" == null) {\n");
+            source.append("            throw new IllegalArgumentException(\"m").append(i).append(" cannot be null!\");\n");
+            source.append("        }\n");
+            source.append("        if (w").append(i).append(" == null || v").append(i).append(" == null) {\n");
+            source.append("            throw new IllegalArgumentException(\"w").append(i).append("/v").append(i).append(" cannot be null!\");\n");
+            source.append("        }\n");
+
+            for (int previous = 1; previous < i; previous++) {
+                if (!canBeSameMock(chainMocks.get(previous - 1).type, chainMocks.get(i - 1).type)) {
+                    continue;
+                }
+                source.append("        if ((Object) m").append(i).append(" == m").append(previous).append(") {\n");
+                source.append("            throw new IllegalArgumentException(\"m").append(i).append(" cannot be the same as a previous mock in mocks!\");\n");
+                source.append("        }\n");
+            }
+        }
+        source.append("\n");
+
+        for (int i = 1; i <= length; i++) {
+            source.append("        this.m").append(i).append(" = m").append(i).append(";\n");
+            source.append("        this.w").append(i).append(" = w").append(i).append(";\n");
+            source.append("        this.v").append(i).append(" = v").append(i).append(";\n");
+        }
+        source.append("    }\n\n");
+    }
+
+    /**
+     * Appends calls of when lambdas from number first to number last, both inclusive and one-based.
+     */
+    private static void appendWhens(StringBuilder source, int first, int last) {
+        for (int i = first; i <= last; i++) {
+            source.append("        runWhen(w").append(i).append(", \"w").append(i).append(" throws an exception! Please check your whens.\");\n");
+        }
+    }
+
+    /**
+     * Appends calls of verify lambdas from number first to number last, both inclusive and one-based.
+     */
+    private static void appendVerifies(StringBuilder source, int first, int last) {
+        for (int i = first; i <= last; i++) {
+            source.append("        runVerify(v").append(i).append(", \"v").append(i).append(" throws an exception! Please check your verifies.\");\n");
+        }
+    }
+
+    private static void appendCanCallVerifyTheRestCheck(StringBuilder source, String methodName) {
+        source.append("        if (!canCallVerifyTheRest) {\n");
+        source.append("            throw new IllegalStateException(\"Cannot call ").append(methodName).append("()! Must be called only after a verifyBefore or verifyThrough method\");\n");
+        source.append("        }\n");
+    }
+
+    private static void appendNoInteractionLambdaCheck(StringBuilder source) {
+        source.append("        if (verifyNoInteractionLambda == null) {\n");
+        source.append("            throw new IllegalStateException(\"Must putVerifyNoInteractions(Lambda). Example: 'coach.putVerifyNoInteractions(mock -> verifyNoMoreInteractions(mock));'\");\n");
+        source.append("        }\n");
+    }
+
+    /**
+     * Appends a check that mock number is not before the mock used in previous method, followed by a blank line.
+     */
+    private static void appendAfterPreviousMockCheck(StringBuilder source, String methodName, int number) {
+        source.append("        if (lastSuccessfulMockIndex > ").append(number - 1).append(") {\n");
+        source.append("            throw new IllegalArgumentException(\"Cannot call ").append(methodName)
+                .append("() for a mock located before previously used mock! Make sure correct method is being called\");\n");
+        source.append("        }\n\n");
+    }
+
+    /**
+     * Appends a switch on lastSuccessfulMockIndex, where each case falls through to the lambdas after that mock.
+     */
+    private static void appendTheRest(StringBuilder source, int length, String runMethod, String prefix, String advice) {
+        source.append("        switch (lastSuccessfulMockIndex) {\n");
+        for (int index = 0; index < length - 1; index++) {
+            int number = index + 2;
+            source.append("            case ").append(index).append(":\n");
+            source.append("                ").append(runMethod).append("(").append(prefix).append(number).append(", \"")
+                    .append(prefix).append(number).append(" throws an exception! ").append(advice).append("\");\n");
+        }
+        source.append("            default:\n");
+        source.append("                break;\n");
+        source.append("        }\n");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,367 @@
+package com.andyln.processor;
+
+import com.andyln.NoInteractionLambda;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoachChainProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Result of compiling sources with CoachChainProcessor.
+     */
+    private static final class Compilation {
+
+        final boolean success;
+        final List<String> errors;
+        final ClassLoader classLoader;
+
+        Compilation(boolean success, List<String> errors, ClassLoader classLoader) {
+            this.success = success;
+            this.errors = errors;
+            this.classLoader = classLoader;
+        }
+    }
+
+    private Compilation compile(String fileName, String source) throws IOException {
+        Path sourceFile = tempDir.resolve(fileName);
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", classes.toString(),
+                    "-s", classes.toString()
+            );
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(sourceFile.toFile()));
+            task.setProcessors(Collections.singletonList(new CoachChainProcessor()));
+            boolean success = task.call();
+
+            List<String> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                }
+            }
+
+            ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+            return new Compilation(success, errors, classLoader);
+        }
+    }
+
+    private static final String ORDER_CHAIN = "package example;\n"
+            + "import com.andyln.processor.CoachChain;\n"
+            + "@CoachChain(\"OrderCoach\")\n"
+            + "public interface OrderChain {\n"
+            + "    Runnable userService();\n"
+            + "    Runnable orderRepository();\n"
+            + "    Runnable emailService();\n"
+            + "}\n";
+
+    private final List<String> calls = new ArrayList<>();
+
+    private WhenLambda when(String name) {
+        return () -> calls.add(name);
+    }
+
+    private VerifyLambda verify(String name) {
+        return () -> calls.add(name);
+    }
+
+    private Object newOrderCoach(Compilation compilation, Runnable m1, Runnable m2, Runnable m3) throws Exception {
+        assertTrue(compilation.success, compilation.errors.toString());
+
+        Class<?> coachClass = compilation.classLoader.loadClass("example.OrderCoach");
+        Constructor<?> constructor = coachClass.getConstructor(
+                Runnable.class, WhenLambda.class, VerifyLambda.class,
+                Runnable.class, WhenLambda.class, VerifyLambda.class,
+                Runnable.class, WhenLambda.class, VerifyLambda.class
+        );
+        try {
+            return constructor.newInstance(
+                    m1, when("w1"), verify("v1"),
+                    m2, when("w2"), verify("v2"),
+                    m3, when("w3"), verify("v3")
+            );
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static void call(Object coach, String methodName) throws Exception {
+        try {
+            coach.getClass().getMethod(methodName).invoke(coach);
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static void putVerifyNoInteractions(Object coach, NoInteractionLambda verifyNoInteractionLambda) throws Exception {
+        coach.getClass().getMethod("putVerifyNoInteractions", NoInteractionLambda.class).invoke(coach, verifyNoInteractionLambda);
+    }
+
+    @Nested
+    class GeneratedCoach {
+
+        private final Runnable mock1 = () -> {};
+        private final Runnable mock2 = () -> {};
+        private final Runnable mock3 = () -> {};
+
+        @Test
+        void whenBeforeThenTheRest_success() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+
+            call(coach, "whenBeforeOrderRepository");
+            assertEquals(Collections.singletonList("w1"), calls);
+
+            call(coach, "whenTheRest");
+            assertEquals(Arrays.asList("w1", "w3"), calls);
+        }
+
+        @Test
+        void verifyThroughThenTheRest_success() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+
+            call(coach, "verifyThroughUserService");
+            call(coach, "verifyTheRest");
+
+            assertEquals(Arrays.asList("v1", "v2", "v3"), calls);
+        }
+
+        @Test
+        void whenAllAndVerifyAll_success() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+
+            call(coach, "whenAll");
+            call(coach, "verifyAll");
+
+            assertEquals(Arrays.asList("w1", "w2", "w3", "v1", "v2", "v3"), calls);
+        }
+
+        @Test
+        void whenBeforeThenTheRestAfter_success() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+
+            call(coach, "whenBeforeOrderRepository");
+            call(coach, "whenTheRestAfterOrderRepository");
+
+            assertEquals(Arrays.asList("w1", "w3"), calls);
+        }
+
+        @Test
+        void verifyThroughThenTheRestAfter_success() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+
+            call(coach, "verifyThroughUserService");
+            call(coach, "verifyTheRestAfterOrderRepository");
+
+            assertEquals(Arrays.asList("v1", "v3"), calls);
+        }
+
+        @Test
+        void whenTheRestAfterMockBeforePreviousMock_ThenThrowIllegalArgumentException() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+            call(coach, "whenBeforeOrderRepository");
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> call(coach, "whenTheRestAfterUserService")
+            );
+
+            assertEquals("Cannot call whenTheRestAfterUserService() for a mock located before previously used mock! Make sure correct method is being called", actualException.getMessage());
+        }
+
+        @Test
+        void theRestAfterLastMock_isNotGenerated() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+
+            assertThrows(NoSuchMethodException.class, () -> coach.getClass().getMethod("whenTheRestAfterEmailService"));
+            assertThrows(NoSuchMethodException.class, () -> coach.getClass().getMethod("verifyTheRestAfterEmailService"));
+            assertThrows(NoSuchMethodException.class, () -> coach.getClass().getMethod("verifyNoInteractionsTheRestAfterEmailService"));
+        }
+
+        @Test
+        void verifyNoInteractionsTheRest_success() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+            List<Object> verifiedMocks = new ArrayList<>();
+            putVerifyNoInteractions(coach, verifiedMocks::add);
+
+            call(coach, "verifyBeforeOrderRepository");
+            call(coach, "verifyNoInteractionsTheRest");
+
+            assertEquals(Collections.singletonList("v1"), calls);
+            assertEquals(Collections.singletonList(mock3), verifiedMocks);
+        }
+
+        @Test
+        void verifyNoInteractionsTheRestAfter_success() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+            List<Object> verifiedMocks = new ArrayList<>();
+            putVerifyNoInteractions(coach, verifiedMocks::add);
+
+            call(coach, "verifyBeforeUserService");
+            call(coach, "verifyNoInteractionsTheRestAfterUserService");
+
+            assertEquals(Arrays.asList(mock2, mock3), verifiedMocks);
+        }
+
+        @Test
+        void verifyNoInteractionsTheRestWithoutLambda_ThenThrowIllegalStateException() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+            call(coach, "verifyBeforeUserService");
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    () -> call(coach, "verifyNoInteractionsTheRest")
+            );
+
+            assertEquals("Must putVerifyNoInteractions(Lambda). Example: 'coach.putVerifyNoInteractions(mock -> verifyNoMoreInteractions(mock));'", actualException.getMessage());
+        }
+
+        @Test
+        void whenNoInteractionLambdaThrowsException_ThenThrowRuntimeException() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+            putVerifyNoInteractions(coach, mock -> {
+                if (mock == mock3) {
+                    throw new Exception();
+                }
+            });
+            call(coach, "verifyBeforeUserService");
+
+            RuntimeException actualException = assertThrows(RuntimeException.class, () -> call(coach, "verifyNoInteractionsTheRest"));
+
+            assertEquals("m3 throws an exception! Please check your mocks and verification lambda.", actualException.getMessage());
+        }
+
+        @Test
+        void whenTheRestCalledFirst_ThenThrowIllegalStateException() throws Exception {
+            Object coach = newOrderCoach(compile("example/OrderChain.java", ORDER_CHAIN), mock1, mock2, mock3);
+
+            assertThrows(IllegalStateException.class, () -> call(coach, "whenTheRest"));
+        }
+
+        @Test
+        void whenMockIsNull_ThenThrowIllegalArgumentException() throws Exception {
+            Compilation compilation = compile("example/OrderChain.java", ORDER_CHAIN);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> newOrderCoach(compilation, mock1, null, mock3)
+            );
+
+            assertEquals("m2 cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void whenSameMockTwice_ThenThrowIllegalArgumentException() throws Exception {
+            Compilation compilation = compile("example/OrderChain.java", ORDER_CHAIN);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> newOrderCoach(compilation, mock1, mock2, mock1)
+            );
+
+            assertEquals("m3 cannot be the same as a previous mock in mocks!", actualException.getMessage());
+        }
+
+        @Test
+        void whenWhenThrowsException_ThenThrowRuntimeException() throws Exception {
+            Compilation compilation = compile("example/OrderChain.java", ORDER_CHAIN);
+            Class<?> coachClass = compilation.classLoader.loadClass("example.OrderCoach");
+            WhenLambda failingWhen = () -> {
+                throw new Exception();
+            };
+            Object coach = coachClass.getConstructors()[0].newInstance(
+                    mock1, when("w1"), verify("v1"),
+                    mock2, failingWhen, verify("v2"),
+                    mock3, when("w3"), verify("v3")
+            );
+
+            RuntimeException actualException = assertThrows(RuntimeException.class, () -> call(coach, "whenAll"));
+
+            assertEquals("w2 throws an exception! Please check your whens.", actualException.getMessage());
+            assertEquals(Collections.singletonList("w1"), calls);
+        }
+    }
+
+    @Nested
+    class CompileErrors {
+
+        @Test
+        void whenAnnotatedClass_ThenCompileError() throws Exception {
+            Compilation compilation = compile("example/NotInterface.java", "package example;\n"
+                    + "@com.andyln.processor.CoachChain\n"
+                    + "public class NotInterface {}\n");
+
+            assertFalse(compilation.success);
+            assertEquals(Collections.singletonList("@CoachChain can only be used on an interface!"), compilation.errors);
+        }
+
+        @Test
+        void whenNoMocks_ThenCompileError() throws Exception {
+            Compilation compilation = compile("example/EmptyChain.java", "package example;\n"
+                    + "@com.andyln.processor.CoachChain\n"
+                    + "public interface EmptyChain {}\n");
+
+            assertFalse(compilation.success);
+            assertEquals(Collections.singletonList("@CoachChain interface must declare at least one mock!"), compilation.errors);
+        }
+
+        @Test
+        void whenMockIsString_ThenCompileError() throws Exception {
+            Compilation compilation = compile("example/StringChain.java", "package example;\n"
+                    + "@com.andyln.processor.CoachChain\n"
+                    + "public interface StringChain {\n"
+                    + "    Runnable first();\n"
+                    + "    String second();\n"
+                    + "}\n");
+
+            assertFalse(compilation.success);
+            assertEquals(Collections.singletonList("m2 cannot be String! Please use MockCoachLegacy for String support."), compilation.errors);
+        }
+
+        @Test
+        void whenMockIsPrimitive_ThenCompileError() throws Exception {
+            Compilation compilation = compile("example/PrimitiveChain.java", "package example;\n"
+                    + "@com.andyln.processor.CoachChain\n"
+                    + "public interface PrimitiveChain {\n"
+                    + "    int first();\n"
+                    + "}\n");
+
+            assertFalse(compilation.success);
+            assertEquals(Collections.singletonList("m1 cannot be int! Please use MockCoachLegacy for int support."), compilation.errors);
+        }
+    }
+
+}
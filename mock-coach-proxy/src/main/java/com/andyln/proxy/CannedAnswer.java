@@ -0,0 +1,18 @@
+package com.andyln.proxy;
+
+/**
+ * Answer of a proxy mock method, set by a when lambda.
+ * <p>
+ * Example: "CannedAnswer answer = arguments -&gt; new User((long) arguments[0]);"
+ */
+@FunctionalInterface
+public interface CannedAnswer {
+
+    /**
+     * @param arguments Arguments of the call. Empty for methods without parameters
+     * @return Value returned by the proxy mock
+     * @throws Throwable Thrown by the proxy mock
+     */
+    Object answer(Object[] arguments) throws Throwable;
+
+}
@@ -0,0 +1,175 @@
+package com.andyln.proxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Method table of a mocked interface, computed once per interface and shared by all of its proxy mocks.
+ * <p>
+ * Each method has an id, its index in the table, so a proxy mock keeps its answers and call counts in arrays indexed by id.
+ * <p>
+ * Like java.lang.reflect.Proxy, methods with the same name, parameter types, and return type are one method, even when
+ * declared by unrelated superinterfaces: the first one returned by Class.getMethods() gets the id, and every duplicate maps to it.
+ */
+final class MockType {
+
+    private static final ClassValue<MockType> MOCK_TYPES = new ClassValue<MockType>() {
+        @Override
+        protected MockType computeValue(Class<?> type) {
+            return new MockType(type);
+        }
+    };
+
+    static final int NOT_FOUND = -1;
+
+    final Class<?> type;
+
+    final Method[] methods;
+
+    // Every declaration of each method, the first being methods[id]
+    private final Method[][] declarations;
+
+    // Value returned by a method without an answer: null, or zero/false for primitives
+    final Object[] defaultReturns;
+
+    private final Map<Method, Integer> methodIds;
+
+    // "find(long)" for every method, and "find" for methods with a name that is not overloaded
+    private final Map<String, Integer> methodIdsByName;
+
+    private MockType(Class<?> type) {
+        this.type = type;
+
+        this.methodIds = new HashMap<>();
+        Map<String, Integer> idsByDeclaration = new HashMap<>();
+        List<List<Method>> declarationsById = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+
+            Integer id = idsByDeclaration.putIfAbsent(signature(method) + method.getReturnType().getName(), declarationsById.size());
+            if (id == null) {
+                id = declarationsById.size();
+                declarationsById.add(new ArrayList<>());
+            }
+            declarationsById.get(id).add(method);
+            methodIds.put(method, id);
+        }
+
+        this.methods = new Method[declarationsById.size()];
+        this.declarations = new Method[declarationsById.size()][];
+        for (int id = 0; id < methods.length; id++) {
+            declarations[id] = declarationsById.get(id).toArray(new Method[0]);
+            methods[id] = declarations[id][0];
+        }
+
+        this.defaultReturns = new Object[methods.length];
+        this.methodIdsByName = new HashMap<>();
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (int id = 0; id < methods.length; id++) {
+            defaultReturns[id] = defaultReturn(methods[id].getReturnType());
+            methodIdsByName.put(signature(methods[id]), id);
+            nameCounts.merge(methods[id].getName(), 1, Integer::sum);
+        }
+        for (int id = 0; id < methods.length; id++) {
+            if (nameCounts.get(methods[id].getName()) == 1) {
+                methodIdsByName.put(methods[id].getName(), id);
+            }
+        }
+    }
+
+    static MockType of(Class<?> type) {
+        return MOCK_TYPES.get(type);
+    }
+
+    int idOf(Method method) {
+        Integer id = methodIds.get(method);
+        return id == null ? NOT_FOUND : id;
+    }
+
+    /**
+     * Returns id of method named methodName, either as "find", or as "find(long)" when find is overloaded.
+     *
+     * @throws IllegalArgumentException Type has no such method.
+     */
+    int idOf(String methodName) {
+        Integer id = methodIdsByName.get(methodName);
+
+        if (id == null) {
+            throw new IllegalArgumentException(String.format("%s has no method %s! Use \"name(ParameterType, ...)\" for overloaded methods", type.getSimpleName(), methodName));
+        }
+
+        return id;
+    }
+
+    /**
+     * Returns true if method can throw throwable: an unchecked exception, or a checked exception that every declaration
+     * of the method declares (the proxy wraps any other checked exception in an UndeclaredThrowableException).
+     */
+    boolean canThrow(int id, Throwable throwable) {
+        if (throwable instanceof RuntimeException || throwable instanceof Error) {
+            return true;
+        }
+        for (Method declaration : declarations[id]) {
+            if (!declares(declaration, throwable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean declares(Method method, Throwable throwable) {
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (exceptionType.isInstance(throwable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String describe(int id) {
+        return type.getSimpleName() + "." + signature(methods[id]);
+    }
+
+    private static String signature(Method method) {
+        StringJoiner parameterTypes = new StringJoiner(", ", method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            parameterTypes.add(parameterType.getSimpleName());
+        }
+        return parameterTypes.toString();
+    }
+
+    private static Object defaultReturn(Class<?> returnType) {
+        if (!returnType.isPrimitive() || returnType == void.class) {
+            return null;
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == char.class) {
+            return '\0';
+        }
+        if (returnType == byte.class) {
+            return (byte) 0;
+        }
+        if (returnType == short.class) {
+            return (short) 0;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        if (returnType == float.class) {
+            return 0F;
+        }
+        return 0D;
+    }
+}
@@ -0,0 +1,225 @@
+package com.andyln.proxy;
+
+import com.andyln.NoInteractionLambda;
+import com.andyln.VerifyLambda;
+import com.andyln.WhenLambda;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+/**
+ * Lightweight recording mocks of interfaces, built on java.lang.reflect.Proxy, as a faster alternative to Mockito for hot tests.
+ * <p>
+ * Example:
+ * <pre>
+ * UserService userService = ProxyMocks.mock(UserService.class);
+ *
+ * MockCoach mockCoach = new MockCoach.Builder()
+ *         .add(userService, ProxyMocks.whenReturn(userService, "find", USER), ProxyMocks.verify(userService, "find", 1))
+ *         .withVerifyNoInteractions(ProxyMocks.noInteractions())
+ *         .build();
+ * </pre>
+ * Methods are named as "find", or as "find(long)" when find is overloaded, and resolved once, when a lambda is created.
+ * Running a lambda then only reads or writes arrays of the mock, so there are no argument matchers.
+ * <p>
+ * Methods without an answer return null, or zero/false for primitives. Verify failures throw AssertionError, as Mockito does.
+ */
+public final class ProxyMocks {
+
+    private ProxyMocks() {
+    }
+
+    /**
+     * Creates a proxy mock of an interface.
+     *
+     * @param type Interface to mock
+     * @param <T>  Type of mock
+     * @return Proxy mock
+     * @throws IllegalArgumentException Calling with a type that is not an interface.
+     */
+    public static <T> T mock(Class<T> type) {
+        if (type == null || !type.isInterface()) {
+            throw new IllegalArgumentException("type must be an interface!");
+        }
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new RecordingHandler(MockType.of(type))));
+    }
+
+    /**
+     * Returns a when lambda, making method of mock answer with answer.
+     *
+     * @param mock       Proxy mock
+     * @param methodName Method of mock. Example: "find", or "find(long)" when find is overloaded
+     * @param answer     Answer of method
+     * @return WhenLambda
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock, or a method not in mock.
+     */
+    public static WhenLambda when(Object mock, String methodName, CannedAnswer answer) {
+        if (answer == null) {
+            throw new IllegalArgumentException("answer cannot be null!");
+        }
+
+        RecordingHandler handler = handlerOf(mock);
+        int id = handler.mockType.idOf(methodName);
+        return () -> handler.setAnswer(id, answer);
+    }
+
+    /**
+     * Returns a when lambda, making method of mock return value.
+     *
+     * @param mock       Proxy mock
+     * @param methodName Method of mock. Example: "find", or "find(long)" when find is overloaded
+     * @param value      Value returned by method
+     * @return WhenLambda
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock, a method not in mock, or a value the method cannot return.
+     */
+    public static WhenLambda whenReturn(Object mock, String methodName, Object value) {
+        RecordingHandler handler = handlerOf(mock);
+        int id = handler.mockType.idOf(methodName);
+
+        Object defaultReturn = handler.mockType.defaultReturns[id];
+        Class<?> returnType = handler.mockType.methods[id].getReturnType();
+        boolean isReturnable = defaultReturn != null
+                ? value != null && value.getClass() == defaultReturn.getClass()
+                : returnType != void.class && (value == null || returnType.isInstance(value));
+        if (!isReturnable) {
+            throw new IllegalArgumentException(String.format("%s cannot return %s!", handler.mockType.describe(id), value));
+        }
+
+        CannedAnswer answer = arguments -> value;
+        return () -> handler.setAnswer(id, answer);
+    }
+
+    /**
+     * Returns a when lambda, making method of mock throw throwable.
+     *
+     * @param mock       Proxy mock
+     * @param methodName Method of mock. Example: "find", or "find(long)" when find is overloaded
+     * @param throwable  Thrown by method
+     * @return WhenLambda
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock, a method not in mock, or a checked
+     *                                  exception the method does not declare.
+     */
+    public static WhenLambda whenThrow(Object mock, String methodName, Throwable throwable) {
+        if (throwable == null) {
+            throw new IllegalArgumentException("throwable cannot be null!");
+        }
+
+        RecordingHandler handler = handlerOf(mock);
+        int id = handler.mockType.idOf(methodName);
+
+        if (!handler.mockType.canThrow(id, throwable)) {
+            throw new IllegalArgumentException(String.format("%s cannot throw %s!", handler.mockType.describe(id), throwable));
+        }
+
+        CannedAnswer answer = arguments -> {
+            throw throwable;
+        };
+        return () -> handler.setAnswer(id, answer);
+    }
+
+    /**
+     * Returns a verify lambda, checking method of mock was called times.
+     *
+     * @param mock       Proxy mock
+     * @param methodName Method of mock. Example: "find", or "find(long)" when find is overloaded
+     * @param times      Expected number of calls
+     * @return VerifyLambda
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock, or a method not in mock.
+     */
+    public static VerifyLambda verify(Object mock, String methodName, int times) {
+        RecordingHandler handler = handlerOf(mock);
+        int id = handler.mockType.idOf(methodName);
+
+        return () -> {
+            int callCount = handler.callCount(id);
+            if (callCount != times) {
+                throw new AssertionError(String.format("Wanted %d calls to %s, but was %d", times, handler.mockType.describe(id), callCount));
+            }
+        };
+    }
+
+    /**
+     * Returns a verify lambda, checking method of mock was called at least once with arguments. Arguments are compared with equals.
+     *
+     * @param mock       Proxy mock
+     * @param methodName Method of mock. Example: "find", or "find(long)" when find is overloaded
+     * @param arguments  Expected arguments
+     * @return VerifyLambda
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock, or a method not in mock.
+     */
+    public static VerifyLambda verifyCalledWith(Object mock, String methodName, Object... arguments) {
+        RecordingHandler handler = handlerOf(mock);
+        int id = handler.mockType.idOf(methodName);
+        Object[] expectedArguments = arguments == null ? new Object[]{null} : arguments.clone();
+
+        return () -> {
+            if (!handler.wasCalledWith(id, expectedArguments)) {
+                throw new AssertionError(String.format("Wanted call to %s with %s, but calls were [%s]",
+                        handler.mockType.describe(id), Arrays.deepToString(expectedArguments), handler.describeCalls()));
+            }
+        };
+    }
+
+    /**
+     * Returns a no interaction lambda, checking a proxy mock was never called.
+     * Example: "new MockCoach.Builder().withVerifyNoInteractions(ProxyMocks.noInteractions())"
+     *
+     * @return NoInteractionLambda
+     */
+    public static NoInteractionLambda noInteractions() {
+        return ProxyMocks::verifyNoInteractions;
+    }
+
+    /**
+     * Checks mock was never called.
+     *
+     * @param mock Proxy mock
+     * @throws AssertionError           Mock was called.
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock.
+     */
+    public static void verifyNoInteractions(Object mock) {
+        RecordingHandler handler = handlerOf(mock);
+
+        if (handler.callCount() != 0) {
+            throw new AssertionError(String.format("Wanted no interactions with %s, but calls were [%s]", handler.mockType.type.getSimpleName(), handler.describeCalls()));
+        }
+    }
+
+    /**
+     * Returns number of calls to method of mock.
+     *
+     * @param mock       Proxy mock
+     * @param methodName Method of mock. Example: "find", or "find(long)" when find is overloaded
+     * @return Number of calls
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock, or a method not in mock.
+     */
+    public static int callCount(Object mock, String methodName) {
+        RecordingHandler handler = handlerOf(mock);
+        return handler.callCount(handler.mockType.idOf(methodName));
+    }
+
+    /**
+     * Removes every answer and recorded call of mock.
+     *
+     * @param mock Proxy mock
+     * @throws IllegalArgumentException Calling with an object that is not a proxy mock.
+     */
+    public static void reset(Object mock) {
+        handlerOf(mock).reset();
+    }
+
+    private static RecordingHandler handlerOf(Object mock) {
+        if (mock == null || !Proxy.isProxyClass(mock.getClass())) {
+            throw new IllegalArgumentException("mock must be a proxy mock!");
+        }
+
+        InvocationHandler handler = Proxy.getInvocationHandler(mock);
+        if (!(handler instanceof RecordingHandler)) {
+            throw new IllegalArgumentException("mock must be a proxy mock!");
+        }
+
+        return (RecordingHandler) handler;
+    }
+}
@@ -0,0 +1,107 @@
+package com.andyln.proxy;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Invocation handler of a proxy mock. Serves answers from a table indexed by method id, and records each call.
+ * <p>
+ * Calls are recorded as method ids in an int array, next to their arguments, and counted per method, so verifies are array reads.
+ */
+final class RecordingHandler implements InvocationHandler {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    final MockType mockType;
+
+    private final CannedAnswer[] answers;
+
+    private final int[] callCounts;
+
+    private int[] calledMethodIds = new int[16];
+    private Object[][] calledArguments = new Object[16][];
+    private int callCount;
+
+    RecordingHandler(MockType mockType) {
+        this.mockType = mockType;
+        this.answers = new CannedAnswer[mockType.methods.length];
+        this.callCounts = new int[mockType.methods.length];
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, method, arguments);
+        }
+
+        int id = mockType.idOf(method);
+        Object[] callArguments = arguments == null ? NO_ARGUMENTS : arguments;
+
+        CannedAnswer answer;
+        synchronized (this) {
+            record(id, callArguments);
+            answer = answers[id];
+        }
+
+        return answer == null ? mockType.defaultReturns[id] : answer.answer(callArguments);
+    }
+
+    synchronized void setAnswer(int id, CannedAnswer answer) {
+        answers[id] = answer;
+    }
+
+    synchronized int callCount() {
+        return callCount;
+    }
+
+    synchronized int callCount(int id) {
+        return callCounts[id];
+    }
+
+    synchronized boolean wasCalledWith(int id, Object[] arguments) {
+        for (int i = 0; i < callCount; i++) {
+            if (calledMethodIds[i] == id && Arrays.deepEquals(calledArguments[i], arguments)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized String describeCalls() {
+        StringBuilder calls = new StringBuilder();
+        for (int i = 0; i < callCount; i++) {
+            calls.append(i == 0 ? "" : ", ").append(mockType.describe(calledMethodIds[i]));
+        }
+        return calls.toString();
+    }
+
+    synchronized void reset() {
+        Arrays.fill(answers, null);
+        Arrays.fill(callCounts, 0);
+        Arrays.fill(calledArguments, 0, callCount, null);
+        callCount = 0;
+    }
+
+    private void record(int id, Object[] arguments) {
+        if (callCount == calledMethodIds.length) {
+            calledMethodIds = Arrays.copyOf(calledMethodIds, callCount * 2);
+            calledArguments = Arrays.copyOf(calledArguments, callCount * 2);
+        }
+        calledMethodIds[callCount] = id;
+        calledArguments[callCount] = arguments;
+        callCount++;
+        callCounts[id]++;
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] arguments) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == arguments[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "ProxyMock(" + mockType.type.getSimpleName() + ")";
+        }
+    }
+}
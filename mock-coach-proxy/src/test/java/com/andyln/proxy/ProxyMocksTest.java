@@ -0,0 +1,289 @@
+package com.andyln.proxy;
+
+import com.andyln.MockCoach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProxyMocksTest {
+
+    interface Repository {
+        String find(long id);
+
+        String find(String name);
+
+        long count();
+
+        boolean isEmpty();
+
+        void save(String value);
+    }
+
+    interface Mailer {
+        void send(String to, String body);
+
+        void flush() throws IOException;
+    }
+
+    interface Named {
+        String name() throws IOException;
+    }
+
+    interface Labeled {
+        String name();
+    }
+
+    interface NamedLabel extends Named, Labeled {
+    }
+
+    private final Repository repository = ProxyMocks.mock(Repository.class);
+    private final Mailer mailer = ProxyMocks.mock(Mailer.class);
+
+    @Nested
+    class Mock {
+
+        @Test
+        void whenNoAnswer_ThenReturnDefaultValues() {
+            assertNull(repository.find(1L));
+            assertEquals(0L, repository.count());
+            assertFalse(repository.isEmpty());
+            repository.save("value");
+        }
+
+        @Test
+        void whenObjectMethods_ThenUseIdentityAndDoNotRecord() {
+            assertEquals(repository, repository);
+            assertNotEquals(repository, ProxyMocks.mock(Repository.class));
+            assertEquals(System.identityHashCode(repository), repository.hashCode());
+            assertEquals("ProxyMock(Repository)", repository.toString());
+
+            ProxyMocks.verifyNoInteractions(repository);
+        }
+
+        @Test
+        void whenTypeIsNotInterface_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ProxyMocks.mock(String.class)
+            );
+
+            assertEquals("type must be an interface!", actualException.getMessage());
+        }
+
+        @Test
+        void whenManyCalls_ThenRecordEveryCall() {
+            for (int i = 0; i < 1000; i++) {
+                repository.find(i);
+            }
+
+            assertEquals(1000, ProxyMocks.callCount(repository, "find(long)"));
+            assertEquals(0, ProxyMocks.callCount(repository, "find(String)"));
+        }
+    }
+
+    @Nested
+    class When {
+
+        @Test
+        void whenReturn_ThenMethodReturnsValue() throws Exception {
+            ProxyMocks.whenReturn(repository, "count", 3L).run();
+
+            assertEquals(3L, repository.count());
+        }
+
+        @Test
+        void whenAnswer_ThenMethodAnswersWithArguments() throws Exception {
+            ProxyMocks.when(repository, "find(long)", arguments -> "user" + arguments[0]).run();
+
+            assertEquals("user7", repository.find(7L));
+            assertNull(repository.find("name"));
+        }
+
+        @Test
+        void whenThrow_ThenMethodThrows() throws Exception {
+            IllegalStateException exception = new IllegalStateException();
+            ProxyMocks.whenThrow(mailer, "send", exception).run();
+
+            assertSame(exception, assertThrows(IllegalStateException.class, () -> mailer.send("to", "body")));
+        }
+
+        @Test
+        void whenThrowDeclaredCheckedException_ThenMethodThrows() throws Exception {
+            IOException exception = new IOException();
+            ProxyMocks.whenThrow(mailer, "flush", exception).run();
+
+            assertSame(exception, assertThrows(IOException.class, mailer::flush));
+        }
+
+        @Test
+        void whenThrowUndeclaredCheckedException_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ProxyMocks.whenThrow(mailer, "send", new IOException("disk full"))
+            );
+
+            assertEquals("Mailer.send(String, String) cannot throw java.io.IOException: disk full!", actualException.getMessage());
+        }
+
+        @Test
+        void whenMethodDeclaredByTwoSuperinterfaces_ThenMethodReturnsValue() throws Exception {
+            NamedLabel namedLabel = ProxyMocks.mock(NamedLabel.class);
+            ProxyMocks.whenReturn(namedLabel, "name", "a").run();
+
+            assertEquals("a", namedLabel.name());
+        }
+
+        @Test
+        void whenThrowCheckedExceptionNotDeclaredByEverySuperinterface_ThenThrowIllegalArgumentException() {
+            NamedLabel namedLabel = ProxyMocks.mock(NamedLabel.class);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ProxyMocks.whenThrow(namedLabel, "name", new IOException("down"))
+            );
+
+            assertEquals("NamedLabel.name() cannot throw java.io.IOException: down!", actualException.getMessage());
+        }
+
+        @Test
+        void whenReturnWrongType_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ProxyMocks.whenReturn(repository, "count", 3)
+            );
+
+            assertEquals("Repository.count() cannot return 3!", actualException.getMessage());
+        }
+
+        @Test
+        void whenOverloadedMethodWithoutParameterTypes_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ProxyMocks.whenReturn(repository, "find", "user")
+            );
+
+            assertEquals("Repository has no method find! Use \"name(ParameterType, ...)\" for overloaded methods", actualException.getMessage());
+        }
+
+        @Test
+        void whenNotProxyMock_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ProxyMocks.whenReturn(new Object(), "count", 3L)
+            );
+
+            assertEquals("mock must be a proxy mock!", actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class Verify {
+
+        @Test
+        void whenCalledTimes_ThenPass() throws Exception {
+            repository.save("a");
+            repository.save("b");
+
+            ProxyMocks.verify(repository, "save", 2).run();
+        }
+
+        @Test
+        void whenMethodDeclaredByTwoSuperinterfaces_ThenCountEveryCall() throws Exception {
+            NamedLabel namedLabel = ProxyMocks.mock(NamedLabel.class);
+            namedLabel.name();
+            ((Labeled) namedLabel).name();
+
+            assertEquals(2, ProxyMocks.callCount(namedLabel, "name()"));
+            ProxyMocks.verify(namedLabel, "name", 2).run();
+        }
+
+        @Test
+        void whenNotCalledTimes_ThenThrowAssertionError() {
+            repository.save("a");
+
+            AssertionError actualError = assertThrows(AssertionError.class, () -> ProxyMocks.verify(repository, "save", 2).run());
+
+            assertEquals("Wanted 2 calls to Repository.save(String), but was 1", actualError.getMessage());
+        }
+
+        @Test
+        void whenCalledWithArguments_ThenPass() throws Exception {
+            mailer.send("a@b.c", "hi");
+
+            ProxyMocks.verifyCalledWith(mailer, "send", "a@b.c", "hi").run();
+        }
+
+        @Test
+        void whenNotCalledWithArguments_ThenThrowAssertionError() {
+            mailer.send("a@b.c", "hi");
+
+            AssertionError actualError = assertThrows(AssertionError.class, () -> ProxyMocks.verifyCalledWith(mailer, "send", "x@y.z", "hi").run());
+
+            assertEquals("Wanted call to Mailer.send(String, String) with [x@y.z, hi], but calls were [Mailer.send(String, String)]", actualError.getMessage());
+        }
+
+        @Test
+        void whenInteracted_ThenVerifyNoInteractionsThrowsAssertionError() {
+            repository.count();
+
+            AssertionError actualError = assertThrows(AssertionError.class, () -> ProxyMocks.noInteractions().run(repository));
+
+            assertEquals("Wanted no interactions with Repository, but calls were [Repository.count()]", actualError.getMessage());
+        }
+
+        @Test
+        void whenReset_ThenForgetAnswersAndCalls() throws Exception {
+            ProxyMocks.whenReturn(repository, "count", 3L).run();
+            repository.count();
+
+            ProxyMocks.reset(repository);
+
+            ProxyMocks.verifyNoInteractions(repository);
+            assertEquals(0L, repository.count());
+        }
+    }
+
+    @Nested
+    class InMockCoach {
+
+        private MockCoach mockCoach() {
+            return new MockCoach.Builder()
+                    .add(repository, ProxyMocks.whenReturn(repository, "find(long)", "user"), ProxyMocks.verify(repository, "find(long)", 1))
+                    .add(mailer, () -> {}, ProxyMocks.verifyCalledWith(mailer, "send", "user", "welcome"))
+                    .withVerifyNoInteractions(ProxyMocks.noInteractions())
+                    .build();
+        }
+
+        @Test
+        void whenChainCalled_ThenVerifyAllPasses() {
+            MockCoach mockCoach = mockCoach();
+            mockCoach.whenAll();
+
+            mailer.send(repository.find(1L), "welcome");
+
+            mockCoach.verifyAll();
+        }
+
+        @Test
+        void whenChainStopsEarly_ThenVerifyNoInteractionsTheRestPasses() {
+            MockCoach mockCoach = mockCoach();
+            mockCoach.whenAll();
+
+            repository.find(1L);
+
+            mockCoach.verifyThrough(repository);
+            mockCoach.verifyNoInteractionsTheRest();
+        }
+
+        @Test
+        void whenVerifyFails_ThenThrowAssertionError() {
+            MockCoach mockCoach = mockCoach();
+            mockCoach.whenAll();
+
+            assertThrows(AssertionError.class, mockCoach::verifyAll);
+        }
+    }
+}
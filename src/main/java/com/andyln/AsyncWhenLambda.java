@@ -0,0 +1,35 @@
+package com.andyln;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * When lambda that prepares its fixture values asynchronously, before stubbing its mock.
+ * <p>
+ * prepare() starts the slow work, such as loading a JSON fixture, and returns a stage completing with the when lambda
+ * that does the stubbing. whenAllAsync() and whenBeforeAsync(mock) prepare every AsyncWhenLambda in a range up front,
+ * then run the stubbing when lambdas in chain order on the calling thread, so Mockito's stubbing stays on one thread.
+ * <p>
+ * Every other method runs an AsyncWhenLambda like any other when lambda, waiting for its stage before stubbing.
+ * <p>
+ * Example: "AsyncWhenLambda w1 = () -&gt; CompletableFuture.supplyAsync(() -&gt; loadUser("user.json"))
+ * .thenApply(user -&gt; () -&gt; when(mock1.getUser()).thenReturn(user));"
+ */
+@FunctionalInterface
+public interface AsyncWhenLambda extends WhenLambda {
+
+    /**
+     * Starts preparing fixture values, without stubbing.
+     *
+     * @return Stage completing with when lambda that stubs the mock using the prepared values
+     */
+    CompletionStage<? extends WhenLambda> prepare() throws Exception;
+
+    /**
+     * Prepares fixture values, waits for them, then stubs the mock.
+     */
+    @Override
+    default void run() throws Exception {
+        ChainPlan.awaitStub(prepare()).run();
+    }
+
+}
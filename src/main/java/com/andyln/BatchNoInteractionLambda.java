@@ -0,0 +1,11 @@
+package com.andyln;
+
+/**
+ * Verifies no interactions on many mocks in one call. Example: "mocks -&gt; verifyNoMoreInteractions(mocks.toArray())"
+ */
+@FunctionalInterface
+public interface BatchNoInteractionLambda {
+
+    void run(MockSlice mocks) throws Exception;
+
+}
@@ -0,0 +1,14 @@
+package com.andyln;
+
+/**
+ * Mutable state of a MockCoach between calls, such as between whenBefore(mock) and whenTheRest().
+ * <p>
+ * Kept apart from the immutable ChainPlan, so sessions and threads can each have their own cursor over a shared chain.
+ */
+final class ChainCursor {
+
+    boolean canCallWhenTheRest;
+    boolean canCallVerifyTheRest;
+    int lastSuccessfulMockIndex;
+
+}
@@ -0,0 +1,46 @@
+package com.andyln;
+
+/**
+ * Java Flight Recorder events of chain execution: one event per range method call, and one event per lambda run.
+ * <p>
+ * Custom JFR events need Java 11, so on Java 8 nothing is recorded and MockCoach always takes its unrecorded path.
+ * On Java 11 and above, the multi-release jar replaces this class with the one in src/main/java11.
+ */
+final class ChainEvents {
+
+    private ChainEvents() {
+    }
+
+    /**
+     * Returns true if a recording is taking Mock Coach events.
+     */
+    static boolean isRecording() {
+        return false;
+    }
+
+    /**
+     * Starts timing a range method call.
+     *
+     * @return Event to pass into commitRange
+     */
+    static Object beginRange() {
+        return null;
+    }
+
+    /**
+     * Records a range method call, that ran lambdas from fromIndex (inclusive) to toIndex (exclusive).
+     */
+    static void commitRange(Object rangeEvent, String rangeName, int fromIndex, int toIndex) {
+    }
+
+    /**
+     * Returns listener recording an event per lambda run, before calling lambdaListener (if not null).
+     */
+    static LambdaListener recordingListener(LambdaListener lambdaListener) {
+        if (lambdaListener == null) {
+            return (phase, index, mock, elapsedNanos) -> {
+            };
+        }
+        return lambdaListener;
+    }
+}
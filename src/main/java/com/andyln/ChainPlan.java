@@ -0,0 +1,595 @@
+package com.andyln;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Immutable execution plan of a chain of mocks, compiled once when a MockCoach is constructed.
+ * <p>
+ * Holds the lambda tables and the precomputed index ranges and circle chain flags, so each range method of MockCoach
+ * is a single dispatch into one of the run methods below.
+ */
+final class ChainPlan {
+
+    final Object[] mocks;
+    final WhenLambda[] whenLambdas;
+    final VerifyLambda[] verifyLambdas;
+
+    final int length;
+    final int lastIndex;
+
+    final Object firstMock;
+    final Object lastMock;
+
+    final boolean containsMoreThanOneMock;
+
+    /*
+     * If true, mocks are in a circle chain
+     * If false, mocks are in a path graph chain
+     */
+    final boolean isMocksInCircleChain;
+
+    /*
+     * First mock of a chain containing more than one mock, that is also the last mock.
+     * Null for path graph chains and single mock chains, so checking a mock against it is a single comparison.
+     */
+    final Object circleChainEndpoint;
+
+    /*
+     * isConcurrentVerify[i] is true if verifyLambdas[i] is a ConcurrentVerifyLambda
+     */
+    final boolean[] isConcurrentVerify;
+    final boolean containsConcurrentVerify;
+
+    /*
+     * Owner of MockHandles accepted by this chain. Either the builder that issued them, or this plan.
+     */
+    final Object handleOwner;
+
+    /*
+     * stepEnds[i] is the end index (exclusive) of the step starting at index i, which is more than i + 1 for a coach
+     * added with Builder.addCoach(...). Null if every step is a single mock.
+     */
+    private final int[] stepEnds;
+
+    ChainPlan(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas, boolean isMocksInCircleChain) {
+        this(mocks, whenLambdas, verifyLambdas, isMocksInCircleChain, null);
+    }
+
+    /**
+     * @param handleOwner Owner of MockHandles accepted by this chain, or null if only this plan issues MockHandles
+     */
+    ChainPlan(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas, boolean isMocksInCircleChain, Object handleOwner) {
+        this(mocks, whenLambdas, verifyLambdas, isMocksInCircleChain, handleOwner, null);
+    }
+
+    /**
+     * @param handleOwner Owner of MockHandles accepted by this chain, or null if only this plan issues MockHandles
+     * @param stepEnds    End index (exclusive) of the step starting at each index, or null if every step is a single mock
+     */
+    ChainPlan(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas, boolean isMocksInCircleChain, Object handleOwner, int[] stepEnds) {
+        this.mocks = mocks;
+        this.whenLambdas = whenLambdas;
+        this.verifyLambdas = verifyLambdas;
+
+        this.length = mocks.length;
+        this.lastIndex = mocks.length - 1;
+
+        this.firstMock = mocks[0];
+        this.lastMock = mocks[lastIndex];
+
+        this.containsMoreThanOneMock = mocks.length > 1;
+        this.isMocksInCircleChain = isMocksInCircleChain;
+        this.circleChainEndpoint = containsMoreThanOneMock && isMocksInCircleChain ? firstMock : null;
+
+        this.isConcurrentVerify = new boolean[verifyLambdas.length];
+        boolean containsConcurrentVerify = false;
+        for (int i = 0; i < verifyLambdas.length; i++) {
+            isConcurrentVerify[i] = verifyLambdas[i] instanceof ConcurrentVerifyLambda;
+            containsConcurrentVerify |= isConcurrentVerify[i];
+        }
+        this.containsConcurrentVerify = containsConcurrentVerify;
+
+        this.handleOwner = handleOwner != null ? handleOwner : this;
+        this.stepEnds = stepEnds;
+    }
+
+    /**
+     * Returns end index (exclusive) of the step starting at index.
+     */
+    int stepEnd(int index) {
+        return stepEnds == null ? index + 1 : stepEnds[index];
+    }
+
+    /**
+     * Returns true if mock is the first/last mock of a circle chain containing more than one mock.
+     */
+    boolean isCircleChainEndpoint(Object mock) {
+        return circleChainEndpoint != null && mock == circleChainEndpoint;
+    }
+
+    /**
+     * Returns index of mock of handle, or NOT_FOUND if handle is null or belongs to another chain.
+     */
+    int indexOf(MockHandle<?> handle) {
+        if (handle == null || handle.owner != handleOwner) {
+            return IdentityMockIndex.NOT_FOUND;
+        }
+        return handle.index;
+    }
+
+    /**
+     * Runs when lambdas from fromIndex (inclusive) to toIndex (exclusive).
+     */
+    void runWhens(int fromIndex, int toIndex) {
+        WhenLambda[] whenLambdas = this.whenLambdas;
+        for (int i = fromIndex; i < toIndex; i++) {
+            try {
+                whenLambdas[i].run();
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.WHEN, i + 1, mocks[i], MockCoachLambdaException.WHEN_FAILURE_FORMAT, e);
+            }
+        }
+    }
+
+    /**
+     * Runs when lambdas from fromIndex (inclusive) to toIndex (exclusive), timing each when lambda for listener.
+     */
+    void runWhens(int fromIndex, int toIndex, LambdaListener listener) {
+        WhenLambda[] whenLambdas = this.whenLambdas;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long startNanos = System.nanoTime();
+            try {
+                whenLambdas[i].run();
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.WHEN, i + 1, mocks[i], MockCoachLambdaException.WHEN_FAILURE_FORMAT, e);
+            } finally {
+                listener.onLambdaRun(LambdaPhase.WHEN, i + 1, mocks[i], System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * Runs when lambdas from fromIndex (inclusive) to toIndex (exclusive), preparing every AsyncWhenLambda first.
+     * <p>
+     * Stubbing when lambdas, and every other when lambda, then run in order on the calling thread. If a when lambda fails,
+     * the stages of later AsyncWhenLambdas are cancelled.
+     *
+     * @param listener Listener to time each when lambda for, or null. Time of an AsyncWhenLambda is the time spent
+     *                 waiting for its stage and stubbing.
+     */
+    void runWhensAsync(int fromIndex, int toIndex, LambdaListener listener) {
+        WhenLambda[] whenLambdas = this.whenLambdas;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        CompletionStage<? extends WhenLambda>[] stubStages = new CompletionStage[toIndex - fromIndex];
+
+        // A when lambda failing to prepare is reported once every when lambda before it has run
+        int failedPrepareIndex = toIndex;
+        Exception prepareFailure = null;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!(whenLambdas[i] instanceof AsyncWhenLambda)) {
+                continue;
+            }
+
+            try {
+                stubStages[i - fromIndex] = ((AsyncWhenLambda) whenLambdas[i]).prepare();
+            } catch (Exception e) {
+                failedPrepareIndex = i;
+                prepareFailure = e;
+                break;
+            }
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            long startNanos = System.nanoTime();
+            try {
+                if (i == failedPrepareIndex) {
+                    throw prepareFailure;
+                }
+
+                CompletionStage<? extends WhenLambda> stubStage = stubStages[i - fromIndex];
+                if (stubStage == null) {
+                    whenLambdas[i].run();
+                } else {
+                    awaitStub(stubStage).run();
+                }
+            } catch (Exception e) {
+                cancelStubStages(stubStages, i - fromIndex + 1);
+                throw new MockCoachLambdaException(LambdaPhase.WHEN, i + 1, mocks[i], MockCoachLambdaException.WHEN_FAILURE_FORMAT, e);
+            } catch (Error e) {
+                cancelStubStages(stubStages, i - fromIndex + 1);
+                throw e;
+            } finally {
+                if (listener != null) {
+                    listener.onLambdaRun(LambdaPhase.WHEN, i + 1, mocks[i], System.nanoTime() - startNanos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for stage of an AsyncWhenLambda, rethrowing the exception it completed with.
+     *
+     * @return When lambda that stubs the mock
+     */
+    static WhenLambda awaitStub(CompletionStage<? extends WhenLambda> stubStage) throws Exception {
+        if (stubStage == null) {
+            throw new IllegalStateException("AsyncWhenLambda cannot return a null stage!");
+        }
+
+        WhenLambda stub;
+        try {
+            stub = stubStage.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        if (stub == null) {
+            throw new IllegalStateException("AsyncWhenLambda stage cannot complete with a null when lambda!");
+        }
+        return stub;
+    }
+
+    private static void cancelStubStages(CompletionStage<? extends WhenLambda>[] stubStages, int fromStage) {
+        for (int i = fromStage; i < stubStages.length; i++) {
+            if (stubStages[i] != null) {
+                stubStages[i].toCompletableFuture().cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Runs verify lambdas from fromIndex (inclusive) to toIndex (exclusive).
+     */
+    void runVerifies(int fromIndex, int toIndex) {
+        VerifyLambda[] verifyLambdas = this.verifyLambdas;
+        for (int i = fromIndex; i < toIndex; i++) {
+            try {
+                verifyLambdas[i].run();
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.VERIFY, i + 1, mocks[i], MockCoachLambdaException.VERIFY_FAILURE_FORMAT, e);
+            }
+        }
+    }
+
+    /**
+     * Runs verify lambdas from fromIndex (inclusive) to toIndex (exclusive), timing each verify lambda for listener.
+     */
+    void runVerifies(int fromIndex, int toIndex, LambdaListener listener) {
+        VerifyLambda[] verifyLambdas = this.verifyLambdas;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long startNanos = System.nanoTime();
+            try {
+                verifyLambdas[i].run();
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.VERIFY, i + 1, mocks[i], MockCoachLambdaException.VERIFY_FAILURE_FORMAT, e);
+            } finally {
+                listener.onLambdaRun(LambdaPhase.VERIFY, i + 1, mocks[i], System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * Runs verify lambdas from fromIndex (inclusive) to toIndex (exclusive), running each ConcurrentVerifyLambda on
+     * executor and every other verify lambda in order on the calling thread.
+     * <p>
+     * Waits for every submitted verify lambda to finish, then reports the failure with the lowest index, so the
+     * result is the same as running the verify lambdas one after another.
+     *
+     * @param listener     Listener timing each verify lambda, or null
+     * @param isSoftVerify If true, every failure is reported, same as runVerifiesCollectingFailures
+     */
+    void runVerifiesInParallel(int fromIndex, int toIndex, Executor executor, LambdaListener listener, boolean isSoftVerify) {
+        if (!containsConcurrentVerify || toIndex - fromIndex < 2) {
+            if (isSoftVerify) {
+                runVerifiesCollectingFailures(fromIndex, toIndex, listener);
+            } else if (listener == null) {
+                runVerifies(fromIndex, toIndex);
+            } else {
+                runVerifies(fromIndex, toIndex, listener);
+            }
+            return;
+        }
+
+        VerifyLambda[] verifyLambdas = this.verifyLambdas;
+        Throwable[] failures = new Throwable[toIndex - fromIndex];
+
+        int concurrentVerifyCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (isConcurrentVerify[i]) {
+                concurrentVerifyCount++;
+            }
+        }
+        CountDownLatch concurrentVerifiesDone = new CountDownLatch(concurrentVerifyCount);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!isConcurrentVerify[i]) {
+                continue;
+            }
+
+            VerifyLambda verifyLambda = verifyLambdas[i];
+            int failureIndex = i - fromIndex;
+            try {
+                executor.execute(() -> {
+                    try {
+                        runVerify(verifyLambda, fromIndex + failureIndex, listener);
+                    } catch (Throwable t) {
+                        failures[failureIndex] = t;
+                    } finally {
+                        concurrentVerifiesDone.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Reported as the failure of this verify lambda, after waiting for verify lambdas already submitted
+                failures[failureIndex] = e;
+                concurrentVerifiesDone.countDown();
+            }
+        }
+
+        // Unless collecting every failure, verify lambdas after a failing sequential verify lambda cannot be the lowest
+        // index failure, so are skipped
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (isConcurrentVerify[i]) {
+                continue;
+            }
+
+            try {
+                runVerify(verifyLambdas[i], i, listener);
+            } catch (Throwable t) {
+                failures[i - fromIndex] = t;
+                if (!isSoftVerify) {
+                    break;
+                }
+            }
+        }
+
+        try {
+            concurrentVerifiesDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for verifies to finish running in parallel!", e);
+        }
+
+        throwFailures(failures, fromIndex, isSoftVerify);
+    }
+
+    /**
+     * Runs every verify lambda from fromIndex (inclusive) to toIndex (exclusive), even after a verify lambda fails.
+     * <p>
+     * A single failure is reported with the same exception as runVerifies. More than one failure is reported with a
+     * MultipleVerifyFailuresException, containing every failure by index.
+     *
+     * @param listener Listener timing each verify lambda, or null
+     */
+    void runVerifiesCollectingFailures(int fromIndex, int toIndex, LambdaListener listener) {
+        VerifyLambda[] verifyLambdas = this.verifyLambdas;
+        Throwable[] failures = new Throwable[toIndex - fromIndex];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            try {
+                runVerify(verifyLambdas[i], i, listener);
+            } catch (Throwable t) {
+                failures[i - fromIndex] = t;
+            }
+        }
+
+        throwFailures(failures, fromIndex, true);
+    }
+
+    /**
+     * Throws the failure with the lowest index, or if isSoftVerify and there is more than one failure, every failure.
+     *
+     * @param failures failures[i] is the failure of verify lambda at fromIndex + i, or null
+     */
+    private void throwFailures(Throwable[] failures, int fromIndex, boolean isSoftVerify) {
+        int failureCount = 0;
+        int firstFailure = -1;
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                failureCount++;
+                if (firstFailure == -1) {
+                    firstFailure = i;
+                }
+            }
+        }
+
+        if (failureCount == 0) {
+            return;
+        }
+
+        if (isSoftVerify && failureCount > 1) {
+            throw new MultipleVerifyFailuresException(failures, fromIndex);
+        }
+
+        Throwable failure = failures[firstFailure];
+
+        // Same as runVerifies: errors, such as failed Mockito verifications, are rethrown as is
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        int index = fromIndex + firstFailure;
+        throw new MockCoachLambdaException(LambdaPhase.VERIFY, index + 1, mocks[index], MockCoachLambdaException.VERIFY_FAILURE_FORMAT, failure);
+    }
+
+    private void runVerify(VerifyLambda verifyLambda, int index, LambdaListener listener) throws Exception {
+        if (listener == null) {
+            verifyLambda.run();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            verifyLambda.run();
+        } finally {
+            listener.onLambdaRun(LambdaPhase.VERIFY, index + 1, mocks[index], System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Runs no interaction lambda on mocks from fromIndex (inclusive) to toIndex (exclusive).
+     *
+     * @param failureFormat Format of exception message, taking the one-based index of the failing mock
+     */
+    void runNoInteractions(NoInteractionLambda verifyNoInteractionLambda, int fromIndex, int toIndex, String failureFormat) {
+        Object[] mocks = this.mocks;
+        for (int i = fromIndex; i < toIndex; i++) {
+            try {
+                verifyNoInteractionLambda.run(mocks[i]);
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, i + 1, mocks[i], failureFormat, e);
+            }
+        }
+    }
+
+    /**
+     * Runs no interaction lambda on mocks from fromIndex (inclusive) to toIndex (exclusive), timing each run for listener.
+     *
+     * @param failureFormat Format of exception message, taking the one-based index of the failing mock
+     */
+    void runNoInteractions(NoInteractionLambda verifyNoInteractionLambda, int fromIndex, int toIndex, String failureFormat, LambdaListener listener) {
+        Object[] mocks = this.mocks;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long startNanos = System.nanoTime();
+            try {
+                verifyNoInteractionLambda.run(mocks[i]);
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, i + 1, mocks[i], failureFormat, e);
+            } finally {
+                listener.onLambdaRun(LambdaPhase.NO_INTERACTION, i + 1, mocks[i], System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * Runs no interaction lambda on every mock from fromIndex (inclusive) to toIndex (exclusive) concurrently on
+     * executor, then waits for every run to finish before returning.
+     * <p>
+     * Reports the mock with the lowest index that fails, with the same exception as runNoInteractions.
+     *
+     * @param failureFormat Format of exception message, taking the one-based index of the failing mock
+     * @param listener      Listener to time each run for, or null
+     */
+    void runNoInteractionsInParallel(NoInteractionLambda verifyNoInteractionLambda, int fromIndex, int toIndex, String failureFormat, Executor executor, LambdaListener listener) {
+        if (toIndex - fromIndex < 2) {
+            if (listener == null) {
+                runNoInteractions(verifyNoInteractionLambda, fromIndex, toIndex, failureFormat);
+            } else {
+                runNoInteractions(verifyNoInteractionLambda, fromIndex, toIndex, failureFormat, listener);
+            }
+            return;
+        }
+
+        Object[] mocks = this.mocks;
+        Throwable[] failures = new Throwable[toIndex - fromIndex];
+        CountDownLatch noInteractionsDone = new CountDownLatch(toIndex - fromIndex);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            Object mock = mocks[i];
+            int failureIndex = i - fromIndex;
+            try {
+                executor.execute(() -> {
+                    long startNanos = System.nanoTime();
+                    try {
+                        verifyNoInteractionLambda.run(mock);
+                    } catch (Throwable t) {
+                        failures[failureIndex] = t;
+                    } finally {
+                        if (listener != null) {
+                            listener.onLambdaRun(LambdaPhase.NO_INTERACTION, fromIndex + failureIndex + 1, mock, System.nanoTime() - startNanos);
+                        }
+                        noInteractionsDone.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Reported as the failure of this mock, after waiting for mocks already submitted
+                failures[failureIndex] = e;
+                noInteractionsDone.countDown();
+            }
+        }
+
+        try {
+            noInteractionsDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for no interaction verifies to finish running in parallel!", e);
+        }
+
+        for (int i = 0; i < failures.length; i++) {
+            Throwable failure = failures[i];
+            if (failure == null) {
+                continue;
+            }
+
+            // Same as runNoInteractions: errors are rethrown as is
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            int index = fromIndex + i;
+            throw new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, index + 1, mocks[index], failureFormat, failure);
+        }
+    }
+
+    /**
+     * Runs batch no interaction lambda once, on a slice of mocks from fromIndex (inclusive) to toIndex (exclusive).
+     * Does nothing for an empty range.
+     * <p>
+     * If the batch throws an exception, runs the batch on one mock at a time, to report the first failing mock.
+     * AssertionErrors (such as Mockito's NoInteractionsWanted, from "verifyNoMoreInteractions(mocks.toArray())") are
+     * reported the same way.
+     *
+     * @param failureFormat Format of exception message, taking the one-based index of the failing mock
+     */
+    void runBatchNoInteractions(BatchNoInteractionLambda batchNoInteractionLambda, int fromIndex, int toIndex, String failureFormat) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        try {
+            batchNoInteractionLambda.run(new MockSlice(mocks, fromIndex, toIndex));
+        } catch (Exception | AssertionError batchFailure) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                try {
+                    batchNoInteractionLambda.run(new MockSlice(mocks, i, i + 1));
+                } catch (Exception | AssertionError e) {
+                    throw new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, i + 1, mocks[i], failureFormat, e);
+                }
+            }
+
+            // No single mock fails, so report batch failure on first mock of range
+            throw new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, fromIndex + 1, mocks[fromIndex], failureFormat, batchFailure);
+        }
+    }
+
+    /**
+     * Runs batch no interaction lambda on one mock at a time, from fromIndex (inclusive) to toIndex (exclusive), timing
+     * each run for listener. AssertionErrors are reported like exceptions, with the failing mock.
+     *
+     * @param failureFormat Format of exception message, taking the one-based index of the failing mock
+     */
+    void runBatchNoInteractions(BatchNoInteractionLambda batchNoInteractionLambda, int fromIndex, int toIndex, String failureFormat, LambdaListener listener) {
+        Object[] mocks = this.mocks;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long startNanos = System.nanoTime();
+            try {
+                batchNoInteractionLambda.run(new MockSlice(mocks, i, i + 1));
+            } catch (Exception | AssertionError e) {
+                throw new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, i + 1, mocks[i], failureFormat, e);
+            } finally {
+                listener.onLambdaRun(LambdaPhase.NO_INTERACTION, i + 1, mocks[i], System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
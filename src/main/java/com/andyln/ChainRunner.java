@@ -0,0 +1,42 @@
+package com.andyln;
+
+/**
+ * Base class of chain runners generated by putGeneratedRunner(). Not for use outside of Mock Coach.
+ * <p>
+ * A generated runner calls each when lambda and verify lambda of its chain from its own call site, instead of from
+ * the shared loops of ChainPlan. So each call site only ever sees one lambda class, and the JIT compiler can inline
+ * the lambda.
+ * <p>
+ * Public (with protected members), because generated runners are defined by their own class loader, so are not in
+ * the same runtime package as this class.
+ */
+public abstract class ChainRunner {
+
+    protected final Object[] mocks;
+    protected final WhenLambda[] whenLambdas;
+    protected final VerifyLambda[] verifyLambdas;
+
+    protected ChainRunner(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas) {
+        this.mocks = mocks;
+        this.whenLambdas = whenLambdas;
+        this.verifyLambdas = verifyLambdas;
+    }
+
+    /**
+     * Runs when lambdas from fromIndex (inclusive) to toIndex (exclusive). Same as ChainPlan.runWhens(int, int).
+     */
+    protected abstract void runWhens(int fromIndex, int toIndex);
+
+    /**
+     * Runs verify lambdas from fromIndex (inclusive) to toIndex (exclusive). Same as ChainPlan.runVerifies(int, int).
+     */
+    protected abstract void runVerifies(int fromIndex, int toIndex);
+
+    protected final RuntimeException whenFailure(int index, Exception cause) {
+        return new MockCoachLambdaException(LambdaPhase.WHEN, index + 1, mocks[index], MockCoachLambdaException.WHEN_FAILURE_FORMAT, cause);
+    }
+
+    protected final RuntimeException verifyFailure(int index, Exception cause) {
+        return new MockCoachLambdaException(LambdaPhase.VERIFY, index + 1, mocks[index], MockCoachLambdaException.VERIFY_FAILURE_FORMAT, cause);
+    }
+}
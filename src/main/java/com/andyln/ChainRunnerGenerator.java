@@ -0,0 +1,408 @@
+package com.andyln;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates a ChainRunner subclass for one chain, as a class file written directly (without a bytecode library).
+ * <p>
+ * For a chain of n mocks, runWhens(int fromIndex, int toIndex) of the generated class is equivalent to:
+ * <pre>
+ * for (int i = fromIndex; i &lt; toIndex; i++) {
+ *     try {
+ *         switch (i) {
+ *             case 0: whenLambdas[0].run(); break;
+ *             ...
+ *             case n - 1: whenLambdas[n - 1].run(); break;
+ *         }
+ *     } catch (Exception e) {
+ *         throw whenFailure(i, e);
+ *     }
+ * }
+ * </pre>
+ * and runVerifies(int fromIndex, int toIndex) is the same for verify lambdas.
+ * <p>
+ * Class files are written as version 49 (Java 5), which does not need stack map frames. Each generated class is
+ * defined by its own class loader, so it can be unloaded with its chain.
+ */
+final class ChainRunnerGenerator {
+
+    /**
+     * Longest chain to generate a runner for. Larger chains would come close to the 64KB limit of a method's code.
+     */
+    static final int MAX_LENGTH = 1024;
+
+    private static final AtomicInteger GENERATED_COUNT = new AtomicInteger();
+
+    private static final String RUNNER = "com/andyln/ChainRunner";
+    private static final String WHEN_LAMBDA = "com/andyln/WhenLambda";
+    private static final String VERIFY_LAMBDA = "com/andyln/VerifyLambda";
+
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([Ljava/lang/Object;[L" + WHEN_LAMBDA + ";[L" + VERIFY_LAMBDA + ";)V";
+    private static final String FAILURE_DESCRIPTOR = "(ILjava/lang/Exception;)Ljava/lang/RuntimeException;";
+
+    private ChainRunnerGenerator() {
+    }
+
+    /**
+     * Returns a new generated runner of chain, or null if chain is longer than MAX_LENGTH.
+     */
+    static ChainRunner generate(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas) {
+        if (mocks.length > MAX_LENGTH) {
+            return null;
+        }
+
+        String className = "com/andyln/generated/ChainRunner" + GENERATED_COUNT.incrementAndGet();
+        byte[] classFile = classFile(className, mocks.length);
+
+        try {
+            Class<?> runnerClass = new RunnerClassLoader(ChainRunner.class.getClassLoader())
+                    .define(className.replace('/', '.'), classFile);
+            return (ChainRunner) runnerClass
+                    .getConstructor(Object[].class, WhenLambda[].class, VerifyLambda[].class)
+                    .newInstance(mocks, whenLambdas, verifyLambdas);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to generate chain runner!", e);
+        }
+    }
+
+    static byte[] classFile(String className, int length) {
+        ConstantPool constantPool = new ConstantPool();
+
+        int thisClass = constantPool.classInfo(className);
+        int superClass = constantPool.classInfo(RUNNER);
+        int exceptionClass = constantPool.classInfo("java/lang/Exception");
+
+        int superConstructor = constantPool.memberRef(10, RUNNER, "<init>", CONSTRUCTOR_DESCRIPTOR);
+
+        int code = constantPool.utf8("Code");
+        int constructorName = constantPool.utf8("<init>");
+        int constructorDescriptor = constantPool.utf8(CONSTRUCTOR_DESCRIPTOR);
+        int rangeDescriptor = constantPool.utf8("(II)V");
+
+        Code constructorCode = constructorCode(superConstructor);
+        Code runWhensCode = rangeCode(
+                length,
+                constantPool.memberRef(9, RUNNER, "whenLambdas", "[L" + WHEN_LAMBDA + ";"),
+                constantPool.memberRef(11, WHEN_LAMBDA, "run", "()V"),
+                constantPool.memberRef(10, RUNNER, "whenFailure", FAILURE_DESCRIPTOR)
+        );
+        Code runVerifiesCode = rangeCode(
+                length,
+                constantPool.memberRef(9, RUNNER, "verifyLambdas", "[L" + VERIFY_LAMBDA + ";"),
+                constantPool.memberRef(11, VERIFY_LAMBDA, "run", "()V"),
+                constantPool.memberRef(10, RUNNER, "verifyFailure", FAILURE_DESCRIPTOR)
+        );
+        int runWhensName = constantPool.utf8("runWhens");
+        int runVerifiesName = constantPool.utf8("runVerifies");
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(49);
+            constantPool.writeTo(out);
+
+            out.writeShort(0x0001 | 0x0010 | 0x0020); // public final super
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(0); // interfaces
+            out.writeShort(0); // fields
+
+            out.writeShort(3); // methods
+            writeMethod(out, constructorName, constructorDescriptor, code, 4, 4, constructorCode, 0);
+            writeMethod(out, runWhensName, rangeDescriptor, code, 3, 4, runWhensCode, exceptionClass);
+            writeMethod(out, runVerifiesName, rangeDescriptor, code, 3, 4, runVerifiesCode, exceptionClass);
+
+            out.writeShort(0); // attributes
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Code constructorCode(int superConstructor) {
+        Code code = new Code();
+        code.u1(0x2a); // aload_0
+        code.u1(0x2b); // aload_1
+        code.u1(0x2c); // aload_2
+        code.u1(0x2d); // aload_3
+        code.u1(0xb7); // invokespecial
+        code.u2(superConstructor);
+        code.u1(0xb1); // return
+        return code;
+    }
+
+    /*
+     * Locals: 0 this, 1 fromIndex (also the loop index), 2 toIndex, 3 caught exception.
+     * Code from the switch up to the loop increment is covered by the exception handler.
+     */
+    private static Code rangeCode(int length, int lambdasField, int runMethod, int failureMethod) {
+        Code code = new Code();
+
+        // loop: if (i >= toIndex) return;
+        code.u1(0x1b); // iload_1
+        code.u1(0x1c); // iload_2
+        code.u1(0xa1); // if_icmplt +4
+        code.u2(4);
+        code.u1(0xb1); // return
+
+        // try: switch (i)
+        code.handlerStart = code.size();
+        int switchOffset = code.size() + 1;
+        code.u1(0x1b); // iload_1
+        code.u1(0xaa); // tableswitch
+        while (code.size() % 4 != 0) {
+            code.u1(0);
+        }
+        int defaultJump = code.size();
+        code.u4(0);
+        code.u4(0);
+        code.u4(length - 1);
+        int firstCaseJump = code.size();
+        for (int i = 0; i < length; i++) {
+            code.u4(0);
+        }
+
+        int[] endJumps = new int[length];
+        for (int i = 0; i < length; i++) {
+            code.patch4(firstCaseJump + 4 * i, code.size() - switchOffset);
+
+            code.u1(0x2a); // aload_0
+            code.u1(0xb4); // getfield lambdas
+            code.u2(lambdasField);
+            pushInt(code, i);
+            code.u1(0x32); // aaload
+            code.u1(0xb9); // invokeinterface run
+            code.u2(runMethod);
+            code.u1(1);
+            code.u1(0);
+            endJumps[i] = code.size();
+            code.u1(0xa7); // goto end
+            code.u2(0);
+        }
+
+        int end = code.size();
+        code.patch4(defaultJump, end - switchOffset);
+        for (int endJump : endJumps) {
+            code.patch2(endJump + 1, end - endJump);
+        }
+
+        // i++; goto loop;
+        code.u1(0x84); // iinc 1 1
+        code.u1(1);
+        code.u1(1);
+        int loopJump = code.size();
+        code.u1(0xa7); // goto loop
+        code.u2(-loopJump);
+
+        // catch (Exception e) { throw failure(i, e); }
+        code.handlerEnd = end;
+        code.handler = code.size();
+        code.u1(0x4e); // astore_3
+        code.u1(0x2a); // aload_0
+        code.u1(0x1b); // iload_1
+        code.u1(0x2d); // aload_3
+        code.u1(0xb6); // invokevirtual failure
+        code.u2(failureMethod);
+        code.u1(0xbf); // athrow
+
+        return code;
+    }
+
+    private static void pushInt(Code code, int value) {
+        if (value <= 5) {
+            code.u1(0x03 + value); // iconst_<value>
+        } else if (value <= Byte.MAX_VALUE) {
+            code.u1(0x10); // bipush
+            code.u1(value);
+        } else {
+            code.u1(0x11); // sipush
+            code.u2(value);
+        }
+    }
+
+    /**
+     * Writes a public method. If catchType is not 0, code's exception handler catches exceptions of catchType.
+     */
+    private static void writeMethod(
+            DataOutputStream out,
+            int name,
+            int descriptor,
+            int codeAttribute,
+            int maxStack,
+            int maxLocals,
+            Code code,
+            int catchType
+    ) throws IOException {
+        out.writeShort(0x0001); // public
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1); // attributes
+
+        int exceptionTableLength = catchType == 0 ? 0 : 1;
+        out.writeShort(codeAttribute);
+        out.writeInt(2 + 2 + 4 + code.size() + 2 + 8 * exceptionTableLength + 2);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.size());
+        code.writeTo(out);
+        out.writeShort(exceptionTableLength);
+        if (catchType != 0) {
+            out.writeShort(code.handlerStart);
+            out.writeShort(code.handlerEnd);
+            out.writeShort(code.handler);
+            out.writeShort(catchType);
+        }
+        out.writeShort(0); // code attributes
+    }
+
+    /**
+     * Growable bytecode buffer, with at most one exception handler.
+     */
+    private static final class Code {
+
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        int handlerStart;
+        int handlerEnd;
+        int handler;
+
+        int size() {
+            return size;
+        }
+
+        void u1(int value) {
+            if (size == bytes.length) {
+                byte[] grown = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, grown, 0, size);
+                bytes = grown;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void u2(int value) {
+            u1(value >> 8);
+            u1(value);
+        }
+
+        void u4(int value) {
+            u2(value >> 16);
+            u2(value);
+        }
+
+        void patch2(int offset, int value) {
+            bytes[offset] = (byte) (value >> 8);
+            bytes[offset + 1] = (byte) value;
+        }
+
+        void patch4(int offset, int value) {
+            patch2(offset, value >> 16);
+            patch2(offset + 2, value);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+        }
+    }
+
+    /**
+     * Constant pool, reusing entries that are added more than once.
+     */
+    private static final class ConstantPool {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            Integer index = entries.get("utf8 " + value);
+            if (index != null) {
+                return index;
+            }
+            try {
+                out.writeByte(1);
+                out.writeUTF(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            entries.put("utf8 " + value, count);
+            return count++;
+        }
+
+        int classInfo(String internalName) {
+            Integer index = entries.get("class " + internalName);
+            if (index != null) {
+                return index;
+            }
+            int name = utf8(internalName);
+            write(7, name);
+            entries.put("class " + internalName, count);
+            return count++;
+        }
+
+        /**
+         * @param tag 9 for a field, 10 for a class method, 11 for an interface method
+         */
+        int memberRef(int tag, String owner, String name, String descriptor) {
+            String key = tag + " " + owner + "." + name + descriptor;
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            int ownerClass = classInfo(owner);
+            int nameAndType = nameAndType(name, descriptor);
+            write(tag, ownerClass, nameAndType);
+            entries.put(key, count);
+            return count++;
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            String key = "nameAndType " + name + descriptor;
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            write(12, nameIndex, descriptorIndex);
+            entries.put(key, count);
+            return count++;
+        }
+
+        private void write(int tag, int... indexes) {
+            try {
+                out.writeByte(tag);
+                for (int index : indexes) {
+                    out.writeShort(index);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void writeTo(DataOutputStream classFile) throws IOException {
+            classFile.writeShort(count);
+            bytes.writeTo(classFile);
+        }
+    }
+
+    private static final class RunnerClassLoader extends ClassLoader {
+
+        RunnerClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] classFile) {
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.andyln;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append only storage of the mocks, when lambdas, and verify lambdas added to a MockCoach.Builder.
+ * <p>
+ * Steps are stored in fixed size chunks, with the mock, when lambda, and verify lambda of a step side by side, so adding a step
+ * never copies previously added steps. Builders of chains with many thousands of mocks add in linear time, and the chain is
+ * copied once, into exactly sized arrays, when built.
+ * <p>
+ * A composite step, such as the chain of a MockCoach added with Builder.addCoach(...), is stored as its mocks, one per slot,
+ * and recorded as one step keyed by the composite, spanning those mocks.
+ */
+final class ChainSteps {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int SLOTS_PER_STEP = 3;
+
+    private Object[][] chunks = new Object[1][];
+
+    private int size;
+
+    // Keys, first indexes, and end indexes (exclusive) of composite steps, in order. Empty for most chains
+    private final List<Object> compositeKeys = new ArrayList<>();
+    private final List<Integer> compositeStarts = new ArrayList<>();
+    private final List<Integer> compositeEnds = new ArrayList<>();
+
+    void add(Object mock, WhenLambda whenLambda, VerifyLambda verifyLambda) {
+        int chunkIndex = size / CHUNK_SIZE;
+        if (chunkIndex == chunks.length) {
+            // Only the table of chunks grows, by one reference per 1024 steps
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+
+        Object[] chunk = chunks[chunkIndex];
+        if (chunk == null) {
+            chunk = new Object[CHUNK_SIZE * SLOTS_PER_STEP];
+            chunks[chunkIndex] = chunk;
+        }
+
+        int slot = (size % CHUNK_SIZE) * SLOTS_PER_STEP;
+        chunk[slot] = mock;
+        chunk[slot + 1] = whenLambda;
+        chunk[slot + 2] = verifyLambda;
+        size++;
+    }
+
+    /**
+     * Adds every mock of plan as one step keyed by key.
+     */
+    void addComposite(Object key, ChainPlan plan, VerifyLambda[] verifyLambdas) {
+        compositeKeys.add(key);
+        compositeStarts.add(size);
+        for (int i = 0; i < plan.length; i++) {
+            add(plan.mocks[i], plan.whenLambdas[i], verifyLambdas[i]);
+        }
+        compositeEnds.add(size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the key of each step at the index of its first mock, with null for the other mocks of composite steps,
+     * or null if there are no composite steps.
+     */
+    Object[] stepKeys() {
+        if (compositeKeys.isEmpty()) {
+            return null;
+        }
+
+        Object[] stepKeys = mocks();
+        for (int i = 0; i < compositeKeys.size(); i++) {
+            int start = compositeStarts.get(i);
+            Arrays.fill(stepKeys, start, compositeEnds.get(i), null);
+            stepKeys[start] = compositeKeys.get(i);
+        }
+        return stepKeys;
+    }
+
+    /**
+     * Returns the end index (exclusive) of each step at the index of its first mock, or null if there are no composite steps.
+     */
+    int[] stepEnds() {
+        if (compositeKeys.isEmpty()) {
+            return null;
+        }
+
+        int[] stepEnds = new int[size];
+        for (int i = 0; i < size; i++) {
+            stepEnds[i] = i + 1;
+        }
+        for (int i = 0; i < compositeKeys.size(); i++) {
+            stepEnds[compositeStarts.get(i)] = compositeEnds.get(i);
+        }
+        return stepEnds;
+    }
+
+    Object[] mocks() {
+        Object[] mocks = new Object[size];
+        copySlot(0, mocks);
+        return mocks;
+    }
+
+    WhenLambda[] whenLambdas() {
+        WhenLambda[] whenLambdas = new WhenLambda[size];
+        copySlot(1, whenLambdas);
+        return whenLambdas;
+    }
+
+    VerifyLambda[] verifyLambdas() {
+        VerifyLambda[] verifyLambdas = new VerifyLambda[size];
+        copySlot(2, verifyLambdas);
+        return verifyLambdas;
+    }
+
+    private void copySlot(int slotOffset, Object[] target) {
+        for (int i = 0; i < size; i++) {
+            target[i] = chunks[i / CHUNK_SIZE][(i % CHUNK_SIZE) * SLOTS_PER_STEP + slotOffset];
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.andyln;
+
+/**
+ * No interaction lambda that is safe to run on several mocks at the same time, when MockCoach runs verifies in parallel.
+ * <p>
+ * Example: "ConcurrentNoInteractionLambda noInteraction = mock -&gt; verifyNoInteractions(mock);"
+ */
+@FunctionalInterface
+public interface ConcurrentNoInteractionLambda extends NoInteractionLambda {
+
+}
@@ -0,0 +1,11 @@
+package com.andyln;
+
+/**
+ * Verify lambda that is safe to run concurrently with other verify lambdas, when MockCoach runs verifies in parallel.
+ * <p>
+ * Example: "ConcurrentVerifyLambda v1 = () -&gt; verify(mock1).method();"
+ */
+@FunctionalInterface
+public interface ConcurrentVerifyLambda extends VerifyLambda {
+
+}
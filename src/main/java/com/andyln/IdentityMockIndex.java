@@ -0,0 +1,118 @@
+package com.andyln;
+
+/**
+ * Identity keyed index from a mock to its position in mocks.
+ * <p>
+ * Mocks are compared with == and hashed with System.identityHashCode, so neither building the index nor looking up a
+ * mock ever calls hashCode()/equals() on a mock (which, for Mockito mocks, would go through the mock's interceptor).
+ * Positions are stored as primitive ints, so lookups do not box or allocate.
+ * <p>
+ * Chains of up to LINEAR_SCAN_THRESHOLD mocks are scanned linearly. Larger chains use an open addressing table with
+ * linear probing, sized to at least twice the number of mocks.
+ */
+final class IdentityMockIndex {
+
+    static final int NOT_FOUND = -1;
+
+    static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private final Object[] keys;
+    private final int[] values;
+
+    // -1 when scanning linearly
+    private final int mask;
+
+    private int size;
+
+    /**
+     * Creates an empty index able to hold expectedSize mocks.
+     *
+     * @param expectedSize Maximum number of mocks that will be put into index
+     */
+    IdentityMockIndex(int expectedSize) {
+        if (expectedSize <= LINEAR_SCAN_THRESHOLD) {
+            keys = new Object[expectedSize];
+            values = new int[expectedSize];
+            mask = -1;
+            return;
+        }
+
+        int capacity = Integer.highestOneBit(expectedSize - 1) << 2;
+        keys = new Object[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Puts mock at index, unless mock is already in index.
+     *
+     * @param mock  Non null mock
+     * @param index Position of mock in mocks
+     * @return Previous position of mock, or NOT_FOUND if mock was not already in index
+     */
+    int putIfAbsent(Object mock, int index) {
+        if (mask == -1) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == mock) {
+                    return values[i];
+                }
+            }
+
+            keys[size] = mock;
+            values[size] = index;
+            size++;
+            return NOT_FOUND;
+        }
+
+        int slot = hash(mock) & mask;
+        Object key;
+        while ((key = keys[slot]) != null) {
+            if (key == mock) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = mock;
+        values[slot] = index;
+        size++;
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns position of mock, or NOT_FOUND if mock is not in index.
+     */
+    int indexOf(Object mock) {
+        if (mock == null) {
+            return NOT_FOUND;
+        }
+
+        if (mask == -1) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == mock) {
+                    return values[i];
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        int slot = hash(mock) & mask;
+        Object key;
+        while ((key = keys[slot]) != null) {
+            if (key == mock) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int hash(Object mock) {
+        int h = System.identityHashCode(mock) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,20 @@
+package com.andyln;
+
+/**
+ * Called after every when lambda, verify lambda, and no interaction lambda run by a MockCoach/MockCoachLegacy,
+ * whether the lambda succeeded or threw an exception.
+ * <p>
+ * When verifies run in parallel, the listener is called from the thread that ran the verify lambda, so must be thread safe.
+ */
+@FunctionalInterface
+public interface LambdaListener {
+
+    /**
+     * @param phase        Kind of lambda that was run
+     * @param index        One-based index of the lambda in the chain, the same index as "w%d"/"v%d"/"m%d" in exception messages
+     * @param mock         Mock corresponding to the lambda
+     * @param elapsedNanos Time taken to run the lambda, in nanoseconds
+     */
+    void onLambdaRun(LambdaPhase phase, int index, Object mock, long elapsedNanos);
+
+}
@@ -0,0 +1,5 @@
+package com.andyln;
+
+public enum LambdaPhase {
+    WHEN, VERIFY, NO_INTERACTION
+}
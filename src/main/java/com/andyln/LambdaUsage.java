@@ -0,0 +1,158 @@
+package com.andyln;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bitsets of which when lambdas and verify lambdas of a chain have run, to find stubs and verifies that no test uses.
+ * <p>
+ * A MockCoach with a LambdaUsage (see MockCoach.putLambdaUsage) marks every lambda of a range once the range method
+ * succeeds, a word of the bitset at a time. Once a lambda is marked, marking it again is a read of that word.
+ * <p>
+ * A LambdaUsage from LambdaUsageFiles is also written through to a memory-mapped file shared by every JVM of a suite,
+ * and reads the merged usage of every JVM.
+ */
+public final class LambdaUsage {
+
+    private final int chainLength;
+
+    // Number of longs in each bitset
+    private final int words;
+
+    private final AtomicLongArray whenBits;
+    private final AtomicLongArray verifyBits;
+
+    // If not null, bits are written through to, and merged with, this slot of a usage file
+    private final LambdaUsageFiles.Slot slot;
+
+    /**
+     * Creates a LambdaUsage kept in memory only.
+     *
+     * @param chainLength Number of mocks in chain
+     * @throws IllegalArgumentException If chainLength is less than one.
+     */
+    public LambdaUsage(int chainLength) {
+        this(chainLength, null);
+    }
+
+    LambdaUsage(int chainLength, LambdaUsageFiles.Slot slot) {
+        if (chainLength < 1) {
+            throw new IllegalArgumentException("chainLength must be at least 1!");
+        }
+
+        this.chainLength = chainLength;
+        this.words = wordsFor(chainLength);
+        this.whenBits = new AtomicLongArray(words);
+        this.verifyBits = new AtomicLongArray(words);
+        this.slot = slot;
+
+        if (slot != null) {
+            // Keeps bits written to this slot by a previous run
+            for (int word = 0; word < words; word++) {
+                whenBits.set(word, slot.read(word));
+                verifyBits.set(word, slot.read(words + word));
+            }
+        }
+    }
+
+    static int wordsFor(int chainLength) {
+        return (chainLength + 63) >>> 6;
+    }
+
+    public int getChainLength() {
+        return chainLength;
+    }
+
+    /**
+     * @param index One-based index of when lambda, the same index as "w%d" in exception messages
+     * @return True if when lambda has run, in this JVM or (for a LambdaUsage from LambdaUsageFiles) any other JVM
+     */
+    public boolean isWhenUsed(int index) {
+        return isUsed(whenBits, 0, index);
+    }
+
+    /**
+     * @param index One-based index of verify lambda, the same index as "v%d" in exception messages
+     * @return True if verify lambda has run, in this JVM or (for a LambdaUsage from LambdaUsageFiles) any other JVM
+     */
+    public boolean isVerifyUsed(int index) {
+        return isUsed(verifyBits, words, index);
+    }
+
+    /**
+     * Returns one-based indexes of when lambdas that have not run. Example: [2] if w2 never ran.
+     */
+    public List<Integer> getUnusedWhens() {
+        return unused(whenBits, 0);
+    }
+
+    /**
+     * Returns one-based indexes of verify lambdas that have not run. Example: [2] if v2 never ran.
+     */
+    public List<Integer> getUnusedVerifies() {
+        return unused(verifyBits, words);
+    }
+
+    /**
+     * Marks when lambdas from fromIndex (inclusive) to toIndex (exclusive) as used.
+     */
+    void markWhens(int fromIndex, int toIndex) {
+        mark(whenBits, 0, fromIndex, toIndex);
+    }
+
+    /**
+     * Marks verify lambdas from fromIndex (inclusive) to toIndex (exclusive) as used.
+     */
+    void markVerifies(int fromIndex, int toIndex) {
+        mark(verifyBits, words, fromIndex, toIndex);
+    }
+
+    private void mark(AtomicLongArray bits, int slotOffset, int fromIndex, int toIndex) {
+        while (fromIndex < toIndex) {
+            int word = fromIndex >>> 6;
+            int wordEnd = Math.min(toIndex, (word + 1) << 6);
+            long mask = (-1L >>> (64 - (wordEnd - fromIndex))) << (fromIndex & 63);
+
+            if ((bits.get(word) & mask) != mask) {
+                bits.accumulateAndGet(word, mask, (current, added) -> current | added);
+                if (slot != null) {
+                    slot.write(slotOffset + word, bits, word);
+                }
+            }
+
+            fromIndex = wordEnd;
+        }
+    }
+
+    private boolean isUsed(AtomicLongArray bits, int slotOffset, int index) {
+        if (index < 1 || index > chainLength) {
+            throw new IllegalArgumentException("index must be between 1 and chainLength!");
+        }
+
+        int word = (index - 1) >>> 6;
+        return ((mergedWord(bits, slotOffset, word) >>> ((index - 1) & 63)) & 1) != 0;
+    }
+
+    private List<Integer> unused(AtomicLongArray bits, int slotOffset) {
+        List<Integer> unused = new ArrayList<>();
+        for (int word = 0; word < words; word++) {
+            long merged = mergedWord(bits, slotOffset, word);
+            int wordEnd = Math.min(chainLength, (word + 1) << 6);
+            for (int i = word << 6; i < wordEnd; i++) {
+                if (((merged >>> (i & 63)) & 1) == 0) {
+                    unused.add(i + 1);
+                }
+            }
+        }
+        return unused;
+    }
+
+    private long mergedWord(AtomicLongArray bits, int slotOffset, int word) {
+        long merged = bits.get(word);
+        if (slot != null) {
+            merged |= slot.readAllSlots(slotOffset + word);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,199 @@
+package com.andyln;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+
+/**
+ * Directory of memory-mapped lambda usage files, one file per chain, shared by every JVM of a test suite (such as
+ * forked Surefire JVMs).
+ * <p>
+ * Each file holds SLOT_COUNT slots of when and verify bitsets. When a JVM first opens a chain's file, it claims a free
+ * slot for as long as it runs, with a file lock on that slot. After that, each JVM only ever writes its own slot, so
+ * bits are merged without locks: reading usage ORs every slot of the file.
+ * <p>
+ * Bits are kept between runs. Delete the directory to start over (a directory under target/ is deleted by mvn clean).
+ * <p>
+ * Example: "mockCoach.putLambdaUsage(LambdaUsageFiles.open(Paths.get("target/lambda-usage")).usage("OrderServiceTest", 3))"
+ */
+public final class LambdaUsageFiles {
+
+    static final int SLOT_COUNT = 64;
+
+    // "MCLU", for Mock Coach Lambda Usage
+    private static final int MAGIC = 0x4D434C55;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private static final Pattern CHAIN_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    // Each usage file is claimed at most once per JVM, as file locks are held by the whole JVM
+    private static final Map<Path, LambdaUsage> OPENED_USAGES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    private LambdaUsageFiles(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens directory of usage files, creating it if it does not exist.
+     *
+     * @param directory Directory shared by every JVM of the suite
+     * @throws IllegalArgumentException If directory is null.
+     * @throws UncheckedIOException     If directory cannot be created.
+     */
+    public static LambdaUsageFiles open(Path directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory cannot be null!");
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new LambdaUsageFiles(directory.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Returns usage of chain, backed by file "chainName.usage" in this directory. Calling again with the same chain
+     * name returns the same LambdaUsage.
+     *
+     * @param chainName   Name of chain, the same in every JVM. Example: name of test class
+     * @param chainLength Number of mocks in chain
+     * @throws IllegalArgumentException If chainName is not only letters, digits, '.', '_' and '-'.
+     *                                  If chainLength is less than one.
+     * @throws IllegalStateException    If file was written for a chain of another length.
+     *                                  If every slot of file is claimed by another JVM.
+     * @throws UncheckedIOException     If file cannot be mapped.
+     */
+    public LambdaUsage usage(String chainName, int chainLength) {
+        if (chainName == null || !CHAIN_NAME.matcher(chainName).matches()) {
+            throw new IllegalArgumentException("chainName can only contain letters, digits, '.', '_' and '-'!");
+        }
+        if (chainLength < 1) {
+            throw new IllegalArgumentException("chainLength must be at least 1!");
+        }
+
+        Path file = directory.resolve(chainName + ".usage");
+        LambdaUsage usage = OPENED_USAGES.computeIfAbsent(file, key -> new LambdaUsage(chainLength, Slot.claim(key, chainLength)));
+        if (usage.getChainLength() != chainLength) {
+            throw new IllegalStateException(file + " is used for a chain of " + usage.getChainLength() + " mocks!");
+        }
+        return usage;
+    }
+
+    /**
+     * Slot of a usage file claimed by this JVM. A slot is the when bitset, followed by the verify bitset.
+     */
+    static final class Slot {
+
+        private final MappedByteBuffer buffer;
+
+        // Kept open to hold lock of slot for as long as this JVM runs, as closing a channel releases its locks
+        private final FileChannel channel;
+        private final FileLock lock;
+
+        private final int slotLongs;
+        private final int slotIndex;
+
+        private Slot(MappedByteBuffer buffer, FileChannel channel, FileLock lock, int slotLongs, int slotIndex) {
+            this.buffer = buffer;
+            this.channel = channel;
+            this.lock = lock;
+            this.slotLongs = slotLongs;
+            this.slotIndex = slotIndex;
+        }
+
+        static Slot claim(Path file, int chainLength) {
+            int slotLongs = 2 * LambdaUsage.wordsFor(chainLength);
+            long slotBytes = 8L * slotLongs;
+            long fileBytes = HEADER_BYTES + SLOT_COUNT * slotBytes;
+
+            FileChannel channel = null;
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                long existingBytes = channel.size();
+                if (existingBytes != 0 && existingBytes != fileBytes) {
+                    throw new IllegalStateException(file + " was written for a chain of another length!");
+                }
+
+                // Mapping extends a new file with zeros. Every JVM writes the same header, so creating a file at the
+                // same time as another JVM is harmless
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                if (buffer.getInt(0) == 0) {
+                    buffer.putInt(4, VERSION);
+                    buffer.putInt(8, chainLength);
+                    buffer.putInt(12, SLOT_COUNT);
+                    buffer.putInt(0, MAGIC);
+                } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IllegalStateException(file + " is not a lambda usage file!");
+                } else if (buffer.getInt(8) != chainLength) {
+                    throw new IllegalStateException(file + " was written for a chain of " + buffer.getInt(8) + " mocks!");
+                }
+
+                for (int slotIndex = 0; slotIndex < SLOT_COUNT; slotIndex++) {
+                    FileLock lock = channel.tryLock(HEADER_BYTES + slotIndex * slotBytes, slotBytes, false);
+                    if (lock != null) {
+                        return new Slot(buffer, channel, lock, slotLongs, slotIndex);
+                    }
+                }
+            } catch (IOException e) {
+                closeQuietly(channel);
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                closeQuietly(channel);
+                throw e;
+            }
+
+            closeQuietly(channel);
+            throw new IllegalStateException("Every slot of " + file + " is claimed by another JVM!");
+        }
+
+        private static void closeQuietly(FileChannel channel) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Nothing was claimed, so there is nothing to release
+            }
+        }
+
+        long read(int slotLong) {
+            return buffer.getLong(offset(slotIndex, slotLong));
+        }
+
+        /**
+         * Writes current value of bits[word] to this slot. Synchronized, so a stale value never overwrites a newer one.
+         */
+        synchronized void write(int slotLong, AtomicLongArray bits, int word) {
+            buffer.putLong(offset(slotIndex, slotLong), bits.get(word));
+        }
+
+        long readAllSlots(int slotLong) {
+            long merged = 0;
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                merged |= buffer.getLong(offset(i, slotLong));
+            }
+            return merged;
+        }
+
+        private int offset(int slot, int slotLong) {
+            return HEADER_BYTES + 8 * (slot * slotLongs + slotLong);
+        }
+    }
+}
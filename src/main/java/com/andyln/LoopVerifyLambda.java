@@ -0,0 +1,47 @@
+package com.andyln;
+
+/**
+ * Verify lambda of a loop added with MockCoach.Builder.addLoop(...).
+ * <p>
+ * Runs the RepeatedVerifyLambda once, with the number of repetitions, so one verify checks every repetition of the loop.
+ * The loop is never unrolled, so a chain takes the same memory whatever the number of repetitions.
+ */
+class LoopVerifyLambda implements RepeatedVerifyLambda {
+
+    final RepeatedVerifyLambda verifyLambda;
+    final int times;
+
+    private LoopVerifyLambda(RepeatedVerifyLambda verifyLambda, int times) {
+        this.verifyLambda = verifyLambda;
+        this.times = times;
+    }
+
+    /**
+     * Returns verifyLambda repeated times. A loop nested in a loop multiplies the repetitions,
+     * and a ConcurrentVerifyLambda stays a ConcurrentVerifyLambda.
+     */
+    static RepeatedVerifyLambda of(RepeatedVerifyLambda verifyLambda, int times) {
+        if (verifyLambda instanceof LoopVerifyLambda) {
+            LoopVerifyLambda innerLoop = (LoopVerifyLambda) verifyLambda;
+            return of(innerLoop.verifyLambda, Math.multiplyExact(innerLoop.times, times));
+        }
+
+        if (verifyLambda instanceof ConcurrentVerifyLambda) {
+            return new Concurrent(verifyLambda, times);
+        }
+
+        return new LoopVerifyLambda(verifyLambda, times);
+    }
+
+    @Override
+    public void run(int times) throws Exception {
+        verifyLambda.run(Math.multiplyExact(this.times, times));
+    }
+
+    static final class Concurrent extends LoopVerifyLambda implements ConcurrentVerifyLambda {
+
+        private Concurrent(RepeatedVerifyLambda verifyLambda, int times) {
+            super(verifyLambda, times);
+        }
+    }
+}
@@ -1,31 +1,41 @@
 package com.andyln;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class MockCoach {
 
-    private Object[] mocks;
-    private WhenLambda[] whenLambdas;
-    private VerifyLambda[] verifyLambdas;
+    private ChainPlan plan;
 
     private NoInteractionLambda verifyNoInteractionLambda;
 
-    private Map<Object, Integer> mockMap;
+    // If not null, used instead of verifyNoInteractionLambda
+    private BatchNoInteractionLambda batchNoInteractionLambda;
 
-    private boolean containsMoreThanOneMock;
+    // If not null, verifies run in parallel on this executor
+    private Executor verifyExecutor;
 
-    private boolean canCallWhenTheRest;
-    private boolean canCallVerifyTheRest;
-    private int lastSuccessfulMockIndex;
+    // If not null, called after every lambda run
+    private LambdaListener lambdaListener;
 
-    /*
-     * If true, mocks are in a circle chain
-     * If false, mocks are in a path graph chain
-     */
-    private boolean isMocksInCircleChain;
+    // If not null, called after every range method call
+    private RangeListener rangeListener;
+
+    // If not null, marks whens and verifies of every range that succeeds
+    private LambdaUsage lambdaUsage;
+
+    // If true, every verify in a range runs, and all failures are reported together
+    private boolean isSoftVerify;
+
+    // If not null, runs whens and verifies instead of plan, when not timed or collected
+    private ChainRunner chainRunner;
+
+    private IdentityMockIndex mockIndex;
+
+    private ChainCursor cursor;
+
+    // If not null, each thread uses its own cursor, instead of cursor
+    private ThreadLocal<ChainCursor> threadLocalCursor;
 
     /**
      * super() for subclass
@@ -35,6 +45,10 @@ public class MockCoach {
 
     // Shared private constructor
     private void setupMockCoach(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas) {
+        setupMockCoach(mocks, whenLambdas, verifyLambdas, null, null, null);
+    }
+
+    private void setupMockCoach(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas, Object handleOwner, Object[] stepKeys, int[] stepEnds) {
         if (mocks == null) {
             throw new IllegalArgumentException("mocks/whens/verifies cannot be null!");
         }
@@ -51,14 +65,20 @@ public class MockCoach {
             throw new IllegalArgumentException("mocks/whens/verifies cannot be empty!");
         }
 
-        mockMap = new HashMap<>();
+        boolean containsMoreThanOneMock = mocks.length > 1;
 
-        containsMoreThanOneMock = mocks.length > 1;
-
-        isMocksInCircleChain = mocks[0] == mocks[mocks.length - 1];
+        // A coach added with Builder.addCoach(...) cannot be the first/last step of a circle chain
+        boolean isMocksInCircleChain = mocks[0] == mocks[mocks.length - 1]
+                && (stepKeys == null || stepKeys[0] == mocks[0] && stepKeys[mocks.length - 1] == mocks[mocks.length - 1]);
 
         int lengthOfMocksToCheck = isMocksInCircleChain && containsMoreThanOneMock ? mocks.length - 1 : mocks.length;
+        IdentityMockIndex mockIndex = new IdentityMockIndex(lengthOfMocksToCheck);
         for (int i = 0; i < lengthOfMocksToCheck; i++) {
+            // Mocks of a coach added with Builder.addCoach(...) were checked by that coach, which is looked up instead
+            if (stepKeys != null && stepKeys[i] == null && mocks[i] != null) {
+                continue;
+            }
+
             if (mocks[i] == null) {
                 throw new IllegalArgumentException(String.format("m%d cannot be null!", i + 1));
             }
@@ -79,19 +99,17 @@ public class MockCoach {
                 throw new IllegalArgumentException(String.format("m%d cannot be instance of Enum! Please use LegacyMockCoachBuilder and LegacyMockCoach for Enum support.", i + 1));
             }
 
-            Object potentiallyDuplicateMock = mockMap.put(mocks[i], i);
-            boolean isDuplicateMock = potentiallyDuplicateMock != null;
+            int potentiallyDuplicateMockIndex = mockIndex.putIfAbsent(stepKeys == null ? mocks[i] : stepKeys[i], i);
+            boolean isDuplicateMock = potentiallyDuplicateMockIndex != IdentityMockIndex.NOT_FOUND;
             if (isDuplicateMock) {
                 throw new IllegalArgumentException(String.format("m%d cannot be the same as a previous mock in mocks!", i + 1));
             }
         }
 
-        this.mocks = mocks;
-        this.whenLambdas = whenLambdas;
-        this.verifyLambdas = verifyLambdas;
+        this.mockIndex = mockIndex;
+        this.plan = new ChainPlan(mocks, whenLambdas, verifyLambdas, isMocksInCircleChain, handleOwner, stepEnds);
 
-        this.canCallWhenTheRest = false;
-        this.lastSuccessfulMockIndex = 0;
+        this.cursor = new ChainCursor();
     }
 
     /**
@@ -106,6 +124,34 @@ public class MockCoach {
         setupMockCoach(mocks, whenLambdas, verifyLambdas);
     }
 
+    /**
+     * A Mock Coach, accepting MockHandles issued by handleOwner, with steps of Builder.addCoach(...) described by stepKeys
+     * and stepEnds (see ChainSteps), or null if every step is a single mock.
+     */
+    MockCoach(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas, Object handleOwner, Object[] stepKeys, int[] stepEnds) {
+        setupMockCoach(mocks, whenLambdas, verifyLambdas, handleOwner, stepKeys, stepEnds);
+    }
+
+    /**
+     * Session of a MockCoachTemplate. Shares the template's chain, with a fresh cursor.
+     */
+    MockCoach(MockCoachTemplate template) {
+        this.plan = template.plan;
+        this.mockIndex = template.mockIndex;
+        this.verifyNoInteractionLambda = template.verifyNoInteractionLambda;
+        this.batchNoInteractionLambda = template.batchNoInteractionLambda;
+        this.verifyExecutor = template.verifyExecutor;
+        this.lambdaListener = template.lambdaListener;
+        this.rangeListener = template.rangeListener;
+        this.lambdaUsage = template.lambdaUsage;
+        this.isSoftVerify = template.isSoftVerify;
+        this.chainRunner = template.chainRunner;
+        this.cursor = new ChainCursor();
+        if (template.isThreadLocalCursor) {
+            this.threadLocalCursor = ThreadLocal.withInitial(ChainCursor::new);
+        }
+    }
+
     /**
      * One Mock, MockCoach.
      *
@@ -357,37 +403,244 @@ public class MockCoach {
     }
 
     /**
-     * Runs all whens before, and not including, when corresponding to mock.
+     * Allows usage of verifyNoInteractionsTheRest and verifyNoInteractionsTheRestAfter, verifying all remaining mocks
+     * with one call of batchNoInteractionLambda. Used instead of a lambda from putVerifyNoInteractions(NoInteractionLambda).
+     * <p>
+     * If the batch throws an exception, it is run again on one mock at a time, to report which mock fails.
+     *
+     * @param batchNoInteractionLambda A Java Lambda. Example: "putBatchVerifyNoInteractions(mocks -&gt; verifyNoMoreInteractions(mocks.toArray()))"
+     */
+    public MockCoach putBatchVerifyNoInteractions(BatchNoInteractionLambda batchNoInteractionLambda) {
+        this.batchNoInteractionLambda = batchNoInteractionLambda;
+        return this;
+    }
+
+    /**
+     * Returns a template of this MockCoach's chain and current settings, to create MockCoach sessions from
+     * without re-validating the chain. See MockCoachTemplate.
+     *
+     * @return MockCoachTemplate
+     */
+    public MockCoachTemplate template() {
+        return new MockCoachTemplate(plan, mockIndex, verifyNoInteractionLambda, batchNoInteractionLambda, verifyExecutor, lambdaListener, rangeListener, lambdaUsage, isSoftVerify, chainRunner, threadLocalCursor != null);
+    }
+
+    /**
+     * Returns a new MockCoach sharing this MockCoach's chain and current settings, with a fresh cursor.
+     * Does not re-validate the chain.
+     *
+     * @return MockCoach
+     */
+    public MockCoach newSession() {
+        // Settings are copied in one place, MockCoach(MockCoachTemplate)
+        return template().newSession();
+    }
+
+    /**
+     * Gives each thread its own cursor (the state used by whenTheRest()/verifyTheRest()), so one MockCoach can be
+     * shared by tests running in parallel, such as with JUnit 5 "junit.jupiter.execution.parallel.enabled".
+     * <p>
+     * Call before sharing this MockCoach between threads. Alternatively, give each test its own MockCoach with newSession().
+     */
+    public MockCoach putThreadLocalCursor() {
+        if (threadLocalCursor == null) {
+            threadLocalCursor = ThreadLocal.withInitial(ChainCursor::new);
+        }
+        return this;
+    }
+
+    /**
+     * Runs verifies in parallel on the common ForkJoinPool. See putParallelVerifies(Executor).
+     */
+    public MockCoach putParallelVerifies() {
+        return putParallelVerifies(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs verifies in parallel. Only verify lambdas that are a ConcurrentVerifyLambda run on executor,
+     * every other verify lambda runs in order on the calling thread.
+     * <p>
+     * All verify lambdas in a range are run, and the verify with the lowest index that fails is reported,
+     * with the same exception as when running verifies one after another.
+     * <p>
+     * If the no interaction lambda is a ConcurrentNoInteractionLambda, it also runs on executor, once per mock.
+     *
+     * @param verifyExecutor Executor to run ConcurrentVerifyLambdas on. Example: "putParallelVerifies(ForkJoinPool.commonPool())"
+     */
+    public MockCoach putParallelVerifies(Executor verifyExecutor) {
+        if (verifyExecutor == null) {
+            throw new IllegalArgumentException("verifyExecutor cannot be null!");
+        }
+
+        this.verifyExecutor = verifyExecutor;
+        return this;
+    }
+
+    /**
+     * Runs verifies in parallel, on a new virtual thread per lambda run. See putParallelVerifies(Executor).
+     * <p>
+     * Virtual threads need Java 21. On earlier Java versions, this does nothing, and verifies keep running in order on
+     * the calling thread. Use isVirtualThreadVerifiesAvailable() to check which one applies.
+     */
+    public MockCoach putVirtualThreadVerifies() {
+        if (!VirtualThreads.isAvailable()) {
+            return this;
+        }
+        return putParallelVerifies(VirtualThreads.perTaskExecutor());
+    }
+
+    /**
+     * Returns true if putVirtualThreadVerifies() runs verifies on virtual threads, or false if it keeps running verifies
+     * in order on the calling thread (before Java 21).
+     */
+    public static boolean isVirtualThreadVerifiesAvailable() {
+        return VirtualThreads.isAvailable();
+    }
+
+    /**
+     * Calls listener after every when lambda, verify lambda, and no interaction lambda run by this MockCoach.
+     * Without a listener, lambdas are not timed.
+     *
+     * @param lambdaListener Listener, or null to remove previous listener.
+     *                       Example: "putLambdaListener((phase, index, mock, elapsedNanos) -&gt; System.out.println(...))"
+     */
+    public MockCoach putLambdaListener(LambdaListener lambdaListener) {
+        this.lambdaListener = lambdaListener;
+        return this;
+    }
+
+    /**
+     * Calls listener after every range method call of this MockCoach, with the time taken to run its lambdas.
+     * Without a listener, ranges are not timed.
+     *
+     * @param rangeListener Listener, or null to remove previous listener.
+     *                      Example: "putRangeListener((rangeName, firstIndex, lastIndex, elapsedNanos) -&gt; System.out.println(...))"
+     */
+    public MockCoach putRangeListener(RangeListener rangeListener) {
+        this.rangeListener = rangeListener;
+        return this;
+    }
+
+    /**
+     * Returns listener put by putRangeListener(RangeListener), or null if there is none.
+     */
+    public RangeListener getRangeListener() {
+        return rangeListener;
+    }
+
+    /**
+     * Marks every when lambda and verify lambda of a range in lambdaUsage, once the range method succeeds.
+     * Lambdas of a range that throws an exception are not marked.
+     *
+     * @param lambdaUsage Usage with the same chain length as mocks, or null to stop marking.
+     *                    Example: "putLambdaUsage(LambdaUsageFiles.open(directory).usage("OrderServiceTest", 3))"
+     * @throws IllegalArgumentException If lambdaUsage has a different chain length than mocks.
+     */
+    public MockCoach putLambdaUsage(LambdaUsage lambdaUsage) {
+        if (lambdaUsage != null && lambdaUsage.getChainLength() != plan.length) {
+            throw new IllegalArgumentException("lambdaUsage must have the same chain length as mocks!");
+        }
+
+        this.lambdaUsage = lambdaUsage;
+        return this;
+    }
+
+    /**
+     * Runs every verify in a range, instead of stopping at the first failing verify, so one run reports every
+     * failing verify.
+     * <p>
+     * A single failure is reported with the same exception as without soft verifies. More than one failure is
+     * reported with a MultipleVerifyFailuresException, containing every failure by verify number.
+     */
+    public MockCoach putSoftVerifies() {
+        this.isSoftVerify = true;
+        return this;
+    }
+
+    /**
+     * Runs whens and verifies with a class generated for this chain, which calls each when lambda and verify lambda from
+     * its own call site. In large test suites, this lets the JIT compiler inline lambdas, instead of every lambda
+     * being called from the same few (megamorphic) call sites.
+     * <p>
+     * Generating the class costs more than constructing a MockCoach, so is only worth it for chains that run many times,
+     * such as a template's chain. Lambdas are still run by the usual loops while timed by a LambdaListener or Java
+     * Flight Recorder, for soft verifies, for parallel verifies, and for chains longer than 1024 mocks.
+     */
+    public MockCoach putGeneratedRunner() {
+        if (chainRunner == null) {
+            chainRunner = ChainRunnerGenerator.generate(plan.mocks, plan.whenLambdas, plan.verifyLambdas);
+        }
+        return this;
+    }
+
+    /**
+     * Returns a handle of mock, to pass to methods such as whenBefore(MockHandle) instead of mock.
+     * <p>
+     * For the first/last mock of a circle chain, returns a handle of the first mock. A handle of the last mock is only
+     * returned by Builder.addAndGetHandle(...).
      *
      * @param mock Any mock within mocks.
+     * @param <T>  Type of mock
+     * @return MockHandle
+     * @throws IllegalArgumentException Calling with object not in mocks.
+     */
+    public <T> MockHandle<T> handle(T mock) {
+        int indexOfMock = mockIndex.indexOf(mock);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call handle(Object mock) for mock not in mocks!");
+        }
+
+        return new MockHandle<>(plan.handleOwner, indexOfMock, mock);
+    }
+
+    /**
+     * Runs all whens before, and not including, when corresponding to mock.
+     *
+     * @param mock Any mock within mocks, or a coach added with Builder.addCoach(...).
      * @throws IllegalStateException    Calling this method for first/last mocks in circle chain
      *                                  (because first and last mock are the same, there would no way to tell which mock to use).
      *                                  For circle chains, call either whenBeforeFirst() or whenBeforeLast()
      * @throws IllegalArgumentException Calling with object not in mocks.
      */
     public void whenBefore(Object mock) {
-        if (containsMoreThanOneMock && isMocksInCircleChain && mock == mocks[0]) {
+        ChainCursor cursor = cursor();
+
+        if (plan.isCircleChainEndpoint(mock)) {
             throw new IllegalStateException("Cannot call whenBefore(Object mock) for first/last mock in a circle chain! For mocks in a circle chain, use whenBeforeFirst() or whenBeforeLast()");
         }
 
-        Integer objectIndexOfMock = mockMap.get(mock);
+        int indexOfMock = mockIndex.indexOf(mock);
 
-        if (objectIndexOfMock == null) {
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
             throw new IllegalArgumentException("Cannot call whenBefore(Object mock) for mock not in mocks!");
         }
 
-        int indexOfMock = objectIndexOfMock;
+        runWhens("whenBefore", 0, indexOfMock);
 
-        for (int i = 0; i < indexOfMock; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
+        cursor.canCallWhenTheRest = true;
+        cursor.lastSuccessfulMockIndex = plan.stepEnd(indexOfMock) - 1;
+    }
+
+    /**
+     * Runs all whens before, and not including, when corresponding to mock of handle.
+     *
+     * @param handle Handle of any mock within mocks.
+     * @throws IllegalArgumentException Calling with handle of another chain.
+     */
+    public void whenBefore(MockHandle<?> handle) {
+        ChainCursor cursor = cursor();
+
+        int indexOfMock = plan.indexOf(handle);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call whenBefore(MockHandle handle) for handle of another chain!");
         }
 
-        canCallWhenTheRest = true;
-        lastSuccessfulMockIndex = indexOfMock;
+        runWhens("whenBefore", 0, indexOfMock);
+
+        cursor.canCallWhenTheRest = true;
+        cursor.lastSuccessfulMockIndex = plan.stepEnd(indexOfMock) - 1;
     }
 
     /**
@@ -399,12 +652,14 @@ public class MockCoach {
      *                               For directed path chains, call whenBefore(INSERT_FIRST_MOCK_HERE)
      */
     public void whenBeforeFirst() {
-        if (containsMoreThanOneMock && !isMocksInCircleChain) {
+        ChainCursor cursor = cursor();
+
+        if (plan.containsMoreThanOneMock && !plan.isMocksInCircleChain) {
             throw new IllegalStateException("Cannot call whenBeforeFirst() for mocks in a path graph! For mocks in a path graph, use whenBefore(INSERT_FIRST_MOCK_HERE)");
         }
 
-        canCallWhenTheRest = true;
-        lastSuccessfulMockIndex = 0;
+        cursor.canCallWhenTheRest = true;
+        cursor.lastSuccessfulMockIndex = 0;
     }
 
     /**
@@ -415,50 +670,68 @@ public class MockCoach {
      *                               For directed path chains, call whenBefore(INSERT_LAST_MOCK_HERE)
      */
     public void whenBeforeLast() {
-        if (containsMoreThanOneMock && !isMocksInCircleChain) {
+        if (plan.containsMoreThanOneMock && !plan.isMocksInCircleChain) {
             throw new IllegalStateException("Cannot call whenBeforeLast() for mocks in a path graph! For mocks in a path graph, use whenBefore(INSERT_LAST_MOCK_HERE)");
         }
 
-        int indexOfLastMock = this.mocks.length - 1;
-        for (int i = 0; i < indexOfLastMock; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
-        }
+        runWhens("whenBeforeLast", 0, plan.lastIndex);
     }
 
     /**
      * Runs all whens.
      */
     public void whenAll() {
-        for (int i = 0; i < this.mocks.length; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
+        runWhens("whenAll", 0, plan.length);
+    }
+
+    /**
+     * Runs all whens before, and not including, when corresponding to mock. Every AsyncWhenLambda prepares its fixture
+     * values concurrently first, then whens stub in order on the calling thread.
+     *
+     * @param mock Any mock within mocks, excluding first/last mock in a circle chain.
+     * @throws IllegalStateException    Calling with first/last mock in a circle chain.
+     * @throws IllegalArgumentException Calling with object not in mocks.
+     */
+    public void whenBeforeAsync(Object mock) {
+        ChainCursor cursor = cursor();
+
+        if (plan.isCircleChainEndpoint(mock)) {
+            throw new IllegalStateException("Cannot call whenBeforeAsync(Object mock) for first/last mock in a circle chain! For mocks in a circle chain, use whenBeforeFirst() or whenBeforeLast()");
+        }
+
+        int indexOfMock = mockIndex.indexOf(mock);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call whenBeforeAsync(Object mock) for mock not in mocks!");
         }
+
+        runWhensAsync("whenBeforeAsync", 0, indexOfMock);
+
+        cursor.canCallWhenTheRest = true;
+        cursor.lastSuccessfulMockIndex = plan.stepEnd(indexOfMock) - 1;
+    }
+
+    /**
+     * Runs all whens. Every AsyncWhenLambda prepares its fixture values concurrently first, then whens stub in order on
+     * the calling thread.
+     */
+    public void whenAllAsync() {
+        runWhensAsync("whenAllAsync", 0, plan.length);
     }
 
     /**
      * Runs when lambdas after, but not including, mock used in previous method.
      */
     public void whenTheRest() {
-        if (!canCallWhenTheRest) {
+        ChainCursor cursor = cursor();
+
+        if (!cursor.canCallWhenTheRest) {
             throw new IllegalStateException("Cannot call whenTheRest()! Must be called only after whenBefore(mock) or whenThroughFirst()");
         }
 
-        for (int i = lastSuccessfulMockIndex + 1; i < this.mocks.length; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
-        }
+        runWhens("whenTheRest", cursor.lastSuccessfulMockIndex + 1, plan.length);
 
-        canCallWhenTheRest = false;
+        cursor.canCallWhenTheRest = false;
     }
 
     /**
@@ -471,103 +744,168 @@ public class MockCoach {
      *                                  Calling with mock not after previously used mock (would unnecessarily re-run previously run when lambdas).
      */
     public void whenTheRestAfter(Object mock) {
-        if (!canCallWhenTheRest) {
+        ChainCursor cursor = cursor();
+
+        if (!cursor.canCallWhenTheRest) {
             throw new IllegalStateException("Cannot call whenTheRestAfter(Object mock)! Must be called only after whenBefore(mock) or whenThroughFirst()");
         }
 
-        if (isMocksInCircleChain && mock == mocks[0]) {
+        if (plan.isMocksInCircleChain && mock == plan.firstMock) {
             throw new IllegalArgumentException("Cannot call whenTheRestAfter(Object mock) for first or last mock in circle chain. If specifying first mock, use whenTheRest(). If specifying the last mock, then this method does not have to be called (will have identical functionality)");
         }
 
-        if (mock == mocks[mocks.length - 1]) {
-            throw new IllegalArgumentException("Cannot call whenTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality");
+        int indexOfMock = mockIndex.indexOf(mock);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call whenTheRestAfter(Object mock) for mock not in mocks!");
         }
 
-        Integer objectIndexOfMock = mockMap.get(mock);
+        int stepEnd = plan.stepEnd(indexOfMock);
 
-        if (objectIndexOfMock == null) {
-            throw new IllegalArgumentException("Cannot call whenTheRestAfter(Object mock) for mock not in mocks!");
+        if (stepEnd == plan.length) {
+            throw new IllegalArgumentException("Cannot call whenTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality");
         }
 
-        if (objectIndexOfMock < lastSuccessfulMockIndex) {
+        if (stepEnd - 1 < cursor.lastSuccessfulMockIndex) {
             throw new IllegalArgumentException("Cannot call whenTheRestAfter(Object mock) for a mock located before previously used mock! Make sure correct mock is being passed into this method");
         }
 
-        for (int i = objectIndexOfMock + 1; i < this.mocks.length; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
+        runWhens("whenTheRestAfter", stepEnd, plan.length);
+    }
+
+    /**
+     * Runs when lambdas after, but not including, mock of handle.
+     *
+     * @param handle Handle of mock after previously used mock, excluding last mock
+     * @throws IllegalStateException    Calling this method when not using whenBefore(mock)
+     * @throws IllegalArgumentException Calling with handle of another chain.
+     *                                  Calling with handle of last mock (this method does not have to be called, in this case).
+     *                                  Calling with handle of mock not after previously used mock (would unnecessarily re-run previously run when lambdas).
+     */
+    public void whenTheRestAfter(MockHandle<?> handle) {
+        ChainCursor cursor = cursor();
+
+        if (!cursor.canCallWhenTheRest) {
+            throw new IllegalStateException("Cannot call whenTheRestAfter(MockHandle handle)! Must be called only after whenBefore(mock) or whenThroughFirst()");
+        }
+
+        int indexOfMock = plan.indexOf(handle);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call whenTheRestAfter(MockHandle handle) for handle of another chain!");
         }
+
+        int stepEnd = plan.stepEnd(indexOfMock);
+
+        if (stepEnd == plan.length) {
+            throw new IllegalArgumentException("Cannot call whenTheRestAfter(MockHandle handle) for the last mock! Not calling this method will have identical functionality");
+        }
+
+        if (stepEnd - 1 < cursor.lastSuccessfulMockIndex) {
+            throw new IllegalArgumentException("Cannot call whenTheRestAfter(MockHandle handle) for a mock located before previously used mock! Make sure correct handle is being passed into this method");
+        }
+
+        runWhens("whenTheRestAfter", stepEnd, plan.length);
     }
 
     /**
      * Runs all verifies before, and not including, verify corresponding to mock.
      *
-     * @param mock Any mock within mocks.
+     * @param mock Any mock within mocks, or a coach added with Builder.addCoach(...).
      * @throws IllegalStateException    Calling this method for first/last mocks in circle chain
      *                                  (because first and last mock are the same, there would no way to tell which mock to use).
      *                                  For circle chains, call either verifyBeforeFirst() or verifyBeforeLast()
      * @throws IllegalArgumentException Calling with object not in mocks.
      */
     public void verifyBefore(Object mock) {
-        if (containsMoreThanOneMock && isMocksInCircleChain && mock == mocks[0]) {
+        ChainCursor cursor = cursor();
+
+        if (plan.isCircleChainEndpoint(mock)) {
             throw new IllegalStateException("Cannot call verifyBefore(Object mock) for first/last mock in a circle chain! For mocks in a circle chain, use verifyBeforeFirst() or verifyBeforeLast()");
         }
 
-        Integer objectIndexOfMock = mockMap.get(mock);
+        int indexOfMock = mockIndex.indexOf(mock);
 
-        if (objectIndexOfMock == null) {
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
             throw new IllegalArgumentException("Cannot call verifyBefore(Object mock) for mock not in mocks!");
         }
 
-        int indexOfMock = objectIndexOfMock;
+        runVerifies("verifyBefore", 0, indexOfMock);
 
-        for (int i = 0; i < indexOfMock; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = plan.stepEnd(indexOfMock) - 1;
+    }
+
+    /**
+     * Runs all verifies before, and not including, verify corresponding to mock of handle.
+     *
+     * @param handle Handle of any mock within mocks.
+     * @throws IllegalArgumentException Calling with handle of another chain.
+     */
+    public void verifyBefore(MockHandle<?> handle) {
+        ChainCursor cursor = cursor();
+
+        int indexOfMock = plan.indexOf(handle);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call verifyBefore(MockHandle handle) for handle of another chain!");
         }
 
-        canCallVerifyTheRest = true;
-        lastSuccessfulMockIndex = indexOfMock;
+        runVerifies("verifyBefore", 0, indexOfMock);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = plan.stepEnd(indexOfMock) - 1;
     }
 
     /**
      * Runs all verifies up to, and including, verify corresponding to mock.
      *
-     * @param mock Any mock within mocks.
+     * @param mock Any mock within mocks, or a coach added with Builder.addCoach(...).
      * @throws IllegalStateException    Calling this method for first/last mocks in circle chain
      *                                  (because first and last mock are the same, there would no way to tell which mock to use).
      *                                  For circle chains, call either verifyThroughFirst() or verifyThroughLast()
      * @throws IllegalArgumentException Calling with object not in mocks.
      */
     public void verifyThrough(Object mock) {
-        if (containsMoreThanOneMock && isMocksInCircleChain && mock == mocks[0]) {
+        ChainCursor cursor = cursor();
+
+        if (plan.isCircleChainEndpoint(mock)) {
             throw new IllegalStateException("Cannot call verifyThrough(Object mock) for first/last mock in a circle chain! For mocks in a circle chain, use verifyThroughFirst() or verifyThroughLast()");
         }
 
-        Integer objectIndexOfMock = mockMap.get(mock);
+        int indexOfMock = mockIndex.indexOf(mock);
 
-        if (objectIndexOfMock == null) {
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
             throw new IllegalArgumentException("Cannot call verifyThrough(Object mock) for mock not in mocks!");
         }
 
-        int indexOfMock = objectIndexOfMock;
+        int stepEnd = plan.stepEnd(indexOfMock);
+        runVerifies("verifyThrough", 0, stepEnd);
 
-        for (int i = 0; i <= indexOfMock; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = stepEnd - 1;
+    }
+
+    /**
+     * Runs all verifies up to, and including, verify corresponding to mock of handle.
+     *
+     * @param handle Handle of any mock within mocks.
+     * @throws IllegalArgumentException Calling with handle of another chain.
+     */
+    public void verifyThrough(MockHandle<?> handle) {
+        ChainCursor cursor = cursor();
+
+        int indexOfMock = plan.indexOf(handle);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call verifyThrough(MockHandle handle) for handle of another chain!");
         }
 
-        canCallVerifyTheRest = true;
-        lastSuccessfulMockIndex = indexOfMock;
+        int stepEnd = plan.stepEnd(indexOfMock);
+        runVerifies("verifyThrough", 0, stepEnd);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = stepEnd - 1;
     }
 
     /**
@@ -579,12 +917,14 @@ public class MockCoach {
      *                               For directed path chains, call verifyBefore(INSERT_FIRST_MOCK_HERE)
      */
     public void verifyBeforeFirst() {
-        if (containsMoreThanOneMock && !isMocksInCircleChain) {
+        ChainCursor cursor = cursor();
+
+        if (plan.containsMoreThanOneMock && !plan.isMocksInCircleChain) {
             throw new IllegalStateException("Cannot call verifyBeforeFirst() for mocks in a path graph! For mocks in a path graph, use verifyBefore(INSERT_FIRST_MOCK_HERE)");
         }
 
-        canCallVerifyTheRest = true;
-        lastSuccessfulMockIndex = 0;
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = 0;
     }
 
     /**
@@ -595,17 +935,11 @@ public class MockCoach {
      *                               For directed path chains, call verifyBefore(INSERT_LAST_MOCK_HERE)
      */
     public void verifyBeforeLast() {
-        if (containsMoreThanOneMock && !isMocksInCircleChain) {
+        if (plan.containsMoreThanOneMock && !plan.isMocksInCircleChain) {
             throw new IllegalStateException("Cannot call verifyBeforeLast() for mocks in a path graph! For mocks in a path graph, use verifyBefore(INSERT_LAST_MOCK_HERE)");
         }
 
-        for (int i = 0; i < this.mocks.length - 1; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies("verifyBeforeLast", 0, plan.lastIndex);
     }
 
     /**
@@ -617,18 +951,16 @@ public class MockCoach {
      *                               For directed path chains, call verifyThrough(INSERT_FIRST_MOCK_HERE)
      */
     public void verifyThroughFirst() {
-        if (containsMoreThanOneMock && !isMocksInCircleChain) {
+        ChainCursor cursor = cursor();
+
+        if (plan.containsMoreThanOneMock && !plan.isMocksInCircleChain) {
             throw new IllegalStateException("Cannot call verifyThroughFirst() for mocks in a path graph! For mocks in a path graph, use verifyThrough(INSERT_FIRST_MOCK_HERE)");
         }
 
-        try {
-            verifyLambdas[0].run();
-        } catch (Exception e) {
-            throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", 1), e);
-        }
+        runVerifies("verifyThroughFirst", 0, 1);
 
-        canCallVerifyTheRest = true;
-        lastSuccessfulMockIndex = 0;
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = 0;
     }
 
     /**
@@ -640,7 +972,7 @@ public class MockCoach {
      *                               For directed path chains, call verifyThrough(INSERT_LAST_MOCK_HERE)
      */
     public void verifyThroughLast() {
-        if (containsMoreThanOneMock && !isMocksInCircleChain) {
+        if (plan.containsMoreThanOneMock && !plan.isMocksInCircleChain) {
             throw new IllegalStateException("Cannot call verifyThroughLast() for mocks in a path graph! For mocks in a path graph, use verifyThrough(INSERT_LAST_MOCK_HERE)");
         }
 
@@ -651,55 +983,41 @@ public class MockCoach {
      * Runs all verifies.
      */
     public void verifyAll() {
-        for (int i = 0; i < this.mocks.length; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies("verifyAll", 0, plan.length);
     }
 
     /**
      * Runs verify lambdas after, but not including, mock used in previous method.
      */
     public void verifyTheRest() {
-        if (!canCallVerifyTheRest) {
+        ChainCursor cursor = cursor();
+
+        if (!cursor.canCallVerifyTheRest) {
             throw new IllegalStateException("Cannot call verifyTheRest()! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()");
         }
 
-        for (int i = lastSuccessfulMockIndex + 1; i < this.mocks.length; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies("verifyTheRest", cursor.lastSuccessfulMockIndex + 1, plan.length);
 
-        canCallVerifyTheRest = false;
+        cursor.canCallVerifyTheRest = false;
     }
 
     /**
      * Runs no interaction lambda after, but not including, mocks used in previous method.
      */
     public void verifyNoInteractionsTheRest() {
-        if (verifyNoInteractionLambda == null) {
+        ChainCursor cursor = cursor();
+
+        if (verifyNoInteractionLambda == null && batchNoInteractionLambda == null) {
             throw new IllegalStateException("Must setVerifyNoInteractions(Lambda). Example: 'MockCoach mockCoach = new MockCoach(...).setVerifyNoInteractions(mock -> verifyNoMoreInteractions(mock));'");
         }
 
-        if (!canCallVerifyTheRest) {
+        if (!cursor.canCallVerifyTheRest) {
             throw new IllegalStateException("Cannot call verifyNoInteractionsTheRest()! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()");
         }
 
-        for (int i = lastSuccessfulMockIndex + 1; i < this.mocks.length; i++) {
-            try {
-                verifyNoInteractionLambda.run(mocks[i]);
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("m%d throws an exception! Please check your mocks and verification lambda", i + 1), e);
-            }
-        }
+        runNoInteractions("verifyNoInteractionsTheRest", cursor.lastSuccessfulMockIndex + 1, plan.length, "m%d throws an exception! Please check your mocks and verification lambda");
 
-        canCallVerifyTheRest = false;
+        cursor.canCallVerifyTheRest = false;
     }
 
     /**
@@ -712,35 +1030,68 @@ public class MockCoach {
      *                                  Calling with mock not after previously used mock (would unnecessarily re-run previously run when lambdas).
      */
     public void verifyTheRestAfter(Object mock) {
-        if (!canCallVerifyTheRest) {
+        ChainCursor cursor = cursor();
+
+        if (!cursor.canCallVerifyTheRest) {
             throw new IllegalStateException("Cannot call verifyTheRestAfter(Object mock)! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()");
         }
 
-        if (isMocksInCircleChain && mock == mocks[0]) {
+        if (plan.isMocksInCircleChain && mock == plan.firstMock) {
             throw new IllegalArgumentException("Cannot call verifyTheRestAfter(Object mock) for first or last mock in circle chain. If specifying first mock, use verifyTheRest(). If specifying the last mock, then this method does not have to be called (will have identical functionality)");
         }
 
-        if (mock == mocks[mocks.length - 1]) {
-            throw new IllegalArgumentException("Cannot call verifyTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality");
+        int indexOfMock = mockIndex.indexOf(mock);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call verifyTheRestAfter(Object mock) for mock not in mocks!");
         }
 
-        Integer objectIndexOfMock = mockMap.get(mock);
+        int stepEnd = plan.stepEnd(indexOfMock);
 
-        if (objectIndexOfMock == null) {
-            throw new IllegalArgumentException("Cannot call verifyTheRestAfter(Object mock) for mock not in mocks!");
+        if (stepEnd == plan.length) {
+            throw new IllegalArgumentException("Cannot call verifyTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality");
         }
 
-        if (objectIndexOfMock < lastSuccessfulMockIndex) {
+        if (stepEnd - 1 < cursor.lastSuccessfulMockIndex) {
             throw new IllegalArgumentException("Cannot call verifyTheRestAfter(Object mock) for a mock located before previously used mock! Make sure correct mock is being passed into this method");
         }
 
-        for (int i = objectIndexOfMock + 1; i < this.mocks.length; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
+        runVerifies("verifyTheRestAfter", stepEnd, plan.length);
+    }
+
+    /**
+     * Runs verify lambdas after, but not including, mock of handle.
+     *
+     * @param handle Handle of mock after previously used mock, excluding last mock
+     * @throws IllegalStateException    Calling this method when not using verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()
+     * @throws IllegalArgumentException Calling with handle of another chain.
+     *                                  Calling with handle of last mock (this method does not have to be called, in this case).
+     *                                  Calling with handle of mock not after previously used mock (would unnecessarily re-run previously run verify lambdas).
+     */
+    public void verifyTheRestAfter(MockHandle<?> handle) {
+        ChainCursor cursor = cursor();
+
+        if (!cursor.canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyTheRestAfter(MockHandle handle)! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()");
+        }
+
+        int indexOfMock = plan.indexOf(handle);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call verifyTheRestAfter(MockHandle handle) for handle of another chain!");
+        }
+
+        int stepEnd = plan.stepEnd(indexOfMock);
+
+        if (stepEnd == plan.length) {
+            throw new IllegalArgumentException("Cannot call verifyTheRestAfter(MockHandle handle) for the last mock! Not calling this method will have identical functionality");
+        }
+
+        if (stepEnd - 1 < cursor.lastSuccessfulMockIndex) {
+            throw new IllegalArgumentException("Cannot call verifyTheRestAfter(MockHandle handle) for a mock located before previously used mock! Make sure correct handle is being passed into this method");
         }
+
+        runVerifies("verifyTheRestAfter", stepEnd, plan.length);
     }
 
     /**
@@ -753,55 +1104,242 @@ public class MockCoach {
      *                                  Calling with mock not after previously used mock (would unnecessarily re-run previously run when lambdas).
      */
     public void verifyNoInteractionsTheRestAfter(Object mock) {
-        if (verifyNoInteractionLambda == null) {
+        ChainCursor cursor = cursor();
+
+        if (verifyNoInteractionLambda == null && batchNoInteractionLambda == null) {
             throw new IllegalStateException("Must setVerifyNoInteractions(Lambda). Example: 'MockCoach mockCoach = new MockCoach(...).setVerifyNoInteractions(mock -> verifyNoMoreInteractions(mock));'");
         }
 
-        if (!canCallVerifyTheRest) {
+        if (!cursor.canCallVerifyTheRest) {
             throw new IllegalStateException("Cannot call verifyNoInteractionsTheRestAfter(Object mock)! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()");
         }
 
-        if (isMocksInCircleChain && mock == mocks[0]) {
+        if (plan.isMocksInCircleChain && mock == plan.firstMock) {
             throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(Object mock) for first or last mock in circle chain. If specifying first mock, use verifyTheRest(). If specifying the last mock, then this method does not have to be called (will have identical functionality)");
         }
 
-        if (mock == mocks[mocks.length - 1]) {
-            throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality");
+        int indexOfMock = mockIndex.indexOf(mock);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(Object mock) for mock not in mocks!");
         }
 
-        Integer objectIndexOfMock = mockMap.get(mock);
+        int stepEnd = plan.stepEnd(indexOfMock);
 
-        if (objectIndexOfMock == null) {
-            throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(Object mock) for mock not in mocks!");
+        if (stepEnd == plan.length) {
+            throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality");
         }
 
-        if (objectIndexOfMock < lastSuccessfulMockIndex) {
+        if (stepEnd - 1 < cursor.lastSuccessfulMockIndex) {
             throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(Object mock) for a mock located before previously used mock! Make sure correct mock is being passed into this method");
         }
 
-        for (int i = objectIndexOfMock + 1; i < this.mocks.length; i++) {
-            try {
-                verifyNoInteractionLambda.run(mocks[i]);
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("m%d throws an exception! Please check your mocks and verification lambda.", i + 1), e);
+        runNoInteractions("verifyNoInteractionsTheRestAfter", stepEnd, plan.length, "m%d throws an exception! Please check your mocks and verification lambda.");
+    }
+
+    /**
+     * Runs no interaction lambda after, but not including, mock of handle.
+     *
+     * @param handle Handle of mock after previously used mock, excluding last mock
+     * @throws IllegalStateException    Calling this method when not using verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()
+     * @throws IllegalArgumentException Calling with handle of another chain.
+     *                                  Calling with handle of last mock (this method does not have to be called, in this case).
+     *                                  Calling with handle of mock not after previously used mock.
+     */
+    public void verifyNoInteractionsTheRestAfter(MockHandle<?> handle) {
+        ChainCursor cursor = cursor();
+
+        if (verifyNoInteractionLambda == null && batchNoInteractionLambda == null) {
+            throw new IllegalStateException("Must setVerifyNoInteractions(Lambda). Example: 'MockCoach mockCoach = new MockCoach(...).setVerifyNoInteractions(mock -> verifyNoMoreInteractions(mock));'");
+        }
+
+        if (!cursor.canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyNoInteractionsTheRestAfter(MockHandle handle)! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()");
+        }
+
+        int indexOfMock = plan.indexOf(handle);
+
+        if (indexOfMock == IdentityMockIndex.NOT_FOUND) {
+            throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(MockHandle handle) for handle of another chain!");
+        }
+
+        int stepEnd = plan.stepEnd(indexOfMock);
+
+        if (stepEnd == plan.length) {
+            throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(MockHandle handle) for the last mock! Not calling this method will have identical functionality");
+        }
+
+        if (stepEnd - 1 < cursor.lastSuccessfulMockIndex) {
+            throw new IllegalArgumentException("Cannot call verifyNoInteractionsTheRestAfter(MockHandle handle) for a mock located before previously used mock! Make sure correct handle is being passed into this method");
+        }
+
+        runNoInteractions("verifyNoInteractionsTheRestAfter", stepEnd, plan.length, "m%d throws an exception! Please check your mocks and verification lambda.");
+    }
+
+    private ChainCursor cursor() {
+        if (threadLocalCursor == null) {
+            return cursor;
+        }
+        return threadLocalCursor.get();
+    }
+
+    /*
+     * Each range method runs its lambdas through one of the methods below, which is also where range and lambda
+     * events are recorded for Java Flight Recorder.
+     */
+
+    private void runWhens(String rangeName, int fromIndex, int toIndex) {
+        long startNanos = rangeListener == null ? 0L : System.nanoTime();
+        try {
+            if (ChainEvents.isRecording()) {
+                Object rangeEvent = ChainEvents.beginRange();
+                try {
+                    plan.runWhens(fromIndex, toIndex, ChainEvents.recordingListener(lambdaListener));
+                } finally {
+                    ChainEvents.commitRange(rangeEvent, rangeName, fromIndex, toIndex);
+                }
+            } else if (lambdaListener != null) {
+                plan.runWhens(fromIndex, toIndex, lambdaListener);
+            } else if (chainRunner != null) {
+                chainRunner.runWhens(fromIndex, toIndex);
+            } else {
+                plan.runWhens(fromIndex, toIndex);
+            }
+            if (lambdaUsage != null) {
+                lambdaUsage.markWhens(fromIndex, toIndex);
+            }
+        } finally {
+            if (rangeListener != null) {
+                rangeListener.onRangeRun(rangeName, fromIndex + 1, toIndex, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private void runWhensAsync(String rangeName, int fromIndex, int toIndex) {
+        long startNanos = rangeListener == null ? 0L : System.nanoTime();
+        try {
+            if (ChainEvents.isRecording()) {
+                Object rangeEvent = ChainEvents.beginRange();
+                try {
+                    plan.runWhensAsync(fromIndex, toIndex, ChainEvents.recordingListener(lambdaListener));
+                } finally {
+                    ChainEvents.commitRange(rangeEvent, rangeName, fromIndex, toIndex);
+                }
+            } else {
+                plan.runWhensAsync(fromIndex, toIndex, lambdaListener);
+            }
+            if (lambdaUsage != null) {
+                lambdaUsage.markWhens(fromIndex, toIndex);
+            }
+        } finally {
+            if (rangeListener != null) {
+                rangeListener.onRangeRun(rangeName, fromIndex + 1, toIndex, System.nanoTime() - startNanos);
             }
         }
     }
 
+    private void runVerifies(String rangeName, int fromIndex, int toIndex) {
+        long startNanos = rangeListener == null ? 0L : System.nanoTime();
+        try {
+            if (ChainEvents.isRecording()) {
+                Object rangeEvent = ChainEvents.beginRange();
+                try {
+                    runVerifies(fromIndex, toIndex, ChainEvents.recordingListener(lambdaListener));
+                } finally {
+                    ChainEvents.commitRange(rangeEvent, rangeName, fromIndex, toIndex);
+                }
+            } else {
+                runVerifies(fromIndex, toIndex, lambdaListener);
+            }
+            if (lambdaUsage != null) {
+                lambdaUsage.markVerifies(fromIndex, toIndex);
+            }
+        } finally {
+            if (rangeListener != null) {
+                rangeListener.onRangeRun(rangeName, fromIndex + 1, toIndex, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private void runVerifies(int fromIndex, int toIndex, LambdaListener listener) {
+        if (verifyExecutor != null) {
+            plan.runVerifiesInParallel(fromIndex, toIndex, verifyExecutor, listener, isSoftVerify);
+        } else if (isSoftVerify) {
+            plan.runVerifiesCollectingFailures(fromIndex, toIndex, listener);
+        } else if (listener != null) {
+            plan.runVerifies(fromIndex, toIndex, listener);
+        } else if (chainRunner != null) {
+            chainRunner.runVerifies(fromIndex, toIndex);
+        } else {
+            plan.runVerifies(fromIndex, toIndex);
+        }
+    }
+
+    private void runNoInteractions(String rangeName, int fromIndex, int toIndex, String failureFormat) {
+        long startNanos = rangeListener == null ? 0L : System.nanoTime();
+        try {
+            if (ChainEvents.isRecording()) {
+                Object rangeEvent = ChainEvents.beginRange();
+                try {
+                    runNoInteractions(fromIndex, toIndex, failureFormat, ChainEvents.recordingListener(lambdaListener));
+                } finally {
+                    ChainEvents.commitRange(rangeEvent, rangeName, fromIndex, toIndex);
+                }
+            } else {
+                runNoInteractions(fromIndex, toIndex, failureFormat, lambdaListener);
+            }
+        } finally {
+            if (rangeListener != null) {
+                rangeListener.onRangeRun(rangeName, fromIndex + 1, toIndex, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private void runNoInteractions(int fromIndex, int toIndex, String failureFormat, LambdaListener listener) {
+        if (batchNoInteractionLambda != null) {
+            if (listener == null) {
+                plan.runBatchNoInteractions(batchNoInteractionLambda, fromIndex, toIndex, failureFormat);
+            } else {
+                plan.runBatchNoInteractions(batchNoInteractionLambda, fromIndex, toIndex, failureFormat, listener);
+            }
+        } else if (verifyExecutor != null && verifyNoInteractionLambda instanceof ConcurrentNoInteractionLambda) {
+            plan.runNoInteractionsInParallel(verifyNoInteractionLambda, fromIndex, toIndex, failureFormat, verifyExecutor, listener);
+        } else if (listener == null) {
+            plan.runNoInteractions(verifyNoInteractionLambda, fromIndex, toIndex, failureFormat);
+        } else {
+            plan.runNoInteractions(verifyNoInteractionLambda, fromIndex, toIndex, failureFormat, listener);
+        }
+    }
+
     public static class Builder {
-        private List<Object> mocks;
-        private List<WhenLambda> whens;
-        private List<VerifyLambda> verifies;
+        private final ChainSteps steps;
 
         private NoInteractionLambda verifyNoInteractionLambda;
 
+        private BatchNoInteractionLambda batchNoInteractionLambda;
+
+        private Executor verifyExecutor;
+
+        private LambdaListener lambdaListener;
+
+        private RangeListener rangeListener;
+
+        private LambdaUsage lambdaUsage;
+
+        private boolean isSoftVerify;
+
+        private boolean isGeneratedRunner;
+
+        private boolean isThreadLocalCursor;
+
+        // Owner of MockHandles returned by addAndGetHandle
+        private final Object handleOwner = new Object();
+
         /**
          * Creates a builder for MockCoach.
          */
         public Builder() {
-            mocks = new ArrayList<>();
-            whens = new ArrayList<>();
-            verifies = new ArrayList<>();
+            steps = new ChainSteps();
         }
 
         /**
@@ -813,9 +1351,97 @@ public class MockCoach {
          * @return Builder
          */
         public Builder add(Object m, WhenLambda w, VerifyLambda v) {
-            mocks.add(m);
-            whens.add(w);
-            verifies.add(v);
+            steps.add(m, w, v);
+            return this;
+        }
+
+        /**
+         * Adds to end of builder, and returns a handle of m. The handle works with every MockCoach built by this builder.
+         *
+         * @param m   Mock
+         * @param w   When Lambda
+         * @param v   Verify Lambda
+         * @param <T> Type of mock
+         * @return MockHandle
+         */
+        public <T> MockHandle<T> addAndGetHandle(T m, WhenLambda w, VerifyLambda v) {
+            MockHandle<T> handle = new MockHandle<>(handleOwner, steps.size(), m);
+            add(m, w, v);
+            return handle;
+        }
+
+        /**
+         * Adds the chain of coach to end of builder, as a single step. Example: the chain of a facade, that internally
+         * calls its own mocks.
+         * <p>
+         * The step is addressed by coach itself: "whenBefore(coach)" runs the whens before the chain of coach, and
+         * "verifyThrough(coach)" runs the verifies up to and including every verify of coach. Mocks of coach are not
+         * addressable from the built MockCoach, and are not checked against its other mocks, so coach may hold a circle
+         * chain, or a mock also used elsewhere in the built chain. Lambdas of coach are stored in place, in one contiguous
+         * array with the other lambdas of the built MockCoach.
+         * <p>
+         * Only the chain of coach is added. Settings of coach, such as listeners or soft verifies, are not.
+         *
+         * @param coach MockCoach of inner chain
+         * @return Builder
+         * @throws IllegalArgumentException Adding a coach that is null, or a MockCoachLegacy.
+         *                                  Building a chain with the same coach added twice.
+         */
+        public Builder addCoach(MockCoach coach) {
+            if (coach == null) {
+                throw new IllegalArgumentException("coach cannot be null!");
+            }
+
+            if (coach instanceof MockCoachLegacy) {
+                throw new IllegalArgumentException("coach cannot be MockCoachLegacy!");
+            }
+
+            steps.addComposite(coach, coach.plan, coach.plan.verifyLambdas);
+            return this;
+        }
+
+        /**
+         * Adds the chain of loop to end of builder, as a loop that the code under test runs times in a row. Example: retries or polling.
+         * <p>
+         * When lambdas of loop run once, as stubs apply to every repetition.
+         * Verify lambdas of loop must be RepeatedVerifyLambdas, and run once with times. Example: "times -&gt; verify(mock2, times(times)).method()"
+         * (A plain verify lambda run times in a row would fail, as each run of "verify(mock2).method()" sees every repetition.)
+         * <p>
+         * The loop is not unrolled, so the built MockCoach takes the same memory whatever the value of times.
+         * Like addCoach(MockCoach), the loop is a single step, addressed by loop.
+         *
+         * @param times Number of repetitions of loop
+         * @param loop  MockCoach of loop
+         * @return Builder
+         * @throws IllegalArgumentException Adding a loop with times less than 1, a loop that is null or a MockCoachLegacy,
+         *                                  or a loop with a verify lambda that is not a RepeatedVerifyLambda.
+         */
+        public Builder addLoop(int times, MockCoach loop) {
+            if (times < 1) {
+                throw new IllegalArgumentException("times must be at least 1!");
+            }
+
+            if (loop == null) {
+                throw new IllegalArgumentException("loop cannot be null!");
+            }
+
+            if (loop instanceof MockCoachLegacy) {
+                throw new IllegalArgumentException("loop cannot be MockCoachLegacy!");
+            }
+
+            ChainPlan loopPlan = loop.plan;
+            for (int i = 0; i < loopPlan.length; i++) {
+                if (!(loopPlan.verifyLambdas[i] instanceof RepeatedVerifyLambda)) {
+                    throw new IllegalArgumentException(String.format("v%d of loop must be a RepeatedVerifyLambda! Example: 'times -> verify(mock, times(times)).method()'", i + 1));
+                }
+            }
+
+            VerifyLambda[] loopVerifyLambdas = new VerifyLambda[loopPlan.length];
+            for (int i = 0; i < loopPlan.length; i++) {
+                loopVerifyLambdas[i] = LoopVerifyLambda.of((RepeatedVerifyLambda) loopPlan.verifyLambdas[i], times);
+            }
+
+            steps.addComposite(loop, loopPlan, loopVerifyLambdas);
             return this;
         }
 
@@ -829,6 +1455,118 @@ public class MockCoach {
             return this;
         }
 
+        /**
+         * Verifies no interactions on all remaining mocks in one call. See MockCoach.putBatchVerifyNoInteractions(BatchNoInteractionLambda).
+         *
+         * @param batchNoInteractionLambda A Java Lambda. Example: "withBatchVerifyNoInteractions(mocks -&gt; verifyNoMoreInteractions(mocks.toArray()))"
+         * @return Builder
+         */
+        public Builder withBatchVerifyNoInteractions(BatchNoInteractionLambda batchNoInteractionLambda) {
+            this.batchNoInteractionLambda = batchNoInteractionLambda;
+            return this;
+        }
+
+        /**
+         * Runs verifies in parallel on the common ForkJoinPool. See MockCoach.putParallelVerifies(Executor).
+         *
+         * @return Builder
+         */
+        public Builder withParallelVerifies() {
+            return withParallelVerifies(ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Runs ConcurrentVerifyLambdas in parallel on executor. See MockCoach.putParallelVerifies(Executor).
+         *
+         * @param verifyExecutor Executor to run ConcurrentVerifyLambdas on
+         * @return Builder
+         * @throws IllegalArgumentException If verifyExecutor is null.
+         */
+        public Builder withParallelVerifies(Executor verifyExecutor) {
+            if (verifyExecutor == null) {
+                throw new IllegalArgumentException("verifyExecutor cannot be null!");
+            }
+
+            this.verifyExecutor = verifyExecutor;
+            return this;
+        }
+
+        /**
+         * Runs verifies in parallel, on a new virtual thread per lambda run. See MockCoach.putVirtualThreadVerifies().
+         * <p>
+         * On Java versions before 21, verifies keep running in order on the calling thread.
+         * See MockCoach.isVirtualThreadVerifiesAvailable().
+         */
+        public Builder withVirtualThreadVerifies() {
+            if (VirtualThreads.isAvailable()) {
+                this.verifyExecutor = VirtualThreads.perTaskExecutor();
+            }
+            return this;
+        }
+
+        /**
+         * Calls listener after every lambda run. See MockCoach.putLambdaListener(LambdaListener).
+         *
+         * @param lambdaListener Listener
+         * @return Builder
+         */
+        public Builder withLambdaListener(LambdaListener lambdaListener) {
+            this.lambdaListener = lambdaListener;
+            return this;
+        }
+
+        /**
+         * Calls listener after every range method call. See MockCoach.putRangeListener(RangeListener).
+         *
+         * @param rangeListener Listener
+         * @return Builder
+         */
+        public Builder withRangeListener(RangeListener rangeListener) {
+            this.rangeListener = rangeListener;
+            return this;
+        }
+
+        /**
+         * Marks lambdas of every range that succeeds. See MockCoach.putLambdaUsage(LambdaUsage).
+         *
+         * @param lambdaUsage Usage with the same chain length as mocks
+         * @return Builder
+         */
+        public Builder withLambdaUsage(LambdaUsage lambdaUsage) {
+            this.lambdaUsage = lambdaUsage;
+            return this;
+        }
+
+        /**
+         * Runs every verify in a range, and reports all failures together. See MockCoach.putSoftVerifies().
+         *
+         * @return Builder
+         */
+        public Builder withSoftVerifies() {
+            this.isSoftVerify = true;
+            return this;
+        }
+
+        /**
+         * Runs whens and verifies with a class generated for the chain. See MockCoach.putGeneratedRunner().
+         *
+         * @return Builder
+         */
+        public Builder withGeneratedRunner() {
+            this.isGeneratedRunner = true;
+            return this;
+        }
+
+        /**
+         * Gives each thread its own cursor. See MockCoach.putThreadLocalCursor().
+         *
+         * @return Builder
+         */
+        public Builder withThreadLocalCursor() {
+            this.isThreadLocalCursor = true;
+            return this;
+        }
+
         /**
          * Returns a new MockCoach from previously added mocks, when lambdas, and verify lambdas.
          *
@@ -836,13 +1574,42 @@ public class MockCoach {
          */
         public MockCoach build() {
             MockCoach mockCoach = new MockCoach(
-                    mocks.toArray(new Object[0]),
-                    whens.toArray(new WhenLambda[0]),
-                    verifies.toArray(new VerifyLambda[0])
+                    steps.mocks(),
+                    steps.whenLambdas(),
+                    steps.verifyLambdas(),
+                    handleOwner,
+                    steps.stepKeys(),
+                    steps.stepEnds()
             );
             mockCoach.putVerifyNoInteractions(verifyNoInteractionLambda);
+            mockCoach.putBatchVerifyNoInteractions(batchNoInteractionLambda);
+            if (verifyExecutor != null) {
+                mockCoach.putParallelVerifies(verifyExecutor);
+            }
+            mockCoach.putLambdaListener(lambdaListener);
+            mockCoach.putRangeListener(rangeListener);
+            mockCoach.putLambdaUsage(lambdaUsage);
+            if (isSoftVerify) {
+                mockCoach.putSoftVerifies();
+            }
+            if (isGeneratedRunner) {
+                mockCoach.putGeneratedRunner();
+            }
+            if (isThreadLocalCursor) {
+                mockCoach.putThreadLocalCursor();
+            }
             return mockCoach;
         }
+
+        /**
+         * Returns a new MockCoachTemplate from previously added mocks, when lambdas, and verify lambdas.
+         * The chain is validated once, here, and shared by every MockCoach created with MockCoachTemplate.newSession().
+         *
+         * @return MockCoachTemplate
+         */
+        public MockCoachTemplate buildTemplate() {
+            return build().template();
+        }
     }
 
     /**
@@ -0,0 +1,384 @@
+package com.andyln;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mock Coach for a chain where a mock can occur more than once, such as A -&gt; B -&gt; C -&gt; B -&gt; D (a non-simple
+ * curve, which MockCoach rejects).
+ * <p>
+ * A mock that occurs more than once is passed into range methods with its one-based occurrence. Example:
+ * "whenBefore(b, 2)" runs when lambdas of A, B and C in the chain above. A mock that occurs once can be passed in
+ * without its occurrence.
+ * <p>
+ * Occurrences are looked up in a precomputed table (see OccurrenceIndex), so range methods cost the same as in
+ * MockCoach, however many times a mock repeats.
+ */
+public class MockCoachCurve {
+
+    private final ChainPlan plan;
+    private final OccurrenceIndex occurrenceIndex;
+
+    private final ChainCursor cursor = new ChainCursor();
+
+    /**
+     * A Mock Coach allowing repeated mocks.
+     *
+     * @param mocks         Array of Mocks injected or autowired into an object-under-test. The same mock can occur more than once.
+     * @param whenLambdas   Array of Java lambdas containing "when(...)" statements
+     * @param verifyLambdas Array of Java lambdas containing "verify(...) statements
+     * @throws IllegalArgumentException Prevents calling constructor with any mocks/whens/verifies that are empty, not the same length, or not permitted type.
+     */
+    MockCoachCurve(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas) {
+        if (mocks == null || whenLambdas == null || verifyLambdas == null) {
+            throw new IllegalArgumentException("mocks/whens/verifies cannot be null!");
+        }
+
+        if (mocks.length != whenLambdas.length) {
+            throw new IllegalArgumentException("whens length does not match mocks length!");
+        }
+
+        if (mocks.length != verifyLambdas.length) {
+            throw new IllegalArgumentException("verifies length does not match mocks length!");
+        }
+
+        if (mocks.length == 0) {
+            throw new IllegalArgumentException("mocks/whens/verifies cannot be empty!");
+        }
+
+        for (int i = 0; i < mocks.length; i++) {
+            if (mocks[i] == null) {
+                throw new IllegalArgumentException(String.format("m%d cannot be null!", i + 1));
+            }
+
+            // Equal values of these types may or may not be the same object, so occurrences could not be told apart
+            if (mocks[i] instanceof Integer) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of Integer!", i + 1));
+            }
+
+            if (mocks[i] instanceof Character) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of Character!", i + 1));
+            }
+
+            if (mocks[i] instanceof String) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of String!", i + 1));
+            }
+
+            if (mocks[i] instanceof Enum<?>) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of Enum!", i + 1));
+            }
+        }
+
+        boolean isMocksInCircleChain = mocks.length > 1 && mocks[0] == mocks[mocks.length - 1];
+        this.plan = new ChainPlan(mocks, whenLambdas, verifyLambdas, isMocksInCircleChain);
+        this.occurrenceIndex = new OccurrenceIndex(mocks);
+    }
+
+    /**
+     * Returns number of times mock occurs in mocks, or 0 if mock is not in mocks.
+     */
+    public int occurrences(Object mock) {
+        return occurrenceIndex.occurrences(mock);
+    }
+
+    /**
+     * Runs all whens before, and not including, when corresponding to mock. See whenBefore(Object mock, int occurrence).
+     *
+     * @param mock Mock occurring once in mocks.
+     * @throws IllegalArgumentException Calling with object not in mocks, or with mock occurring more than once.
+     */
+    public void whenBefore(Object mock) {
+        int indexOfMock = indexOfSingleOccurrence("whenBefore", mock);
+
+        plan.runWhens(0, indexOfMock);
+
+        cursor.canCallWhenTheRest = true;
+        cursor.lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    /**
+     * Runs all whens before, and not including, when corresponding to an occurrence of mock.
+     *
+     * @param mock       Any mock within mocks.
+     * @param occurrence One-based occurrence of mock. Example: 2 for the second time mock occurs in mocks
+     * @throws IllegalArgumentException Calling with object not in mocks, or with occurrence mock does not have.
+     */
+    public void whenBefore(Object mock, int occurrence) {
+        int indexOfMock = indexOf("whenBefore", mock, occurrence);
+
+        plan.runWhens(0, indexOfMock);
+
+        cursor.canCallWhenTheRest = true;
+        cursor.lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    /**
+     * Runs all whens.
+     */
+    public void whenAll() {
+        plan.runWhens(0, plan.length);
+    }
+
+    /**
+     * Runs when lambdas after, but not including, mock occurrence used in previous method.
+     *
+     * @throws IllegalStateException Calling this method when not using whenBefore(mock)
+     */
+    public void whenTheRest() {
+        if (!cursor.canCallWhenTheRest) {
+            throw new IllegalStateException("Cannot call whenTheRest()! Must be called only after whenBefore(mock) or whenBefore(mock, occurrence)");
+        }
+
+        plan.runWhens(cursor.lastSuccessfulMockIndex + 1, plan.length);
+
+        cursor.canCallWhenTheRest = false;
+    }
+
+    /**
+     * Runs when lambdas after, but not including, mock. See whenTheRestAfter(Object mock, int occurrence).
+     *
+     * @param mock Mock occurring once in mocks, after previously used mock occurrence
+     * @throws IllegalStateException    Calling this method when not using whenBefore(mock)
+     * @throws IllegalArgumentException Calling with object not in mocks, or with mock occurring more than once.
+     *                                  Calling with last mock (this method does not have to be called, in this case).
+     *                                  Calling with mock not after previously used mock occurrence.
+     */
+    public void whenTheRestAfter(Object mock) {
+        if (!cursor.canCallWhenTheRest) {
+            throw new IllegalStateException("Cannot call whenTheRestAfter(Object mock)! Must be called only after whenBefore(mock) or whenBefore(mock, occurrence)");
+        }
+
+        int indexOfMock = indexOfRestAfter("whenTheRestAfter(Object mock)", indexOfSingleOccurrence("whenTheRestAfter", mock), "mock is");
+
+        plan.runWhens(indexOfMock + 1, plan.length);
+    }
+
+    /**
+     * Runs when lambdas after, but not including, an occurrence of mock.
+     *
+     * @param mock       Mock after previously used mock occurrence
+     * @param occurrence One-based occurrence of mock
+     * @throws IllegalStateException    Calling this method when not using whenBefore(mock)
+     * @throws IllegalArgumentException Calling with object not in mocks, or with occurrence mock does not have.
+     *                                  Calling with last mock occurrence (this method does not have to be called, in this case).
+     *                                  Calling with mock occurrence not after previously used mock occurrence.
+     */
+    public void whenTheRestAfter(Object mock, int occurrence) {
+        if (!cursor.canCallWhenTheRest) {
+            throw new IllegalStateException("Cannot call whenTheRestAfter(Object mock, int occurrence)! Must be called only after whenBefore(mock) or whenBefore(mock, occurrence)");
+        }
+
+        int indexOfMock = indexOfRestAfter("whenTheRestAfter(Object mock, int occurrence)", indexOf("whenTheRestAfter", mock, occurrence), "mock and occurrence are");
+
+        plan.runWhens(indexOfMock + 1, plan.length);
+    }
+
+    /**
+     * Runs all verifies before, and not including, verify corresponding to mock. See verifyBefore(Object mock, int occurrence).
+     *
+     * @param mock Mock occurring once in mocks.
+     * @throws IllegalArgumentException Calling with object not in mocks, or with mock occurring more than once.
+     */
+    public void verifyBefore(Object mock) {
+        int indexOfMock = indexOfSingleOccurrence("verifyBefore", mock);
+
+        plan.runVerifies(0, indexOfMock);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    /**
+     * Runs all verifies before, and not including, verify corresponding to an occurrence of mock.
+     *
+     * @param mock       Any mock within mocks.
+     * @param occurrence One-based occurrence of mock
+     * @throws IllegalArgumentException Calling with object not in mocks, or with occurrence mock does not have.
+     */
+    public void verifyBefore(Object mock, int occurrence) {
+        int indexOfMock = indexOf("verifyBefore", mock, occurrence);
+
+        plan.runVerifies(0, indexOfMock);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    /**
+     * Runs all verifies up to, and including, verify corresponding to mock. See verifyThrough(Object mock, int occurrence).
+     *
+     * @param mock Mock occurring once in mocks.
+     * @throws IllegalArgumentException Calling with object not in mocks, or with mock occurring more than once.
+     */
+    public void verifyThrough(Object mock) {
+        int indexOfMock = indexOfSingleOccurrence("verifyThrough", mock);
+
+        plan.runVerifies(0, indexOfMock + 1);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    /**
+     * Runs all verifies up to, and including, verify corresponding to an occurrence of mock.
+     *
+     * @param mock       Any mock within mocks.
+     * @param occurrence One-based occurrence of mock
+     * @throws IllegalArgumentException Calling with object not in mocks, or with occurrence mock does not have.
+     */
+    public void verifyThrough(Object mock, int occurrence) {
+        int indexOfMock = indexOf("verifyThrough", mock, occurrence);
+
+        plan.runVerifies(0, indexOfMock + 1);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = indexOfMock;
+    }
+
+    /**
+     * Runs all verifies.
+     */
+    public void verifyAll() {
+        plan.runVerifies(0, plan.length);
+    }
+
+    /**
+     * Runs verify lambdas after, but not including, mock occurrence used in previous method.
+     *
+     * @throws IllegalStateException Calling this method when not using verifyBefore(mock)/verifyThrough(mock)
+     */
+    public void verifyTheRest() {
+        if (!cursor.canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyTheRest()! Must be called only after verifyBefore(mock)/verifyThrough(mock), with or without occurrence");
+        }
+
+        plan.runVerifies(cursor.lastSuccessfulMockIndex + 1, plan.length);
+
+        cursor.canCallVerifyTheRest = false;
+    }
+
+    /**
+     * Runs verify lambdas after, but not including, mock. See verifyTheRestAfter(Object mock, int occurrence).
+     *
+     * @param mock Mock occurring once in mocks, after previously used mock occurrence
+     * @throws IllegalStateException    Calling this method when not using verifyBefore(mock)/verifyThrough(mock)
+     * @throws IllegalArgumentException Calling with object not in mocks, or with mock occurring more than once.
+     *                                  Calling with last mock (this method does not have to be called, in this case).
+     *                                  Calling with mock not after previously used mock occurrence.
+     */
+    public void verifyTheRestAfter(Object mock) {
+        if (!cursor.canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyTheRestAfter(Object mock)! Must be called only after verifyBefore(mock)/verifyThrough(mock), with or without occurrence");
+        }
+
+        int indexOfMock = indexOfRestAfter("verifyTheRestAfter(Object mock)", indexOfSingleOccurrence("verifyTheRestAfter", mock), "mock is");
+
+        plan.runVerifies(indexOfMock + 1, plan.length);
+    }
+
+    /**
+     * Runs verify lambdas after, but not including, an occurrence of mock.
+     *
+     * @param mock       Mock after previously used mock occurrence
+     * @param occurrence One-based occurrence of mock
+     * @throws IllegalStateException    Calling this method when not using verifyBefore(mock)/verifyThrough(mock)
+     * @throws IllegalArgumentException Calling with object not in mocks, or with occurrence mock does not have.
+     *                                  Calling with last mock occurrence (this method does not have to be called, in this case).
+     *                                  Calling with mock occurrence not after previously used mock occurrence.
+     */
+    public void verifyTheRestAfter(Object mock, int occurrence) {
+        if (!cursor.canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyTheRestAfter(Object mock, int occurrence)! Must be called only after verifyBefore(mock)/verifyThrough(mock), with or without occurrence");
+        }
+
+        int indexOfMock = indexOfRestAfter("verifyTheRestAfter(Object mock, int occurrence)", indexOf("verifyTheRestAfter", mock, occurrence), "mock and occurrence are");
+
+        plan.runVerifies(indexOfMock + 1, plan.length);
+    }
+
+    private int indexOfSingleOccurrence(String methodName, Object mock) {
+        int occurrences = occurrenceIndex.occurrences(mock);
+
+        if (occurrences == 0) {
+            throw new IllegalArgumentException(String.format("Cannot call %s(Object mock) for mock not in mocks!", methodName));
+        }
+
+        if (occurrences > 1) {
+            throw new IllegalArgumentException(String.format("Cannot call %s(Object mock) for mock occurring %d times in mocks! Use %s(Object mock, int occurrence)", methodName, occurrences, methodName));
+        }
+
+        return occurrenceIndex.indexOf(mock, 1);
+    }
+
+    private int indexOf(String methodName, Object mock, int occurrence) {
+        int indexOfMock = occurrenceIndex.indexOf(mock, occurrence);
+
+        if (indexOfMock == OccurrenceIndex.NOT_FOUND) {
+            int occurrences = occurrenceIndex.occurrences(mock);
+            if (occurrences == 0) {
+                throw new IllegalArgumentException(String.format("Cannot call %s(Object mock, int occurrence) for mock not in mocks!", methodName));
+            }
+            throw new IllegalArgumentException(String.format("Cannot call %s(Object mock, int occurrence) for occurrence %d! Mock occurs %d times in mocks", methodName, occurrence, occurrences));
+        }
+
+        return indexOfMock;
+    }
+
+    /**
+     * @param method      Method with parameters, for messages. Example: "whenTheRestAfter(Object mock)"
+     * @param indexOfMock Index of mock passed into method
+     * @param arguments   Arguments to check, for messages. Example: "mock is"
+     */
+    private int indexOfRestAfter(String method, int indexOfMock, String arguments) {
+        if (indexOfMock == plan.lastIndex) {
+            throw new IllegalArgumentException(String.format("Cannot call %s for the last mock! Not calling this method will have identical functionality", method));
+        }
+
+        if (indexOfMock < cursor.lastSuccessfulMockIndex) {
+            throw new IllegalArgumentException(String.format("Cannot call %s for a mock located before previously used mock! Make sure correct %s being passed into this method", method, arguments));
+        }
+
+        return indexOfMock;
+    }
+
+    public static class Builder {
+        private final List<Object> mocks = new ArrayList<>();
+        private final List<WhenLambda> whens = new ArrayList<>();
+        private final List<VerifyLambda> verifies = new ArrayList<>();
+
+        /**
+         * Creates a builder for MockCoachCurve.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Adds mock with its when and verify lambdas to the end of the chain. The same mock can be added more than once.
+         *
+         * @param m Mock
+         * @param w When lambda of this occurrence of mock
+         * @param v Verify lambda of this occurrence of mock
+         * @return Builder
+         */
+        public Builder add(Object m, WhenLambda w, VerifyLambda v) {
+            mocks.add(m);
+            whens.add(w);
+            verifies.add(v);
+            return this;
+        }
+
+        /**
+         * Builds MockCoachCurve.
+         *
+         * @return MockCoachCurve
+         * @throws IllegalArgumentException Prevents building with any mocks that are empty or not permitted type.
+         */
+        public MockCoachCurve build() {
+            return new MockCoachCurve(
+                    mocks.toArray(new Object[0]),
+                    whens.toArray(new WhenLambda[0]),
+                    verifies.toArray(new VerifyLambda[0])
+            );
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.andyln;
+
+/**
+ * Thrown when a when lambda, verify lambda, or no interaction lambda throws an exception. The lambda's exception is the cause.
+ * <p>
+ * The message (such as "w2 throws an exception! Please check your whens.") is only built when getMessage() is called,
+ * so tests that expect many lambda failures do not pay for formatting messages they never read.
+ * <p>
+ * Filling in the stack trace can be skipped by running with system property
+ * "com.andyln.MockCoachLambdaException.stackTrace" set to "false". The cause still has its own stack trace,
+ * pointing at the failing lambda.
+ */
+public class MockCoachLambdaException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    static final String WHEN_FAILURE_FORMAT = "w%d throws an exception! Please check your whens.";
+    static final String VERIFY_FAILURE_FORMAT = "v%d throws an exception! Please check your verifies.";
+
+    static final boolean IS_STACK_TRACE_WRITABLE = !"false".equals(System.getProperty("com.andyln.MockCoachLambdaException.stackTrace"));
+
+    private final LambdaPhase phase;
+    private final int index;
+    // Mocks are usually not serializable
+    private final transient Object mock;
+
+    private final String messageFormat;
+    private String message;
+
+    /**
+     * @param phase         Phase of failing lambda
+     * @param index         One-based index of failing lambda
+     * @param mock          Mock of failing lambda
+     * @param messageFormat Format of message, taking index
+     * @param cause         Exception thrown by lambda
+     */
+    MockCoachLambdaException(LambdaPhase phase, int index, Object mock, String messageFormat, Throwable cause) {
+        this(phase, index, mock, messageFormat, cause, IS_STACK_TRACE_WRITABLE);
+    }
+
+    MockCoachLambdaException(LambdaPhase phase, int index, Object mock, String messageFormat, Throwable cause, boolean isStackTraceWritable) {
+        super(null, cause, true, isStackTraceWritable);
+        this.phase = phase;
+        this.index = index;
+        this.mock = mock;
+        this.messageFormat = messageFormat;
+    }
+
+    /**
+     * Returns phase of failing lambda.
+     *
+     * @return LambdaPhase
+     */
+    public LambdaPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Returns one-based index of failing lambda (2 for w2).
+     *
+     * @return Index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns mock of failing lambda, or null if this exception was deserialized.
+     *
+     * @return Mock
+     */
+    public Object getMock() {
+        return mock;
+    }
+
+    @Override
+    public String getMessage() {
+        String message = this.message;
+        if (message == null) {
+            message = String.format(messageFormat, index);
+            this.message = message;
+        }
+        return message;
+    }
+}
@@ -4,12 +4,19 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public class MockCoachLegacy extends MockCoach {
 
     private Object[] mocks;
-    private WhenLambda[] whenLambdas;
-    private VerifyLambda[] verifyLambdas;
+
+    private ChainPlan plan;
+
+    // If not null, called after every lambda run
+    private LambdaListener lambdaListener;
+
+    // If true, every verify in a range runs, and all failures are reported together
+    private boolean isSoftVerify;
 
     private Map<Object, Integer> mockMap;
 
@@ -51,8 +58,7 @@ public class MockCoachLegacy extends MockCoach {
             // Only contains single mock in mocks
             mockMap.put(mocks[0], 0);
             this.mocks = mocks;
-            this.whenLambdas = whenLambdas;
-            this.verifyLambdas = verifyLambdas;
+            this.plan = new ChainPlan(mocks, whenLambdas, verifyLambdas, false);
             return;
         }
 
@@ -72,8 +78,7 @@ public class MockCoachLegacy extends MockCoach {
         }
 
         this.mocks = mocks;
-        this.whenLambdas = whenLambdas;
-        this.verifyLambdas = verifyLambdas;
+        this.plan = new ChainPlan(mocks, whenLambdas, verifyLambdas, isMocksInCircleChain);
     }
 
     /**
@@ -343,6 +348,207 @@ public class MockCoachLegacy extends MockCoach {
         throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
     }
 
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putBatchVerifyNoInteractions(BatchNoInteractionLambda batchNoInteractionLambda) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putParallelVerifies() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putParallelVerifies(Executor verifyExecutor) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putVirtualThreadVerifies() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putRangeListener(RangeListener rangeListener) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public RangeListener getRangeListener() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putLambdaUsage(LambdaUsage lambdaUsage) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void whenBeforeAsync(Object mock) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void whenAllAsync() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoachTemplate template() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach newSession() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putThreadLocalCursor() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public MockCoach putGeneratedRunner() {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public <T> MockHandle<T> handle(T mock) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void whenBefore(MockHandle<?> handle) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void whenTheRestAfter(MockHandle<?> handle) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void verifyBefore(MockHandle<?> handle) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void verifyThrough(MockHandle<?> handle) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void verifyTheRestAfter(MockHandle<?> handle) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Feature only possible in MockCoach, not MockCoachLegacy.
+     *
+     */
+    @Override
+    public void verifyNoInteractionsTheRestAfter(MockHandle<?> handle) {
+        throw new UnsupportedOperationException("Feature only possible in MockCoach, not MockCoachLegacy");
+    }
+
+    /**
+     * Calls listener after every when lambda and verify lambda run by this MockCoachLegacy.
+     * Without a listener, lambdas are not timed.
+     *
+     * @param lambdaListener Listener, or null to remove previous listener.
+     */
+    @Override
+    public MockCoach putLambdaListener(LambdaListener lambdaListener) {
+        this.lambdaListener = lambdaListener;
+        return this;
+    }
+
+    /**
+     * Runs every verify in a range, and reports all failures together. See MockCoach.putSoftVerifies().
+     */
+    @Override
+    public MockCoach putSoftVerifies() {
+        this.isSoftVerify = true;
+        return this;
+    }
+
     /**
      * Runs all whens before, and not including, when corresponding to mock.
      *
@@ -366,13 +572,7 @@ public class MockCoachLegacy extends MockCoach {
 
         int indexOfMock = objectIndexOfMock;
 
-        for (int i = 0; i < indexOfMock; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
-        }
+        runWhens(0, indexOfMock);
 
         canCallWhenTheRest = true;
         lastSuccessfulMockIndex = indexOfMock;
@@ -410,13 +610,7 @@ public class MockCoachLegacy extends MockCoach {
         }
 
         int indexOfLastMock = this.mocks.length - 1;
-        for (int i = 0; i < indexOfLastMock; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
-        }
+        runWhens(0, indexOfLastMock);
     }
 
     /**
@@ -424,13 +618,7 @@ public class MockCoachLegacy extends MockCoach {
      */
     @Override
     public void whenAll() {
-        for (int i = 0; i < this.mocks.length; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
-        }
+        runWhens(0, this.mocks.length);
     }
 
     /**
@@ -442,13 +630,7 @@ public class MockCoachLegacy extends MockCoach {
             throw new IllegalStateException("Cannot call whenTheRest()! Must be called only after whenBefore(mock) or whenThroughFirst()");
         }
 
-        for (int i = lastSuccessfulMockIndex + 1; i < this.mocks.length; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
-        }
+        runWhens(lastSuccessfulMockIndex + 1, this.mocks.length);
 
         canCallWhenTheRest = false;
     }
@@ -486,13 +668,7 @@ public class MockCoachLegacy extends MockCoach {
             throw new IllegalArgumentException("Cannot call whenTheRestAfter(Object mock) for a mock located before previously used mock! Make sure correct mock is being passed into this method");
         }
 
-        for (int i = objectIndexOfMock + 1; i < this.mocks.length; i++) {
-            try {
-                whenLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("w%d throws an exception! Please check your whens.", i + 1), e);
-            }
-        }
+        runWhens(objectIndexOfMock + 1, this.mocks.length);
     }
 
     /**
@@ -518,13 +694,7 @@ public class MockCoachLegacy extends MockCoach {
 
         int indexOfMock = objectIndexOfMock;
 
-        for (int i = 0; i < indexOfMock; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies(0, indexOfMock);
 
         canCallVerifyTheRest = true;
         lastSuccessfulMockIndex = indexOfMock;
@@ -553,13 +723,7 @@ public class MockCoachLegacy extends MockCoach {
 
         int indexOfMock = objectIndexOfMock;
 
-        for (int i = 0; i <= indexOfMock; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies(0, indexOfMock + 1);
 
         canCallVerifyTheRest = true;
         lastSuccessfulMockIndex = indexOfMock;
@@ -596,13 +760,7 @@ public class MockCoachLegacy extends MockCoach {
             throw new IllegalStateException("Cannot call verifyBeforeLast() for mocks in a path graph! For mocks in a path graph, use verifyBefore(INSERT_LAST_MOCK_HERE)");
         }
 
-        for (int i = 0; i < this.mocks.length - 1; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies(0, this.mocks.length - 1);
     }
 
     /**
@@ -619,11 +777,7 @@ public class MockCoachLegacy extends MockCoach {
             throw new IllegalStateException("Cannot call verifyThroughFirst() for mocks in a path graph! For mocks in a path graph, use verifyThrough(INSERT_FIRST_MOCK_HERE)");
         }
 
-        try {
-            verifyLambdas[0].run();
-        } catch (Exception e) {
-            throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", 1), e);
-        }
+        runVerifies(0, 1);
 
         canCallVerifyTheRest = true;
         lastSuccessfulMockIndex = 0;
@@ -651,13 +805,7 @@ public class MockCoachLegacy extends MockCoach {
      */
     @Override
     public void verifyAll() {
-        for (int i = 0; i < this.mocks.length; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies(0, this.mocks.length);
     }
 
     /**
@@ -669,13 +817,7 @@ public class MockCoachLegacy extends MockCoach {
             throw new IllegalStateException("Cannot call verifyTheRest()! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()");
         }
 
-        for (int i = lastSuccessfulMockIndex + 1; i < this.mocks.length; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies(lastSuccessfulMockIndex + 1, this.mocks.length);
 
         canCallVerifyTheRest = false;
     }
@@ -722,13 +864,7 @@ public class MockCoachLegacy extends MockCoach {
             throw new IllegalArgumentException("Cannot call verifyTheRestAfter(Object mock) for a mock located before previously used mock! Make sure correct mock is being passed into this method");
         }
 
-        for (int i = objectIndexOfMock + 1; i < this.mocks.length; i++) {
-            try {
-                verifyLambdas[i].run();
-            } catch (Exception e) {
-                throw new RuntimeException(String.format("v%d throws an exception! Please check your verifies.", i + 1), e);
-            }
-        }
+        runVerifies(objectIndexOfMock + 1, this.mocks.length);
     }
 
     /**
@@ -740,11 +876,33 @@ public class MockCoachLegacy extends MockCoach {
         throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
     }
 
+    private void runWhens(int fromIndex, int toIndex) {
+        if (lambdaListener == null) {
+            plan.runWhens(fromIndex, toIndex);
+        } else {
+            plan.runWhens(fromIndex, toIndex, lambdaListener);
+        }
+    }
+
+    private void runVerifies(int fromIndex, int toIndex) {
+        if (isSoftVerify) {
+            plan.runVerifiesCollectingFailures(fromIndex, toIndex, lambdaListener);
+        } else if (lambdaListener == null) {
+            plan.runVerifies(fromIndex, toIndex);
+        } else {
+            plan.runVerifies(fromIndex, toIndex, lambdaListener);
+        }
+    }
+
     public static class Builder extends MockCoach.Builder {
         private List<Object> mocks;
         private List<WhenLambda> whens;
         private List<VerifyLambda> verifies;
 
+        private LambdaListener lambdaListener;
+
+        private boolean isSoftVerify;
+
         /**
          * Creates a builder for MockCoachLegacy.
          */
@@ -769,6 +927,33 @@ public class MockCoachLegacy extends MockCoach {
             return this;
         }
 
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public <T> MockHandle<T> addAndGetHandle(T m, WhenLambda w, VerifyLambda v) {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder addCoach(MockCoach coach) {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder addLoop(int times, MockCoach loop) {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
         /**
          * Feature only possible in MockCoach, not MockCoachLegacy.
          *
@@ -778,6 +963,110 @@ public class MockCoachLegacy extends MockCoach {
             throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
         }
 
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withBatchVerifyNoInteractions(BatchNoInteractionLambda batchNoInteractionLambda) {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withParallelVerifies() {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withParallelVerifies(Executor verifyExecutor) {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withVirtualThreadVerifies() {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withRangeListener(RangeListener rangeListener) {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withLambdaUsage(LambdaUsage lambdaUsage) {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Calls listener after every lambda run. See MockCoachLegacy.putLambdaListener(LambdaListener).
+         *
+         * @param lambdaListener Listener
+         * @return Builder
+         */
+        @Override
+        public Builder withLambdaListener(LambdaListener lambdaListener) {
+            this.lambdaListener = lambdaListener;
+            return this;
+        }
+
+        /**
+         * Runs every verify in a range, and reports all failures together. See MockCoach.putSoftVerifies().
+         *
+         * @return Builder
+         */
+        @Override
+        public Builder withSoftVerifies() {
+            this.isSoftVerify = true;
+            return this;
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withThreadLocalCursor() {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public Builder withGeneratedRunner() {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
+        /**
+         * Feature only possible in MockCoach, not MockCoachLegacy.
+         *
+         */
+        @Override
+        public MockCoachTemplate buildTemplate() {
+            throw new UnsupportedOperationException("Feature only possible for MockCoach, not MockCoachLegacy");
+        }
+
         /**
          * Returns a new MockCoach from previously added mocks, when lambdas, and verify lambdas.
          *
@@ -785,11 +1074,16 @@ public class MockCoachLegacy extends MockCoach {
          */
         @Override
         public MockCoachLegacy build() {
-            return new MockCoachLegacy(
+            MockCoachLegacy mockCoachLegacy = new MockCoachLegacy(
                     mocks.toArray(new Object[0]),
                     whens.toArray(new WhenLambda[0]),
                     verifies.toArray(new VerifyLambda[0])
             );
+            mockCoachLegacy.putLambdaListener(lambdaListener);
+            if (isSoftVerify) {
+                mockCoachLegacy.putSoftVerifies();
+            }
+            return mockCoachLegacy;
         }
     }
 
@@ -0,0 +1,77 @@
+package com.andyln;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable, validated chain of mocks, when lambdas, and verify lambdas, that can be shared between tests.
+ * <p>
+ * A chain is validated once, when the template is created. Each test then calls newSession() for its own MockCoach,
+ * which shares the chain and only holds its own cursor (the state used by whenTheRest()/verifyTheRest()).
+ * <p>
+ * Example:
+ * <pre>
+ * private static final MockCoachTemplate TEMPLATE = MockCoach.builder()
+ *         .add(...)
+ *         .buildTemplate();
+ *
+ * private MockCoach mockCoach;
+ *
+ * &#64;BeforeEach
+ * void setup() {
+ *     mockCoach = TEMPLATE.newSession();
+ * }
+ * </pre>
+ */
+public final class MockCoachTemplate {
+
+    final ChainPlan plan;
+    final IdentityMockIndex mockIndex;
+
+    final NoInteractionLambda verifyNoInteractionLambda;
+    final BatchNoInteractionLambda batchNoInteractionLambda;
+    final Executor verifyExecutor;
+    final LambdaListener lambdaListener;
+    final RangeListener rangeListener;
+    final LambdaUsage lambdaUsage;
+    final boolean isSoftVerify;
+    final ChainRunner chainRunner;
+
+    final boolean isThreadLocalCursor;
+
+    MockCoachTemplate(
+            ChainPlan plan,
+            IdentityMockIndex mockIndex,
+            NoInteractionLambda verifyNoInteractionLambda,
+            BatchNoInteractionLambda batchNoInteractionLambda,
+            Executor verifyExecutor,
+            LambdaListener lambdaListener,
+            RangeListener rangeListener,
+            LambdaUsage lambdaUsage,
+            boolean isSoftVerify,
+            ChainRunner chainRunner,
+            boolean isThreadLocalCursor
+    ) {
+        this.plan = plan;
+        this.mockIndex = mockIndex;
+        this.verifyNoInteractionLambda = verifyNoInteractionLambda;
+        this.batchNoInteractionLambda = batchNoInteractionLambda;
+        this.verifyExecutor = verifyExecutor;
+        this.lambdaListener = lambdaListener;
+        this.rangeListener = rangeListener;
+        this.lambdaUsage = lambdaUsage;
+        this.isSoftVerify = isSoftVerify;
+        this.chainRunner = chainRunner;
+        this.isThreadLocalCursor = isThreadLocalCursor;
+    }
+
+    /**
+     * Returns a new MockCoach for this chain, with a fresh cursor. Does not re-validate the chain.
+     * <p>
+     * Settings (such as putVerifyNoInteractions) changed on the returned MockCoach do not affect this template.
+     *
+     * @return MockCoach
+     */
+    public MockCoach newSession() {
+        return new MockCoach(this);
+    }
+}
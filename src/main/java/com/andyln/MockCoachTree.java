@@ -0,0 +1,405 @@
+package com.andyln;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Mock Coach for a tree of chains, where branches (such as the if/else paths of a business method) share the mocks and
+ * lambdas of their common prefix.
+ * <p>
+ * Example:
+ * <pre>
+ * MockCoachTree mockCoachTree = new MockCoachTree.Builder()
+ *         .add(userService, w1, v1)
+ *         .add(orderRepository, w2, v2)
+ *         .branch("approved", b -&gt; b.add(paymentService, w3, v3).add(emailService, w4, v4))
+ *         .branch("rejected", b -&gt; b.add(auditService, w5, v5))
+ *         .build();
+ *
+ * mockCoachTree.whenBefore("approved", emailService); // Runs w1, w2, w3
+ * </pre>
+ * Each mock and its lambdas are one node, stored once however many branches share it. Nodes are kept in flat arrays,
+ * in the order they were added, with a pointer to their parent node: the whole tree takes a few ints per node, and
+ * a branch is only the node it ends at. A branch runs from the root to that node.
+ * <p>
+ * Exception messages number lambdas by their position in the branch. Example: "w3" is the third when lambda of the branch.
+ */
+public class MockCoachTree {
+
+    private final Object[] mocks;
+    private final WhenLambda[] whenLambdas;
+    private final VerifyLambda[] verifyLambdas;
+
+    // Parent node of each node, or -1 for a node at the root of the tree
+    private final int[] parents;
+
+    // Zero-based position of each node in its branches
+    private final int[] depths;
+
+    // Nodes are added in preorder, so descendants of node i are nodes i + 1 to subtreeEnds[i] - 1
+    private final int[] subtreeEnds;
+
+    // Nodes of each mock, across every branch
+    private final OccurrenceIndex nodesOfMock;
+
+    // Branch name to node the branch ends at
+    private final Map<String, Integer> branchEnds;
+
+    private final ChainCursor cursor = new ChainCursor();
+
+    // Node the branch of the previous method ends at
+    private int lastBranchEnd;
+
+    MockCoachTree(Object[] mocks, WhenLambda[] whenLambdas, VerifyLambda[] verifyLambdas, int[] parents, Map<String, Integer> branchEnds) {
+        this.mocks = mocks;
+        this.whenLambdas = whenLambdas;
+        this.verifyLambdas = verifyLambdas;
+        this.parents = parents;
+        this.branchEnds = branchEnds;
+
+        int nodeCount = mocks.length;
+        this.depths = new int[nodeCount];
+        this.subtreeEnds = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            depths[i] = parents[i] == -1 ? 0 : depths[parents[i]] + 1;
+            subtreeEnds[i] = i + 1;
+        }
+        for (int i = nodeCount - 1; i >= 0; i--) {
+            if (parents[i] != -1) {
+                subtreeEnds[parents[i]] = Math.max(subtreeEnds[parents[i]], subtreeEnds[i]);
+            }
+        }
+
+        this.nodesOfMock = new OccurrenceIndex(mocks);
+    }
+
+    /**
+     * Runs whens of branch before, and not including, when corresponding to mock.
+     *
+     * @param branch Name of branch
+     * @param mock   Any mock within branch
+     * @throws IllegalArgumentException Calling with branch not in tree, or with object not in branch.
+     */
+    public void whenBefore(String branch, Object mock) {
+        int branchEnd = branchEnd("whenBefore(String branch, Object mock)", branch);
+        int node = nodeInBranch("whenBefore(String branch, Object mock)", branchEnd, mock);
+
+        runWhens(branch, branchPath(branchEnd), 0, depths[node]);
+
+        cursor.canCallWhenTheRest = true;
+        cursor.lastSuccessfulMockIndex = depths[node];
+        lastBranchEnd = branchEnd;
+    }
+
+    /**
+     * Runs all whens of branch.
+     *
+     * @param branch Name of branch
+     * @throws IllegalArgumentException Calling with branch not in tree.
+     */
+    public void whenAll(String branch) {
+        int[] path = branchPath(branchEnd("whenAll(String branch)", branch));
+
+        runWhens(branch, path, 0, path.length);
+    }
+
+    /**
+     * Runs when lambdas of branch used in previous method, after, but not including, mock used in previous method.
+     *
+     * @throws IllegalStateException Calling this method when not using whenBefore(branch, mock)
+     */
+    public void whenTheRest() {
+        if (!cursor.canCallWhenTheRest) {
+            throw new IllegalStateException("Cannot call whenTheRest()! Must be called only after whenBefore(branch, mock)");
+        }
+
+        int[] path = branchPath(lastBranchEnd);
+        runWhens(branchName(lastBranchEnd), path, cursor.lastSuccessfulMockIndex + 1, path.length);
+
+        cursor.canCallWhenTheRest = false;
+    }
+
+    /**
+     * Runs verifies of branch before, and not including, verify corresponding to mock.
+     *
+     * @param branch Name of branch
+     * @param mock   Any mock within branch
+     * @throws IllegalArgumentException Calling with branch not in tree, or with object not in branch.
+     */
+    public void verifyBefore(String branch, Object mock) {
+        int branchEnd = branchEnd("verifyBefore(String branch, Object mock)", branch);
+        int node = nodeInBranch("verifyBefore(String branch, Object mock)", branchEnd, mock);
+
+        runVerifies(branch, branchPath(branchEnd), 0, depths[node]);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = depths[node];
+        lastBranchEnd = branchEnd;
+    }
+
+    /**
+     * Runs verifies of branch up to, and including, verify corresponding to mock.
+     *
+     * @param branch Name of branch
+     * @param mock   Any mock within branch
+     * @throws IllegalArgumentException Calling with branch not in tree, or with object not in branch.
+     */
+    public void verifyThrough(String branch, Object mock) {
+        int branchEnd = branchEnd("verifyThrough(String branch, Object mock)", branch);
+        int node = nodeInBranch("verifyThrough(String branch, Object mock)", branchEnd, mock);
+
+        runVerifies(branch, branchPath(branchEnd), 0, depths[node] + 1);
+
+        cursor.canCallVerifyTheRest = true;
+        cursor.lastSuccessfulMockIndex = depths[node];
+        lastBranchEnd = branchEnd;
+    }
+
+    /**
+     * Runs all verifies of branch.
+     *
+     * @param branch Name of branch
+     * @throws IllegalArgumentException Calling with branch not in tree.
+     */
+    public void verifyAll(String branch) {
+        int[] path = branchPath(branchEnd("verifyAll(String branch)", branch));
+
+        runVerifies(branch, path, 0, path.length);
+    }
+
+    /**
+     * Runs verify lambdas of branch used in previous method, after, but not including, mock used in previous method.
+     *
+     * @throws IllegalStateException Calling this method when not using verifyBefore(branch, mock)/verifyThrough(branch, mock)
+     */
+    public void verifyTheRest() {
+        if (!cursor.canCallVerifyTheRest) {
+            throw new IllegalStateException("Cannot call verifyTheRest()! Must be called only after verifyBefore(branch, mock)/verifyThrough(branch, mock)");
+        }
+
+        int[] path = branchPath(lastBranchEnd);
+        runVerifies(branchName(lastBranchEnd), path, cursor.lastSuccessfulMockIndex + 1, path.length);
+
+        cursor.canCallVerifyTheRest = false;
+    }
+
+    private int branchEnd(String methodName, String branch) {
+        Integer branchEnd = branch == null ? null : branchEnds.get(branch);
+
+        if (branchEnd == null) {
+            throw new IllegalArgumentException(String.format("Cannot call %s for branch not in tree!", methodName));
+        }
+
+        return branchEnd;
+    }
+
+    /**
+     * Returns node of mock in branch, checking each node of mock for whether it is the branch's end, or an ancestor of it.
+     */
+    private int nodeInBranch(String methodName, int branchEnd, Object mock) {
+        int occurrences = nodesOfMock.occurrences(mock);
+        for (int occurrence = 1; occurrence <= occurrences; occurrence++) {
+            int node = nodesOfMock.indexOf(mock, occurrence);
+            if (node <= branchEnd && branchEnd < subtreeEnds[node]) {
+                return node;
+            }
+        }
+
+        throw new IllegalArgumentException(String.format("Cannot call %s for mock not in branch!", methodName));
+    }
+
+    /**
+     * Returns nodes from the root of the tree to branchEnd.
+     */
+    private int[] branchPath(int branchEnd) {
+        int[] path = new int[depths[branchEnd] + 1];
+        for (int node = branchEnd; node != -1; node = parents[node]) {
+            path[depths[node]] = node;
+        }
+        return path;
+    }
+
+    private String branchName(int branchEnd) {
+        for (Map.Entry<String, Integer> branch : branchEnds.entrySet()) {
+            if (branch.getValue() == branchEnd) {
+                return branch.getKey();
+            }
+        }
+        throw new IllegalStateException("Branch ending at node " + branchEnd + " is not in tree!");
+    }
+
+    private void runWhens(String branch, int[] path, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            int node = path[i];
+            try {
+                whenLambdas[node].run();
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.WHEN, i + 1, mocks[node], failureFormat("w%d", branch, "whens"), e);
+            }
+        }
+    }
+
+    private void runVerifies(String branch, int[] path, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            int node = path[i];
+            try {
+                verifyLambdas[node].run();
+            } catch (Exception e) {
+                throw new MockCoachLambdaException(LambdaPhase.VERIFY, i + 1, mocks[node], failureFormat("v%d", branch, "verifies"), e);
+            }
+        }
+    }
+
+    private static String failureFormat(String lambdaFormat, String branch, String lambdas) {
+        return lambdaFormat + " of branch \"" + branch.replace("%", "%%") + "\" throws an exception! Please check your " + lambdas + ".";
+    }
+
+    public static class Builder {
+        private final List<Object> mocks;
+        private final List<WhenLambda> whens;
+        private final List<VerifyLambda> verifies;
+        private final List<Integer> parents;
+        private final Map<String, Integer> branchEnds;
+
+        // Last node added by this builder, or the node this builder branched from. -1 before any node is added
+        private int lastNode;
+
+        private boolean hasBranched;
+
+        /**
+         * Creates a builder for MockCoachTree.
+         */
+        public Builder() {
+            this.mocks = new ArrayList<>();
+            this.whens = new ArrayList<>();
+            this.verifies = new ArrayList<>();
+            this.parents = new ArrayList<>();
+            this.branchEnds = new LinkedHashMap<>();
+            this.lastNode = -1;
+        }
+
+        private Builder(Builder parent) {
+            this.mocks = parent.mocks;
+            this.whens = parent.whens;
+            this.verifies = parent.verifies;
+            this.parents = parent.parents;
+            this.branchEnds = parent.branchEnds;
+            this.lastNode = parent.lastNode;
+        }
+
+        /**
+         * Adds mock with its when and verify lambdas after the last mock of this builder, shared by every branch added after it.
+         *
+         * @param m Mock
+         * @param w When lambda
+         * @param v Verify lambda
+         * @return Builder
+         * @throws IllegalStateException    Adding after branch(...) was called on this builder.
+         * @throws IllegalArgumentException Adding a mock that is null, not permitted type, or already in its branch.
+         */
+        public Builder add(Object m, WhenLambda w, VerifyLambda v) {
+            if (hasBranched) {
+                throw new IllegalStateException("Cannot call add(...) after branch(...)! Add shared mocks before branching");
+            }
+
+            int position = 1;
+            for (int node = lastNode; node != -1; node = parents.get(node)) {
+                position++;
+                if (mocks.get(node) == m) {
+                    throw new IllegalArgumentException(String.format("m%d cannot be the same as a previous mock in its branch!", position));
+                }
+            }
+            checkMock(m, position);
+
+            if (w == null || v == null) {
+                throw new IllegalArgumentException(String.format("w%d/v%d cannot be null!", position, position));
+            }
+
+            mocks.add(m);
+            whens.add(w);
+            verifies.add(v);
+            parents.add(lastNode);
+            lastNode = mocks.size() - 1;
+            return this;
+        }
+
+        /**
+         * Adds a branch, continuing from the last mock of this builder.
+         *
+         * @param name          Name of branch, used to select the branch in range methods
+         * @param branchBuilder Adds mocks of the branch, and any branches of the branch. Example: "b -&gt; b.add(m3, w3, v3)"
+         * @return Builder
+         * @throws IllegalArgumentException Branch name is null or already used, or branch does not add any mock.
+         */
+        public Builder branch(String name, Consumer<Builder> branchBuilder) {
+            if (name == null) {
+                throw new IllegalArgumentException("Branch name cannot be null!");
+            }
+
+            if (branchEnds.containsKey(name)) {
+                throw new IllegalArgumentException(String.format("Branch \"%s\" is already in tree!", name));
+            }
+
+            Builder branch = new Builder(this);
+            branchBuilder.accept(branch);
+
+            if (branch.lastNode == lastNode) {
+                throw new IllegalArgumentException(String.format("Branch \"%s\" must add at least one mock!", name));
+            }
+
+            branchEnds.put(name, branch.lastNode);
+            hasBranched = true;
+            return this;
+        }
+
+        /**
+         * Builds MockCoachTree.
+         *
+         * @return MockCoachTree
+         * @throws IllegalStateException Building a tree without branches.
+         */
+        public MockCoachTree build() {
+            if (branchEnds.isEmpty()) {
+                throw new IllegalStateException("Tree must have at least one branch! For a single chain, use MockCoach");
+            }
+
+            int[] parentArray = new int[parents.size()];
+            for (int i = 0; i < parentArray.length; i++) {
+                parentArray[i] = parents.get(i);
+            }
+
+            return new MockCoachTree(
+                    mocks.toArray(new Object[0]),
+                    whens.toArray(new WhenLambda[0]),
+                    verifies.toArray(new VerifyLambda[0]),
+                    parentArray,
+                    new LinkedHashMap<>(branchEnds)
+            );
+        }
+
+        private static void checkMock(Object m, int position) {
+            if (m == null) {
+                throw new IllegalArgumentException(String.format("m%d cannot be null!", position));
+            }
+
+            if (m instanceof Integer) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of Integer!", position));
+            }
+
+            if (m instanceof Character) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of Character!", position));
+            }
+
+            if (m instanceof String) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of String!", position));
+            }
+
+            if (m instanceof Enum<?>) {
+                throw new IllegalArgumentException(String.format("m%d cannot be instance of Enum!", position));
+            }
+        }
+    }
+}
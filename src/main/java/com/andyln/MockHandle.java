@@ -0,0 +1,37 @@
+package com.andyln;
+
+/**
+ * Handle of a mock in a chain, holding the mock's position in the chain.
+ * <p>
+ * Passing a handle, instead of a mock, to methods such as whenBefore and verifyThrough skips looking up the mock.
+ * A handle only works with MockCoaches of the chain it was created for (including sessions of that chain);
+ * passing it to any other MockCoach throws an IllegalArgumentException.
+ * <p>
+ * Handles are returned by MockCoach.Builder.addAndGetHandle(...) and MockCoach.handle(mock).
+ *
+ * @param <T> Type of mock
+ */
+public final class MockHandle<T> {
+
+    // Chain that this handle belongs to. See ChainPlan.handleOwner
+    final Object owner;
+
+    final int index;
+
+    private final T mock;
+
+    MockHandle(Object owner, int index, T mock) {
+        this.owner = owner;
+        this.index = index;
+        this.mock = mock;
+    }
+
+    /**
+     * Returns the mock of this handle.
+     *
+     * @return Mock
+     */
+    public T getMock() {
+        return mock;
+    }
+}
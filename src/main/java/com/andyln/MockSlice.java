@@ -0,0 +1,49 @@
+package com.andyln;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Read only view of a range of a chain's mocks, passed to a BatchNoInteractionLambda.
+ * <p>
+ * Does not copy mocks, unless toArray() is called.
+ */
+public final class MockSlice extends AbstractList<Object> implements RandomAccess {
+
+    private final Object[] mocks;
+    private final int fromIndex;
+    private final int toIndex;
+
+    /**
+     * @param mocks     Mocks of chain
+     * @param fromIndex Index of first mock of slice (inclusive)
+     * @param toIndex   Index after last mock of slice (exclusive)
+     */
+    MockSlice(Object[] mocks, int fromIndex, int toIndex) {
+        this.mocks = mocks;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    @Override
+    public Object get(int index) {
+        if (index < 0 || index >= toIndex - fromIndex) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for slice of %d mocks", index, toIndex - fromIndex));
+        }
+        return mocks[fromIndex + index];
+    }
+
+    @Override
+    public int size() {
+        return toIndex - fromIndex;
+    }
+
+    /**
+     * Returns a new array of the mocks of this slice. Example: "verifyNoMoreInteractions(mocks.toArray())"
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOfRange(mocks, fromIndex, toIndex, Object[].class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.andyln;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thrown by soft verifies (see MockCoach.putSoftVerifies()), when more than one verify lambda in a range fails.
+ * <p>
+ * Every failure is also added as a suppressed exception, so each stack trace is printed with this exception.
+ */
+public class MultipleVerifyFailuresException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Integer, Throwable> failures;
+
+    /**
+     * @param failures  failures[i] is the failure of verify lambda at fromIndex + i, or null
+     * @param fromIndex Index of first verify lambda of range
+     */
+    MultipleVerifyFailuresException(Throwable[] failures, int fromIndex) {
+        super(message(failures, fromIndex));
+
+        Map<Integer, Throwable> failuresByNumber = new LinkedHashMap<>();
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                failuresByNumber.put(fromIndex + i + 1, failures[i]);
+                addSuppressed(failures[i]);
+            }
+        }
+        this.failures = Collections.unmodifiableMap(failuresByNumber);
+    }
+
+    /**
+     * Returns every failure of the range, keyed by the one-based number of the failing verify lambda (1 for v1),
+     * in order of number.
+     *
+     * @return Failures by number
+     */
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+
+    private static String message(Throwable[] failures, int fromIndex) {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] == null) {
+                continue;
+            }
+
+            if (message.length() > 0) {
+                message.append(", ");
+            }
+            message.append('v').append(fromIndex + i + 1);
+        }
+        return message.append(" throw an exception! Please check your verifies.").toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.andyln;
+
+/**
+ * Index from (mock, occurrence) to the position of that occurrence in mocks, for chains where a mock can occur more
+ * than once.
+ * <p>
+ * Positions of every occurrence are stored in one flat table, grouped by mock in chain order, with the start of each
+ * mock's group in a second table (the same layout as a compressed sparse row). Looking up an occurrence is one
+ * IdentityMockIndex lookup and two array reads, and the tables take one int per mock in the chain plus one int per
+ * distinct mock, however many times a mock repeats.
+ */
+final class OccurrenceIndex {
+
+    static final int NOT_FOUND = IdentityMockIndex.NOT_FOUND;
+
+    // Mock to its id: the order in which distinct mocks first occur in the chain
+    private final IdentityMockIndex mockIds;
+
+    // Occurrences of mock with id are positions[groupStarts[id]] to positions[groupStarts[id + 1] - 1]
+    private final int[] groupStarts;
+    private final int[] positions;
+
+    OccurrenceIndex(Object[] mocks) {
+        IdentityMockIndex mockIds = new IdentityMockIndex(mocks.length);
+        int[] idOfPosition = new int[mocks.length];
+        int[] occurrenceCounts = new int[mocks.length];
+
+        int distinctMocks = 0;
+        for (int i = 0; i < mocks.length; i++) {
+            int id = mockIds.putIfAbsent(mocks[i], distinctMocks);
+            if (id == IdentityMockIndex.NOT_FOUND) {
+                id = distinctMocks++;
+            }
+            idOfPosition[i] = id;
+            occurrenceCounts[id]++;
+        }
+
+        int[] groupStarts = new int[distinctMocks + 1];
+        for (int id = 0; id < distinctMocks; id++) {
+            groupStarts[id + 1] = groupStarts[id] + occurrenceCounts[id];
+        }
+
+        // Reuses occurrenceCounts as the next free slot of each group
+        int[] nextSlots = occurrenceCounts;
+        System.arraycopy(groupStarts, 0, nextSlots, 0, distinctMocks);
+        int[] positions = new int[mocks.length];
+        for (int i = 0; i < mocks.length; i++) {
+            positions[nextSlots[idOfPosition[i]]++] = i;
+        }
+
+        this.mockIds = mockIds;
+        this.groupStarts = groupStarts;
+        this.positions = positions;
+    }
+
+    /**
+     * Returns number of times mock occurs in mocks, or 0 if mock is not in mocks.
+     */
+    int occurrences(Object mock) {
+        int id = mockIds.indexOf(mock);
+        if (id == IdentityMockIndex.NOT_FOUND) {
+            return 0;
+        }
+        return groupStarts[id + 1] - groupStarts[id];
+    }
+
+    /**
+     * Returns position of an occurrence of mock in mocks.
+     *
+     * @param occurrence One-based occurrence of mock. Example: 2 for the second time mock occurs in mocks
+     * @return Position in mocks, or NOT_FOUND if mock is not in mocks or does not occur that many times
+     */
+    int indexOf(Object mock, int occurrence) {
+        int id = mockIds.indexOf(mock);
+        if (id == IdentityMockIndex.NOT_FOUND) {
+            return NOT_FOUND;
+        }
+
+        int groupStart = groupStarts[id];
+        if (occurrence < 1 || occurrence > groupStarts[id + 1] - groupStart) {
+            return NOT_FOUND;
+        }
+        return positions[groupStart + occurrence - 1];
+    }
+}
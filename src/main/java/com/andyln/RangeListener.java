@@ -0,0 +1,20 @@
+package com.andyln;
+
+/**
+ * Called after every range method call of a MockCoach (such as whenBefore(mock) or verifyTheRest()), whether its lambdas
+ * succeeded or one threw an exception.
+ * <p>
+ * Called from the thread that called the range method.
+ */
+@FunctionalInterface
+public interface RangeListener {
+
+    /**
+     * @param rangeName    Name of range method that was called. Example: "whenBefore"
+     * @param firstIndex   One-based index of first lambda in range
+     * @param lastIndex    One-based index of last lambda in range, less than firstIndex if range was empty
+     * @param elapsedNanos Time taken to run the range, in nanoseconds
+     */
+    void onRangeRun(String rangeName, int firstIndex, int lastIndex, long elapsedNanos);
+
+}
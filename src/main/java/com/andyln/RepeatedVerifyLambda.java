@@ -0,0 +1,22 @@
+package com.andyln;
+
+/**
+ * Verify lambda of a loop, that checks every repetition of the loop with one verify.
+ * <p>
+ * Example: "RepeatedVerifyLambda v2 = times -&gt; verify(mock2, times(times)).method();"
+ */
+@FunctionalInterface
+public interface RepeatedVerifyLambda extends VerifyLambda {
+
+    /**
+     * @param times Number of repetitions of the loop
+     * @throws Exception Verify failure
+     */
+    void run(int times) throws Exception;
+
+    @Override
+    default void run() throws Exception {
+        run(1);
+    }
+
+}
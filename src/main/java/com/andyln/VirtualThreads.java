@@ -0,0 +1,30 @@
+package com.andyln;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Virtual threads to run verifies on, one virtual thread per lambda run.
+ * <p>
+ * Virtual threads need Java 21, so on Java 8 there is no executor, and MockCoach keeps running verifies in order on
+ * the calling thread. On Java 21 and above, the multi-release jar replaces this class with the one in src/main/java21.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns true if lambdas can run on virtual threads. Backs MockCoach.isVirtualThreadVerifiesAvailable().
+     */
+    static boolean isAvailable() {
+        return false;
+    }
+
+    /**
+     * Returns executor starting a new virtual thread for every task, or null if virtual threads are not available.
+     * Only called when isAvailable() is true.
+     */
+    static Executor perTaskExecutor() {
+        return null;
+    }
+}
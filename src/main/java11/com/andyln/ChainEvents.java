@@ -0,0 +1,82 @@
+package com.andyln;
+
+import jdk.jfr.EventType;
+
+/**
+ * Java Flight Recorder events of chain execution: one RangeCallEvent per range method call, and one LambdaRunEvent per
+ * lambda run.
+ * <p>
+ * Java 11 version of ChainEvents, used from the multi-release jar. Without a recording, both event types are disabled,
+ * so MockCoach takes its unrecorded path, without creating any event.
+ */
+final class ChainEvents {
+
+    private static final LambdaListener RECORDING_LISTENER = ChainEvents::commitLambdaRun;
+
+    // Checked on every range method call, so looked up once, instead of creating events to ask if they are enabled
+    private static final EventType RANGE_CALL_EVENT_TYPE = EventType.getEventType(RangeCallEvent.class);
+    private static final EventType LAMBDA_RUN_EVENT_TYPE = EventType.getEventType(LambdaRunEvent.class);
+
+    private ChainEvents() {
+    }
+
+    /**
+     * Returns true if a recording is taking Mock Coach events.
+     */
+    static boolean isRecording() {
+        return RANGE_CALL_EVENT_TYPE.isEnabled() || LAMBDA_RUN_EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Starts timing a range method call.
+     *
+     * @return Event to pass into commitRange
+     */
+    static Object beginRange() {
+        RangeCallEvent rangeEvent = new RangeCallEvent();
+        rangeEvent.begin();
+        return rangeEvent;
+    }
+
+    /**
+     * Records a range method call, that ran lambdas from fromIndex (inclusive) to toIndex (exclusive).
+     */
+    static void commitRange(Object rangeEvent, String rangeName, int fromIndex, int toIndex) {
+        RangeCallEvent event = (RangeCallEvent) rangeEvent;
+        event.end();
+        if (event.shouldCommit()) {
+            event.rangeName = rangeName;
+            event.firstIndex = fromIndex + 1;
+            event.lastIndex = toIndex;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns listener recording an event per lambda run, before calling lambdaListener (if not null).
+     */
+    static LambdaListener recordingListener(LambdaListener lambdaListener) {
+        if (lambdaListener == null) {
+            return RECORDING_LISTENER;
+        }
+        return (phase, index, mock, elapsedNanos) -> {
+            commitLambdaRun(phase, index, mock, elapsedNanos);
+            lambdaListener.onLambdaRun(phase, index, mock, elapsedNanos);
+        };
+    }
+
+    private static void commitLambdaRun(LambdaPhase phase, int index, Object mock, long elapsedNanos) {
+        if (!LAMBDA_RUN_EVENT_TYPE.isEnabled()) {
+            return;
+        }
+
+        LambdaRunEvent event = new LambdaRunEvent();
+        if (event.isEnabled()) {
+            event.phase = phase.name();
+            event.index = index;
+            event.mockClass = mock == null ? null : mock.getClass().getName();
+            event.elapsed = elapsedNanos;
+            event.commit();
+        }
+    }
+}
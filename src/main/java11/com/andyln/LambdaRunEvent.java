@@ -0,0 +1,29 @@
+package com.andyln;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.andyln.LambdaRun")
+@Label("Mock Coach Lambda Run")
+@Category("Mock Coach")
+@Description("Run of a when lambda, verify lambda, or no interaction lambda")
+final class LambdaRunEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Index")
+    @Description("One-based index of lambda, the same index as w%d/v%d/m%d in exception messages")
+    int index;
+
+    @Label("Mock Class")
+    String mockClass;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
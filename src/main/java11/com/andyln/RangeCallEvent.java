@@ -0,0 +1,25 @@
+package com.andyln;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.andyln.RangeCall")
+@Label("Mock Coach Range Call")
+@Category("Mock Coach")
+@Description("Call of a MockCoach range method, such as whenBefore(mock) or verifyTheRest()")
+final class RangeCallEvent extends Event {
+
+    @Label("Range Method")
+    String rangeName;
+
+    @Label("First Index")
+    @Description("One-based index of first lambda run by range method")
+    int firstIndex;
+
+    @Label("Last Index")
+    @Description("One-based index of last lambda run by range method. Less than First Index, if no lambda was run")
+    int lastIndex;
+}
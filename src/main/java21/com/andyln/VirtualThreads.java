@@ -0,0 +1,35 @@
+package com.andyln;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads to run verifies on, one virtual thread per lambda run.
+ * <p>
+ * Java 21 version of VirtualThreads, used from the multi-release jar. Threads are not pooled: ChainPlan waits for
+ * every lambda it starts before a range method returns, so no thread outlives the range method that started it.
+ */
+final class VirtualThreads {
+
+    private static final ThreadFactory VERIFY_THREAD_FACTORY = Thread.ofVirtual().name("mock-coach-verify-", 0).factory();
+
+    private static final Executor PER_TASK_EXECUTOR = task -> VERIFY_THREAD_FACTORY.newThread(task).start();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Returns true if lambdas can run on virtual threads. Backs MockCoach.isVirtualThreadVerifiesAvailable().
+     */
+    static boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Returns executor starting a new virtual thread for every task, or null if virtual threads are not available.
+     * Only called when isAvailable() is true.
+     */
+    static Executor perTaskExecutor() {
+        return PER_TASK_EXECUTOR;
+    }
+}
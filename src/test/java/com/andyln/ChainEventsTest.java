@@ -0,0 +1,34 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChainEventsTest {
+
+    // Tests run against target/classes, so test the Java 8 version of ChainEvents
+
+    @Test
+    void isRecording_isFalse() {
+        assertFalse(ChainEvents.isRecording());
+    }
+
+    @Test
+    void recordingListener_whenLambdaListener_ThenCallsLambdaListener() {
+        Object mock = new Object();
+        LambdaListener lambdaListener = mock(LambdaListener.class);
+
+        ChainEvents.recordingListener(lambdaListener).onLambdaRun(LambdaPhase.WHEN, 1, mock, 10L);
+
+        verify(lambdaListener, times(1)).onLambdaRun(LambdaPhase.WHEN, 1, mock, 10L);
+    }
+
+    @Test
+    void recordingListener_whenNoLambdaListener_ThenReturnsListener() {
+        LambdaListener recordingListener = ChainEvents.recordingListener(null);
+
+        assertNotNull(recordingListener);
+        recordingListener.onLambdaRun(LambdaPhase.VERIFY, 1, new Object(), 10L);
+    }
+}
@@ -0,0 +1,473 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChainPlanTest {
+
+    private final Object mock1 = mock(Object.class);
+    private final Object mock2 = mock(Object.class);
+
+    private final WhenLambda when1 = mock(WhenLambda.class);
+    private final WhenLambda when2 = mock(WhenLambda.class);
+    private final WhenLambda when3 = mock(WhenLambda.class);
+
+    private final VerifyLambda verify1 = mock(VerifyLambda.class);
+    private final VerifyLambda verify2 = mock(VerifyLambda.class);
+    private final VerifyLambda verify3 = mock(VerifyLambda.class);
+
+    private final ChainPlan pathGraphPlan = new ChainPlan(
+            new Object[]{mock1, mock2},
+            new WhenLambda[]{when1, when2},
+            new VerifyLambda[]{verify1, verify2},
+            false
+    );
+
+    private final ChainPlan circleChainPlan = new ChainPlan(
+            new Object[]{mock1, mock2, mock1},
+            new WhenLambda[]{when1, when2, when3},
+            new VerifyLambda[]{verify1, verify2, verify3},
+            true
+    );
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void whenPathGraph_ThenPrecomputesRanges() {
+            assertEquals(2, pathGraphPlan.length);
+            assertEquals(1, pathGraphPlan.lastIndex);
+            assertSame(mock1, pathGraphPlan.firstMock);
+            assertSame(mock2, pathGraphPlan.lastMock);
+            assertTrue(pathGraphPlan.containsMoreThanOneMock);
+            assertFalse(pathGraphPlan.isCircleChainEndpoint(mock1));
+        }
+
+        @Test
+        void whenCircleChain_ThenFirstMockIsCircleChainEndpoint() {
+            assertTrue(circleChainPlan.isCircleChainEndpoint(mock1));
+            assertFalse(circleChainPlan.isCircleChainEndpoint(mock2));
+        }
+
+        @Test
+        void whenSingleMock_ThenNoCircleChainEndpoint() {
+            ChainPlan singleMockPlan = new ChainPlan(new Object[]{mock1}, new WhenLambda[]{when1}, new VerifyLambda[]{verify1}, true);
+
+            assertFalse(singleMockPlan.containsMoreThanOneMock);
+            assertFalse(singleMockPlan.isCircleChainEndpoint(mock1));
+        }
+    }
+
+    @Nested
+    class RunWhens {
+
+        @Test
+        void success() throws Exception {
+            circleChainPlan.runWhens(1, 3);
+
+            verifyNoInteractions(when1);
+            verify(when2, times(1)).run();
+            verify(when3, times(1)).run();
+        }
+
+        @Test
+        void whenEmptyRange_ThenRunsNothing() {
+            circleChainPlan.runWhens(2, 2);
+
+            verifyNoInteractions(when1, when2, when3);
+        }
+
+        @Test
+        void whenWhenThrowsException_ThenThrowRuntimeException() throws Exception {
+            String expectedMessage = "w2 throws an exception! Please check your whens.";
+
+            doThrow(new Exception()).when(when2).run();
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    () -> circleChainPlan.runWhens(0, 3)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            verify(when1, times(1)).run();
+            verifyNoInteractions(when3);
+        }
+
+        @Test
+        void whenWhenThrowsException_ThenThrowMockCoachLambdaExceptionWithFailingLambda() throws Exception {
+            Exception failure = new Exception();
+
+            doThrow(failure).when(when2).run();
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    () -> circleChainPlan.runWhens(0, 3)
+            );
+
+            assertEquals(LambdaPhase.WHEN, actualException.getPhase());
+            assertEquals(2, actualException.getIndex());
+            assertSame(mock2, actualException.getMock());
+            assertSame(failure, actualException.getCause());
+        }
+    }
+
+    @Nested
+    class RunVerifies {
+
+        @Test
+        void success() throws Exception {
+            pathGraphPlan.runVerifies(0, 1);
+
+            verify(verify1, times(1)).run();
+            verifyNoInteractions(verify2);
+        }
+
+        @Test
+        void whenVerifyThrowsException_ThenThrowRuntimeException() throws Exception {
+            String expectedMessage = "v1 throws an exception! Please check your verifies.";
+
+            doThrow(new Exception()).when(verify1).run();
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    () -> pathGraphPlan.runVerifies(0, 2)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            verifyNoInteractions(verify2);
+        }
+    }
+
+    @Nested
+    class RunWhensAsync {
+
+        @Test
+        void whenNoAsyncWhenLambdas_ThenRunsWhensInOrder() throws Exception {
+            pathGraphPlan.runWhensAsync(0, 2, null);
+
+            verify(when1, times(1)).run();
+            verify(when2, times(1)).run();
+        }
+
+        @Test
+        void whenPrepareThrowsException_ThenThrowMockCoachLambdaExceptionAfterPreviousWhens() throws Exception {
+            Exception failure = new Exception();
+            AsyncWhenLambda failingPrepare = () -> {
+                throw failure;
+            };
+            ChainPlan plan = new ChainPlan(
+                    new Object[]{mock1, mock2},
+                    new WhenLambda[]{when1, failingPrepare},
+                    new VerifyLambda[]{verify1, verify2},
+                    false
+            );
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    () -> plan.runWhensAsync(0, 2, null)
+            );
+
+            assertEquals("w2 throws an exception! Please check your whens.", actualException.getMessage());
+            assertSame(failure, actualException.getCause());
+            verify(when1, times(1)).run();
+        }
+
+        @Test
+        void whenListener_ThenCallsListenerForEachWhen() {
+            LambdaListener lambdaListener = mock(LambdaListener.class);
+
+            pathGraphPlan.runWhensAsync(0, 2, lambdaListener);
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.WHEN), eq(1), same(mock1), anyLong());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.WHEN), eq(2), same(mock2), anyLong());
+        }
+    }
+
+    @Nested
+    class AwaitStub {
+
+        @Test
+        void whenStageCompletesWithError_ThenRethrowError() {
+            AssertionError expectedError = new AssertionError();
+            CompletableFuture<WhenLambda> failedStage = new CompletableFuture<>();
+            failedStage.completeExceptionally(expectedError);
+
+            AssertionError actualError = assertThrows(AssertionError.class, () -> ChainPlan.awaitStub(failedStage));
+
+            assertSame(expectedError, actualError);
+        }
+
+        @Test
+        void whenStageIsNull_ThenThrowIllegalStateException() {
+            IllegalStateException actualException = assertThrows(IllegalStateException.class, () -> ChainPlan.awaitStub(null));
+
+            assertEquals("AsyncWhenLambda cannot return a null stage!", actualException.getMessage());
+        }
+
+        @Test
+        void whenStageCompletesWithNull_ThenThrowIllegalStateException() {
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    () -> ChainPlan.awaitStub(CompletableFuture.completedFuture(null))
+            );
+
+            assertEquals("AsyncWhenLambda stage cannot complete with a null when lambda!", actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class RunNoInteractionsInParallel {
+
+        // Runs submitted tasks in reverse order, once every task has been submitted
+        private final List<Runnable> submittedTasks = new ArrayList<>();
+
+        private Executor reversingExecutor(int taskCount) {
+            return task -> {
+                submittedTasks.add(0, task);
+                if (submittedTasks.size() == taskCount) {
+                    submittedTasks.forEach(Runnable::run);
+                }
+            };
+        }
+
+        @Test
+        void success() throws Exception {
+            NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+
+            circleChainPlan.runNoInteractionsInParallel(verifyNoInteractionLambda, 1, 3, "m%d", reversingExecutor(2), null);
+
+            assertEquals(2, submittedTasks.size());
+            verify(verifyNoInteractionLambda, times(1)).run(mock2);
+            verify(verifyNoInteractionLambda, times(1)).run(mock1);
+        }
+
+        @Test
+        void whenExecutorRejectsTask_ThenThrowMockCoachLambdaExceptionAfterSubmittedTasks() throws Exception {
+            NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+            RejectedExecutionException rejection = new RejectedExecutionException();
+            Executor rejectingSecondTaskExecutor = task -> {
+                if (submittedTasks.size() == 1) {
+                    throw rejection;
+                }
+                submittedTasks.add(task);
+                task.run();
+            };
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    () -> pathGraphPlan.runNoInteractionsInParallel(verifyNoInteractionLambda, 0, 2, "m%d failed", rejectingSecondTaskExecutor, null)
+            );
+
+            assertEquals("m2 failed", actualException.getMessage());
+            assertSame(rejection, actualException.getCause());
+            verify(verifyNoInteractionLambda, times(1)).run(mock1);
+        }
+
+        @Test
+        void whenSingleMock_ThenRunsOnCallingThread() throws Exception {
+            NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+
+            pathGraphPlan.runNoInteractionsInParallel(verifyNoInteractionLambda, 1, 2, "m%d", submittedTasks::add, null);
+
+            assertTrue(submittedTasks.isEmpty());
+            verify(verifyNoInteractionLambda, times(1)).run(mock2);
+        }
+
+        @Test
+        void whenSeveralMocksFail_ThenThrowMockCoachLambdaExceptionOfLowestIndex() {
+            Exception failure = new Exception();
+            NoInteractionLambda failingNoInteractionLambda = mock -> {
+                throw failure;
+            };
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    () -> pathGraphPlan.runNoInteractionsInParallel(failingNoInteractionLambda, 0, 2, "m%d failed", reversingExecutor(2), null)
+            );
+
+            assertEquals("m1 failed", actualException.getMessage());
+            assertSame(mock1, actualException.getMock());
+            assertSame(failure, actualException.getCause());
+        }
+
+        @Test
+        void whenMockThrowsError_ThenRethrowError() {
+            AssertionError expectedError = new AssertionError("No interactions wanted here");
+            NoInteractionLambda failingNoInteractionLambda = mock -> {
+                if (mock == mock2) {
+                    throw expectedError;
+                }
+            };
+
+            AssertionError actualError = assertThrows(
+                    AssertionError.class,
+                    () -> pathGraphPlan.runNoInteractionsInParallel(failingNoInteractionLambda, 0, 2, "m%d", ForkJoinPool.commonPool(), null)
+            );
+
+            assertSame(expectedError, actualError);
+        }
+
+        @Test
+        void whenListener_ThenCallsListenerForEachMock() {
+            LambdaListener lambdaListener = mock(LambdaListener.class);
+
+            pathGraphPlan.runNoInteractionsInParallel(mock -> {}, 0, 2, "m%d", reversingExecutor(2), lambdaListener);
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.NO_INTERACTION), eq(1), same(mock1), anyLong());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.NO_INTERACTION), eq(2), same(mock2), anyLong());
+        }
+    }
+
+    @Nested
+    class RunVerifiesCollectingFailures {
+
+        @Test
+        void success() throws Exception {
+            circleChainPlan.runVerifiesCollectingFailures(0, 3, null);
+
+            verify(verify1, times(1)).run();
+            verify(verify2, times(1)).run();
+            verify(verify3, times(1)).run();
+        }
+
+        @Test
+        void whenVerifiesThrowException_ThenRunsEveryVerifyAndReportsEveryFailure() throws Exception {
+            doThrow(new Exception()).when(verify1).run();
+            doThrow(new Exception()).when(verify3).run();
+
+            MultipleVerifyFailuresException actualException = assertThrows(
+                    MultipleVerifyFailuresException.class,
+                    () -> circleChainPlan.runVerifiesCollectingFailures(0, 3, null)
+            );
+
+            assertEquals("v1, v3 throw an exception! Please check your verifies.", actualException.getMessage());
+            assertEquals(2, actualException.getFailures().size());
+            verify(verify2, times(1)).run();
+        }
+
+        @Test
+        void whenErrorIsOnlyFailure_ThenRethrowError() throws Exception {
+            AssertionError failure = new AssertionError();
+
+            doThrow(failure).when(verify2).run();
+
+            AssertionError actualError = assertThrows(
+                    AssertionError.class,
+                    () -> circleChainPlan.runVerifiesCollectingFailures(0, 3, null)
+            );
+
+            assertSame(failure, actualError);
+            verify(verify3, times(1)).run();
+        }
+    }
+
+    @Nested
+    class RunNoInteractions {
+
+        private final NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+
+        @Test
+        void success() throws Exception {
+            pathGraphPlan.runNoInteractions(verifyNoInteractionLambda, 1, 2, "m%d");
+
+            verify(verifyNoInteractionLambda, times(1)).run(mock2);
+            verifyNoMoreInteractions(verifyNoInteractionLambda);
+        }
+
+        @Test
+        void whenNoInteractionLambdaThrowsException_ThenThrowRuntimeExceptionWithFormat() throws Exception {
+            doThrow(new Exception()).when(verifyNoInteractionLambda).run(mock2);
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    () -> pathGraphPlan.runNoInteractions(verifyNoInteractionLambda, 0, 2, "m%d failed")
+            );
+
+            assertEquals("m2 failed", actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class RunBatchNoInteractions {
+
+        private final List<List<Object>> batches = new ArrayList<>();
+
+        private final BatchNoInteractionLambda recordingBatch = mocks -> batches.add(new ArrayList<>(mocks));
+
+        @Test
+        void success() {
+            circleChainPlan.runBatchNoInteractions(recordingBatch, 1, 3, "m%d");
+
+            assertEquals(Collections.singletonList(Arrays.asList(mock2, mock1)), batches);
+        }
+
+        @Test
+        void whenEmptyRange_ThenBatchIsNotRun() {
+            circleChainPlan.runBatchNoInteractions(recordingBatch, 3, 3, "m%d");
+
+            assertTrue(batches.isEmpty());
+        }
+
+        @Test
+        void whenBatchThrowsException_ThenThrowMockCoachLambdaExceptionForFirstFailingMock() {
+            Exception failure = new Exception();
+            BatchNoInteractionLambda failingOnMock2 = mocks -> {
+                if (mocks.contains(mock2)) {
+                    throw failure;
+                }
+            };
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    () -> pathGraphPlan.runBatchNoInteractions(failingOnMock2, 0, 2, "m%d failed")
+            );
+
+            assertEquals("m2 failed", actualException.getMessage());
+            assertSame(mock2, actualException.getMock());
+            assertSame(failure, actualException.getCause());
+        }
+
+        @Test
+        void whenOnlyBatchOfManyMocksThrowsException_ThenReportFirstMockOfRange() {
+            Exception failure = new Exception();
+            BatchNoInteractionLambda failingOnMany = mocks -> {
+                if (mocks.size() > 1) {
+                    throw failure;
+                }
+            };
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    () -> pathGraphPlan.runBatchNoInteractions(failingOnMany, 0, 2, "m%d failed")
+            );
+
+            assertEquals("m1 failed", actualException.getMessage());
+            assertSame(failure, actualException.getCause());
+        }
+
+        @Test
+        void whenListener_ThenRunsBatchOnOneMockAtATime() {
+            LambdaListener lambdaListener = mock(LambdaListener.class);
+
+            pathGraphPlan.runBatchNoInteractions(recordingBatch, 0, 2, "m%d", lambdaListener);
+
+            assertEquals(Arrays.asList(Collections.singletonList(mock1), Collections.singletonList(mock2)), batches);
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.NO_INTERACTION), eq(1), same(mock1), anyLong());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.NO_INTERACTION), eq(2), same(mock2), anyLong());
+        }
+    }
+
+}
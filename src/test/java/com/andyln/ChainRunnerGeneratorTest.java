@@ -0,0 +1,133 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChainRunnerGeneratorTest {
+
+    private final List<Integer> calls = new ArrayList<>();
+
+    private Object[] mocks(int length) {
+        Object[] mocks = new Object[length];
+        for (int i = 0; i < length; i++) {
+            mocks[i] = new Object();
+        }
+        return mocks;
+    }
+
+    private WhenLambda[] whens(int length) {
+        WhenLambda[] whens = new WhenLambda[length];
+        for (int i = 0; i < length; i++) {
+            int index = i;
+            whens[i] = () -> calls.add(index);
+        }
+        return whens;
+    }
+
+    private VerifyLambda[] verifies(int length) {
+        VerifyLambda[] verifies = new VerifyLambda[length];
+        for (int i = 0; i < length; i++) {
+            int index = i;
+            verifies[i] = () -> calls.add(-index);
+        }
+        return verifies;
+    }
+
+    @Nested
+    class Generate {
+
+        @Test
+        void whenRunWhens_ThenRunsWhensInRangeInOrder() {
+            ChainRunner runner = ChainRunnerGenerator.generate(mocks(3), whens(3), verifies(3));
+
+            runner.runWhens(1, 3);
+
+            assertEquals(Arrays.asList(1, 2), calls);
+        }
+
+        @Test
+        void whenRunVerifies_ThenRunsVerifiesInRangeInOrder() {
+            ChainRunner runner = ChainRunnerGenerator.generate(mocks(3), whens(3), verifies(3));
+
+            runner.runVerifies(0, 2);
+
+            assertEquals(Arrays.asList(0, -1), calls);
+        }
+
+        @Test
+        void whenEmptyRange_ThenRunsNothing() {
+            ChainRunner runner = ChainRunnerGenerator.generate(mocks(1), whens(1), verifies(1));
+
+            runner.runWhens(1, 1);
+
+            assertTrue(calls.isEmpty());
+        }
+
+        @Test
+        void whenMaxLength_ThenRunsEveryWhen() {
+            int length = ChainRunnerGenerator.MAX_LENGTH;
+            ChainRunner runner = ChainRunnerGenerator.generate(mocks(length), whens(length), verifies(length));
+
+            runner.runWhens(0, length);
+
+            assertEquals(length, calls.size());
+            for (int i = 0; i < length; i++) {
+                assertEquals(i, calls.get(i));
+            }
+        }
+
+        @Test
+        void whenLongerThanMaxLength_ThenReturnNull() {
+            int length = ChainRunnerGenerator.MAX_LENGTH + 1;
+
+            assertNull(ChainRunnerGenerator.generate(mocks(length), whens(length), verifies(length)));
+        }
+
+        @Test
+        void whenWhenThrowsException_ThenThrowMockCoachLambdaException() throws Exception {
+            Object[] mocks = mocks(3);
+            WhenLambda[] whens = whens(3);
+            Exception failure = new Exception();
+            whens[1] = mock(WhenLambda.class);
+            doThrow(failure).when(whens[1]).run();
+
+            ChainRunner runner = ChainRunnerGenerator.generate(mocks, whens, verifies(3));
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    () -> runner.runWhens(0, 3)
+            );
+
+            assertEquals("w2 throws an exception! Please check your whens.", actualException.getMessage());
+            assertSame(mocks[1], actualException.getMock());
+            assertSame(failure, actualException.getCause());
+            assertEquals(Collections.singletonList(0), calls);
+        }
+
+        @Test
+        void whenVerifyThrowsError_ThenRethrowError() throws Exception {
+            VerifyLambda[] verifies = verifies(2);
+            AssertionError failure = new AssertionError();
+            verifies[0] = mock(VerifyLambda.class);
+            doThrow(failure).when(verifies[0]).run();
+
+            ChainRunner runner = ChainRunnerGenerator.generate(mocks(2), whens(2), verifies);
+
+            AssertionError actualError = assertThrows(
+                    AssertionError.class,
+                    () -> runner.runVerifies(0, 2)
+            );
+
+            assertSame(failure, actualError);
+        }
+    }
+
+}
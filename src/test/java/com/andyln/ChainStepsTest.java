@@ -0,0 +1,82 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChainStepsTest {
+
+    @Test
+    void whenEmpty_ThenReturnEmptyArrays() {
+        ChainSteps steps = new ChainSteps();
+
+        assertEquals(0, steps.size());
+        assertEquals(0, steps.mocks().length);
+        assertEquals(0, steps.whenLambdas().length);
+        assertEquals(0, steps.verifyLambdas().length);
+    }
+
+    @Test
+    void whenAddingAcrossChunks_ThenReturnStepsInOrder() {
+        int size = ChainSteps.CHUNK_SIZE * 3 + 7;
+        Object[] mocks = new Object[size];
+        WhenLambda[] whens = new WhenLambda[size];
+        VerifyLambda[] verifies = new VerifyLambda[size];
+        ChainSteps steps = new ChainSteps();
+
+        for (int i = 0; i < size; i++) {
+            mocks[i] = new Object();
+            whens[i] = () -> {};
+            verifies[i] = () -> {};
+            steps.add(mocks[i], whens[i], verifies[i]);
+        }
+
+        assertEquals(size, steps.size());
+        assertArrayEquals(mocks, steps.mocks());
+        assertArrayEquals(whens, steps.whenLambdas());
+        assertArrayEquals(verifies, steps.verifyLambdas());
+    }
+
+    @Test
+    void whenNoCompositeSteps_ThenStepKeysAndEndsAreNull() {
+        ChainSteps steps = new ChainSteps();
+        steps.add(new Object(), () -> {}, () -> {});
+
+        assertNull(steps.stepKeys());
+        assertNull(steps.stepEnds());
+    }
+
+    @Test
+    void whenAddingComposite_ThenRecordOneStepSpanningItsMocks() {
+        Object mock1 = new Object();
+        Object mock2 = new Object();
+        Object mock3 = new Object();
+        Object composite = new Object();
+        ChainPlan plan = new ChainPlan(
+                new Object[]{mock2, mock3},
+                new WhenLambda[]{() -> {}, () -> {}},
+                new VerifyLambda[]{() -> {}, () -> {}},
+                false
+        );
+        ChainSteps steps = new ChainSteps();
+
+        steps.add(mock1, () -> {}, () -> {});
+        steps.addComposite(composite, plan, plan.verifyLambdas);
+        steps.add(mock1, () -> {}, () -> {});
+
+        assertArrayEquals(new Object[]{mock1, mock2, mock3, mock1}, steps.mocks());
+        assertArrayEquals(new Object[]{mock1, composite, null, mock1}, steps.stepKeys());
+        assertArrayEquals(new int[]{1, 3, 3, 4}, steps.stepEnds());
+    }
+
+    @Test
+    void whenCopied_ThenCopiesAreIndependent() {
+        ChainSteps steps = new ChainSteps();
+        steps.add(new Object(), () -> {}, () -> {});
+
+        Object[] mocks = steps.mocks();
+        mocks[0] = null;
+
+        assertNotNull(steps.mocks()[0]);
+    }
+}
@@ -0,0 +1,121 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IdentityMockIndexTest {
+
+    /**
+     * Fails the test, if index ever calls hashCode()/equals() on a mock.
+     */
+    static class UntouchableMock {
+
+        @Override
+        public int hashCode() {
+            throw new AssertionError("hashCode() should not be called on mock");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            throw new AssertionError("equals() should not be called on mock");
+        }
+    }
+
+    private static Object[] untouchableMocks(int length) {
+        Object[] mocks = new Object[length];
+        for (int i = 0; i < length; i++) {
+            mocks[i] = new UntouchableMock();
+        }
+        return mocks;
+    }
+
+    private static IdentityMockIndex indexOf(Object[] mocks) {
+        IdentityMockIndex index = new IdentityMockIndex(mocks.length);
+        for (int i = 0; i < mocks.length; i++) {
+            assertEquals(IdentityMockIndex.NOT_FOUND, index.putIfAbsent(mocks[i], i));
+        }
+        return index;
+    }
+
+    @Nested
+    class LinearScan {
+
+        private final Object[] mocks = untouchableMocks(IdentityMockIndex.LINEAR_SCAN_THRESHOLD);
+
+        @Test
+        void success() {
+            IdentityMockIndex index = indexOf(mocks);
+
+            assertEquals(mocks.length, index.size());
+            for (int i = 0; i < mocks.length; i++) {
+                assertEquals(i, index.indexOf(mocks[i]));
+            }
+        }
+
+        @Test
+        void whenMockNotInIndex_ThenNotFound() {
+            IdentityMockIndex index = indexOf(mocks);
+
+            assertEquals(IdentityMockIndex.NOT_FOUND, index.indexOf(new UntouchableMock()));
+            assertEquals(IdentityMockIndex.NOT_FOUND, index.indexOf(null));
+        }
+
+        @Test
+        void whenDuplicateMock_ThenReturnPreviousIndex() {
+            IdentityMockIndex index = new IdentityMockIndex(2);
+            index.putIfAbsent(mocks[0], 0);
+
+            assertEquals(0, index.putIfAbsent(mocks[0], 1));
+            assertEquals(0, index.indexOf(mocks[0]));
+        }
+    }
+
+    @Nested
+    class OpenAddressing {
+
+        private final Object[] mocks = untouchableMocks(10_000);
+
+        @Test
+        void success() {
+            IdentityMockIndex index = indexOf(mocks);
+
+            assertEquals(mocks.length, index.size());
+            for (int i = 0; i < mocks.length; i++) {
+                assertEquals(i, index.indexOf(mocks[i]));
+            }
+        }
+
+        @Test
+        void whenMockNotInIndex_ThenNotFound() {
+            IdentityMockIndex index = indexOf(mocks);
+
+            assertEquals(IdentityMockIndex.NOT_FOUND, index.indexOf(new UntouchableMock()));
+            assertEquals(IdentityMockIndex.NOT_FOUND, index.indexOf(null));
+        }
+
+        @Test
+        void whenDuplicateMock_ThenReturnPreviousIndex() {
+            IdentityMockIndex index = indexOf(mocks);
+
+            assertEquals(42, index.putIfAbsent(mocks[42], 7));
+            assertEquals(42, index.indexOf(mocks[42]));
+        }
+
+        @Test
+        void whenMocksAreEqualButNotSame_ThenIndexedSeparately() {
+            Object[] equalMocks = new Object[IdentityMockIndex.LINEAR_SCAN_THRESHOLD + 1];
+            for (int i = 0; i < equalMocks.length; i++) {
+                equalMocks[i] = new String("mock");
+            }
+
+            IdentityMockIndex index = indexOf(equalMocks);
+
+            for (int i = 0; i < equalMocks.length; i++) {
+                assertEquals(i, index.indexOf(equalMocks[i]));
+            }
+        }
+    }
+
+}
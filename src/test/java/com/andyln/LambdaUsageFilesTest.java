@@ -0,0 +1,131 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LambdaUsageFilesTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Marks w1 and v3 of a chain of three mocks, from another JVM.
+     */
+    static class OtherJvm {
+
+        public static void main(String[] args) {
+            LambdaUsage lambdaUsage = LambdaUsageFiles.open(Paths.get(args[0])).usage("OrderServiceTest", 3);
+            lambdaUsage.markWhens(0, 1);
+            lambdaUsage.markVerifies(2, 3);
+        }
+    }
+
+    private void runInOtherJvm(Path directory) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), OtherJvm.class.getName(), directory.toString())
+                .inheritIO()
+                .start();
+
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue());
+    }
+
+    @Nested
+    class Usage {
+
+        @Test
+        void success() throws Exception {
+            LambdaUsage lambdaUsage = LambdaUsageFiles.open(tempDir).usage("OrderServiceTest", 3);
+
+            lambdaUsage.markWhens(0, 2);
+
+            assertEquals(Collections.singletonList(3), lambdaUsage.getUnusedWhens());
+            assertTrue(Files.exists(tempDir.resolve("OrderServiceTest.usage")));
+        }
+
+        @Test
+        void whenSameChainName_ThenSameLambdaUsage() {
+            LambdaUsageFiles lambdaUsageFiles = LambdaUsageFiles.open(tempDir);
+
+            assertSame(lambdaUsageFiles.usage("OrderServiceTest", 3), lambdaUsageFiles.usage("OrderServiceTest", 3));
+        }
+
+        @Test
+        void whenSameChainNameWithAnotherLength_ThenThrowIllegalStateException() {
+            LambdaUsageFiles lambdaUsageFiles = LambdaUsageFiles.open(tempDir);
+            lambdaUsageFiles.usage("OrderServiceTest", 3);
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    () -> lambdaUsageFiles.usage("OrderServiceTest", 4)
+            );
+
+            assertTrue(actualException.getMessage().endsWith("OrderServiceTest.usage is used for a chain of 3 mocks!"));
+        }
+
+        @Test
+        void whenChainNameIsNotFileName_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "chainName can only contain letters, digits, '.', '_' and '-'!";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> LambdaUsageFiles.open(tempDir).usage("../OrderServiceTest", 3)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenFileIsNotUsageFile_ThenThrowIllegalStateException() throws Exception {
+            Files.write(tempDir.resolve("OrderServiceTest.usage"), new byte[16 + LambdaUsageFiles.SLOT_COUNT * 16]);
+            Files.write(tempDir.resolve("OrderServiceTest.usage"), new byte[]{1}, StandardOpenOption.WRITE);
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    () -> LambdaUsageFiles.open(tempDir).usage("OrderServiceTest", 3)
+            );
+
+            assertTrue(actualException.getMessage().endsWith("OrderServiceTest.usage is not a lambda usage file!"));
+        }
+    }
+
+    @Nested
+    class Merge {
+
+        @Test
+        void whenOtherJvmMarksLambdas_ThenUsageIncludesThem() throws Exception {
+            LambdaUsage lambdaUsage = LambdaUsageFiles.open(tempDir).usage("OrderServiceTest", 3);
+            lambdaUsage.markWhens(2, 3);
+
+            runInOtherJvm(tempDir);
+
+            assertEquals(Collections.singletonList(2), lambdaUsage.getUnusedWhens());
+            assertEquals(Arrays.asList(1, 2), lambdaUsage.getUnusedVerifies());
+            assertTrue(lambdaUsage.isVerifyUsed(3));
+        }
+
+        @Test
+        void whenOtherJvmRanBefore_ThenUsageKeepsItsLambdas() throws Exception {
+            runInOtherJvm(tempDir);
+
+            LambdaUsage lambdaUsage = LambdaUsageFiles.open(tempDir).usage("OrderServiceTest", 3);
+            lambdaUsage.markWhens(1, 2);
+
+            assertEquals(Collections.singletonList(3), lambdaUsage.getUnusedWhens());
+            assertEquals(Arrays.asList(1, 2), lambdaUsage.getUnusedVerifies());
+        }
+    }
+
+}
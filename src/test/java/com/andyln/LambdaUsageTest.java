@@ -0,0 +1,95 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LambdaUsageTest {
+
+    @Nested
+    class Constructor {
+
+        @Test
+        void whenChainLengthLessThanOne_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new LambdaUsage(0)
+            );
+
+            assertEquals("chainLength must be at least 1!", actualException.getMessage());
+        }
+
+        @Test
+        void whenNothingMarked_ThenEveryLambdaUnused() {
+            LambdaUsage lambdaUsage = new LambdaUsage(3);
+
+            assertEquals(Arrays.asList(1, 2, 3), lambdaUsage.getUnusedWhens());
+            assertEquals(Arrays.asList(1, 2, 3), lambdaUsage.getUnusedVerifies());
+        }
+    }
+
+    @Nested
+    class Mark {
+
+        @Test
+        void success() {
+            LambdaUsage lambdaUsage = new LambdaUsage(3);
+
+            lambdaUsage.markWhens(0, 2);
+            lambdaUsage.markVerifies(2, 3);
+
+            assertTrue(lambdaUsage.isWhenUsed(1));
+            assertTrue(lambdaUsage.isWhenUsed(2));
+            assertFalse(lambdaUsage.isWhenUsed(3));
+            assertEquals(Collections.singletonList(3), lambdaUsage.getUnusedWhens());
+            assertEquals(Arrays.asList(1, 2), lambdaUsage.getUnusedVerifies());
+        }
+
+        @Test
+        void whenRangeCrossesWords_ThenMarksEveryLambdaOfRange() {
+            LambdaUsage lambdaUsage = new LambdaUsage(200);
+
+            lambdaUsage.markWhens(60, 130);
+
+            List<Integer> expectedUnused = IntStream.rangeClosed(1, 200)
+                    .filter(index -> index <= 60 || index > 130)
+                    .boxed()
+                    .collect(Collectors.toList());
+            assertEquals(expectedUnused, lambdaUsage.getUnusedWhens());
+        }
+
+        @Test
+        void whenRangeIsWholeWord_ThenMarksWholeWord() {
+            LambdaUsage lambdaUsage = new LambdaUsage(128);
+
+            lambdaUsage.markVerifies(64, 128);
+
+            assertEquals(IntStream.rangeClosed(1, 64).boxed().collect(Collectors.toList()), lambdaUsage.getUnusedVerifies());
+        }
+
+        @Test
+        void whenEmptyRange_ThenMarksNothing() {
+            LambdaUsage lambdaUsage = new LambdaUsage(2);
+
+            lambdaUsage.markWhens(1, 1);
+
+            assertEquals(Arrays.asList(1, 2), lambdaUsage.getUnusedWhens());
+        }
+    }
+
+    @Test
+    void whenIndexOutsideChain_ThenThrowIllegalArgumentException() {
+        LambdaUsage lambdaUsage = new LambdaUsage(2);
+
+        assertThrows(IllegalArgumentException.class, () -> lambdaUsage.isWhenUsed(0));
+        assertThrows(IllegalArgumentException.class, () -> lambdaUsage.isVerifyUsed(3));
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoopVerifyLambdaTest {
+
+    interface ConcurrentRepeatedVerifyLambda extends RepeatedVerifyLambda, ConcurrentVerifyLambda {
+    }
+
+    @Test
+    void whenRepeatedVerifyLambda_ThenRunOnceWithTimes() throws Exception {
+        List<Integer> calls = new ArrayList<>();
+        RepeatedVerifyLambda verifyLambda = calls::add;
+
+        LoopVerifyLambda.of(verifyLambda, 1_000_000).run();
+
+        assertEquals(1, calls.size());
+        assertEquals(1_000_000, calls.get(0));
+    }
+
+    @Test
+    void whenNestedLoops_ThenMultiplyRepetitions() throws Exception {
+        List<Integer> calls = new ArrayList<>();
+        RepeatedVerifyLambda verifyLambda = calls::add;
+
+        LoopVerifyLambda.of(LoopVerifyLambda.of(verifyLambda, 3), 4).run();
+
+        assertEquals(1, calls.size());
+        assertEquals(12, calls.get(0));
+    }
+
+    @Test
+    void whenRunWithTimes_ThenMultiplyRepetitions() throws Exception {
+        List<Integer> calls = new ArrayList<>();
+        RepeatedVerifyLambda verifyLambda = calls::add;
+
+        LoopVerifyLambda.of(verifyLambda, 3).run(5);
+
+        assertEquals(15, calls.get(0));
+    }
+
+    @Test
+    void whenConcurrentVerifyLambda_ThenStayConcurrentVerifyLambda() {
+        ConcurrentRepeatedVerifyLambda verifyLambda = times -> {};
+
+        assertTrue(LoopVerifyLambda.of(verifyLambda, 2) instanceof ConcurrentVerifyLambda);
+        assertFalse(LoopVerifyLambda.of(times -> {}, 2) instanceof ConcurrentVerifyLambda);
+    }
+
+    @Test
+    void whenVerifyLambdaThrowsException_ThenThrowException() throws Exception {
+        RepeatedVerifyLambda verifyLambda = mock(RepeatedVerifyLambda.class);
+        doThrow(new Exception()).when(verifyLambda).run(3);
+
+        assertThrows(Exception.class, () -> LoopVerifyLambda.of(verifyLambda, 3).run());
+
+        verify(verifyLambda, times(1)).run(3);
+    }
+}
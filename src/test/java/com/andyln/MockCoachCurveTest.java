@@ -0,0 +1,314 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockCoachCurveTest {
+
+    private final Object a = new Object();
+    private final Object b = new Object();
+    private final Object c = new Object();
+    private final Object d = new Object();
+
+    private final List<String> calls = new ArrayList<>();
+
+    private WhenLambda when(String name) {
+        return () -> calls.add(name);
+    }
+
+    private VerifyLambda verify(String name) {
+        return () -> calls.add(name);
+    }
+
+    // A -> B -> C -> B -> D
+    private final MockCoachCurve mockCoachCurve = new MockCoachCurve.Builder()
+            .add(a, when("w1"), verify("v1"))
+            .add(b, when("w2"), verify("v2"))
+            .add(c, when("w3"), verify("v3"))
+            .add(b, when("w4"), verify("v4"))
+            .add(d, when("w5"), verify("v5"))
+            .build();
+
+    @Nested
+    class Builder {
+
+        @Test
+        void whenMockIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachCurve.Builder().add(a, when("w1"), verify("v1")).add(null, when("w2"), verify("v2")).build()
+            );
+
+            assertEquals("m2 cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void whenMockIsString_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachCurve.Builder().add("a", when("w1"), verify("v1")).build()
+            );
+
+            assertEquals("m1 cannot be instance of String!", actualException.getMessage());
+        }
+
+        @Test
+        void whenEmpty_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachCurve.Builder().build()
+            );
+
+            assertEquals("mocks/whens/verifies cannot be empty!", actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class WhenBefore {
+
+        @Test
+        void whenSecondOccurrence_ThenRunsWhensBeforeSecondOccurrence() {
+            mockCoachCurve.whenBefore(b, 2);
+
+            assertEquals(Arrays.asList("w1", "w2", "w3"), calls);
+        }
+
+        @Test
+        void whenFirstOccurrence_ThenRunsWhensBeforeFirstOccurrence() {
+            mockCoachCurve.whenBefore(b, 1);
+
+            assertEquals(Collections.singletonList("w1"), calls);
+        }
+
+        @Test
+        void whenTheRest_ThenRunsWhensAfterOccurrence() {
+            mockCoachCurve.whenBefore(b, 2);
+            mockCoachCurve.whenTheRest();
+
+            assertEquals(Arrays.asList("w1", "w2", "w3", "w5"), calls);
+        }
+
+        @Test
+        void whenMockOccursOnce_ThenOccurrenceNotNeeded() {
+            mockCoachCurve.whenBefore(c);
+
+            assertEquals(Arrays.asList("w1", "w2"), calls);
+        }
+
+        @Test
+        void whenRepeatedMockWithoutOccurrence_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenBefore(Object mock) for mock occurring 2 times in mocks! Use whenBefore(Object mock, int occurrence)";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.whenBefore(b)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenOccurrenceMockDoesNotHave_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenBefore(Object mock, int occurrence) for occurrence 3! Mock occurs 2 times in mocks";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.whenBefore(b, 3)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenMockNotInMocks_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenBefore(Object mock, int occurrence) for mock not in mocks!";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.whenBefore(new Object(), 1)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenWhenThrowsException_ThenThrowRuntimeException() {
+            MockCoachCurve failingCurve = new MockCoachCurve.Builder()
+                    .add(a, when("w1"), verify("v1"))
+                    .add(b, () -> {
+                        throw new Exception();
+                    }, verify("v2"))
+                    .add(a, when("w3"), verify("v3"))
+                    .build();
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    failingCurve::whenAll
+            );
+
+            assertEquals("w2 throws an exception! Please check your whens.", actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class WhenTheRest {
+
+        @Test
+        void whenNotAfterWhenBefore_ThenThrowIllegalStateException() {
+            assertThrows(IllegalStateException.class, mockCoachCurve::whenTheRest);
+        }
+
+        @Test
+        void whenTheRestAfter_ThenRunsWhensAfterOccurrence() {
+            mockCoachCurve.whenBefore(b, 1);
+            mockCoachCurve.whenTheRestAfter(b, 2);
+
+            assertEquals(Arrays.asList("w1", "w5"), calls);
+        }
+
+        @Test
+        void whenTheRestAfterOccurrenceBeforePreviousOccurrence_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenTheRestAfter(Object mock, int occurrence) for a mock located before previously used mock! Make sure correct mock and occurrence are being passed into this method";
+
+            mockCoachCurve.whenBefore(b, 2);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.whenTheRestAfter(b, 1)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenTheRestAfterLastMock_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenTheRestAfter(Object mock, int occurrence) for the last mock! Not calling this method will have identical functionality";
+
+            mockCoachCurve.whenBefore(b, 1);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.whenTheRestAfter(d, 1)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenTheRestAfterSingleOccurrence_ThenRunsWhensAfterMock() {
+            mockCoachCurve.whenBefore(b, 1);
+            mockCoachCurve.whenTheRestAfter(c);
+
+            assertEquals(Arrays.asList("w1", "w4", "w5"), calls);
+        }
+
+        @Test
+        void whenTheRestAfterRepeatedMockWithoutOccurrence_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenTheRestAfter(Object mock) for mock occurring 2 times in mocks! Use whenTheRestAfter(Object mock, int occurrence)";
+
+            mockCoachCurve.whenBefore(a);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.whenTheRestAfter(b)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenTheRestAfterSingleOccurrenceBeforePreviousOccurrence_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenTheRestAfter(Object mock) for a mock located before previously used mock! Make sure correct mock is being passed into this method";
+
+            mockCoachCurve.whenBefore(b, 2);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.whenTheRestAfter(a)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenTheRestAfterSingleOccurrenceNotAfterWhenBefore_ThenThrowIllegalStateException() {
+            assertThrows(IllegalStateException.class, () -> mockCoachCurve.whenTheRestAfter(c));
+        }
+    }
+
+    @Nested
+    class Verify {
+
+        @Test
+        void verifyThroughThenTheRest_success() {
+            mockCoachCurve.verifyThrough(b, 2);
+            mockCoachCurve.verifyTheRest();
+
+            assertEquals(Arrays.asList("v1", "v2", "v3", "v4", "v5"), calls);
+        }
+
+        @Test
+        void verifyBeforeThenTheRestAfter_success() {
+            mockCoachCurve.verifyBefore(b, 1);
+            mockCoachCurve.verifyTheRestAfter(c, 1);
+
+            assertEquals(Arrays.asList("v1", "v4", "v5"), calls);
+        }
+
+        @Test
+        void verifyBeforeThenTheRestAfterSingleOccurrence_success() {
+            mockCoachCurve.verifyBefore(b, 1);
+            mockCoachCurve.verifyTheRestAfter(c);
+
+            assertEquals(Arrays.asList("v1", "v4", "v5"), calls);
+        }
+
+        @Test
+        void whenVerifyTheRestAfterLastMockWithoutOccurrence_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call verifyTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality";
+
+            mockCoachCurve.verifyThrough(c);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachCurve.verifyTheRestAfter(d)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenVerifyThroughSingleOccurrence_success() {
+            mockCoachCurve.verifyThrough(a);
+
+            assertEquals(Collections.singletonList("v1"), calls);
+        }
+
+        @Test
+        void whenVerifyAll_ThenRunsEveryVerify() {
+            mockCoachCurve.verifyAll();
+
+            assertEquals(Arrays.asList("v1", "v2", "v3", "v4", "v5"), calls);
+        }
+
+        @Test
+        void whenVerifyTheRestNotAfterVerifyBefore_ThenThrowIllegalStateException() {
+            assertThrows(IllegalStateException.class, mockCoachCurve::verifyTheRest);
+        }
+    }
+
+    @Test
+    void occurrences_success() {
+        assertEquals(2, mockCoachCurve.occurrences(b));
+        assertEquals(1, mockCoachCurve.occurrences(d));
+        assertEquals(0, mockCoachCurve.occurrences(new Object()));
+    }
+
+}
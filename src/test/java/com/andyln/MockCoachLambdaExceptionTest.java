@@ -0,0 +1,106 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockCoachLambdaExceptionTest {
+
+    private final Object mock = new Object();
+    private final Exception cause = new Exception();
+
+    @Nested
+    class GetMessage {
+
+        @Test
+        void whenWhen_ThenFormatsWhenMessage() {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.WHEN, 2, mock, MockCoachLambdaException.WHEN_FAILURE_FORMAT, cause);
+
+            assertEquals("w2 throws an exception! Please check your whens.", exception.getMessage());
+        }
+
+        @Test
+        void whenVerify_ThenFormatsVerifyMessage() {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.VERIFY, 3, mock, MockCoachLambdaException.VERIFY_FAILURE_FORMAT, cause);
+
+            assertEquals("v3 throws an exception! Please check your verifies.", exception.getMessage());
+        }
+
+        @Test
+        void whenCalledTwice_ThenReturnsSameMessage() {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, 1, mock, "m%d failed", cause);
+
+            assertSame(exception.getMessage(), exception.getMessage());
+        }
+
+        @Test
+        void whenToString_ThenContainsMessage() {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.NO_INTERACTION, 1, mock, "m%d failed", cause);
+
+            assertEquals("com.andyln.MockCoachLambdaException: m1 failed", exception.toString());
+        }
+    }
+
+    @Nested
+    class Getters {
+
+        @Test
+        void success() {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.VERIFY, 3, mock, MockCoachLambdaException.VERIFY_FAILURE_FORMAT, cause);
+
+            assertEquals(LambdaPhase.VERIFY, exception.getPhase());
+            assertEquals(3, exception.getIndex());
+            assertSame(mock, exception.getMock());
+            assertSame(cause, exception.getCause());
+        }
+    }
+
+    @Nested
+    class Serialization {
+
+        @Test
+        void whenDeserialized_ThenKeepsMessageAndDropsMock() throws Exception {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.VERIFY, 3, mock, MockCoachLambdaException.VERIFY_FAILURE_FORMAT, cause);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(exception);
+            }
+
+            MockCoachLambdaException actualException;
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                actualException = (MockCoachLambdaException) input.readObject();
+            }
+
+            assertEquals("v3 throws an exception! Please check your verifies.", actualException.getMessage());
+            assertEquals(LambdaPhase.VERIFY, actualException.getPhase());
+            assertEquals(3, actualException.getIndex());
+            assertNull(actualException.getMock());
+        }
+    }
+
+    @Nested
+    class StackTrace {
+
+        @Test
+        void whenWritable_ThenFillsInStackTrace() {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.WHEN, 1, mock, MockCoachLambdaException.WHEN_FAILURE_FORMAT, cause, true);
+
+            assertNotEquals(0, exception.getStackTrace().length);
+        }
+
+        @Test
+        void whenNotWritable_ThenSkipsStackTrace() {
+            MockCoachLambdaException exception = new MockCoachLambdaException(LambdaPhase.WHEN, 1, mock, MockCoachLambdaException.WHEN_FAILURE_FORMAT, cause, false);
+
+            assertEquals(0, exception.getStackTrace().length);
+            assertSame(cause, exception.getCause());
+        }
+    }
+
+}
@@ -1577,6 +1577,402 @@ class MockCoachLegacyTest {
 
     }
 
+    @Nested
+    class PutParallelVerifies {
+
+        @Test
+        public void fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    mockCoachLegacyTwoMocks::putParallelVerifies
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+    }
+
+    @Nested
+    class PutLambdaUsage {
+
+        @Test
+        public void fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> mockCoachLegacyTwoMocks.putLambdaUsage(new LambdaUsage(2))
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void withLambdaUsage_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().withLambdaUsage(new LambdaUsage(2))
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+    }
+
+    @Nested
+    class PutRangeListener {
+
+        @Test
+        public void fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> mockCoachLegacyTwoMocks.putRangeListener((rangeName, firstIndex, lastIndex, elapsedNanos) -> {})
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void getRangeListener_fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> mockCoachLegacyTwoMocks.getRangeListener()
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void withRangeListener_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().withRangeListener((rangeName, firstIndex, lastIndex, elapsedNanos) -> {})
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+    }
+
+    @Nested
+    class WhenAsync {
+
+        @Test
+        public void whenAllAsync_fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    mockCoachLegacyTwoMocks::whenAllAsync
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void whenBeforeAsync_fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> mockCoachLegacyTwoMocks.whenBeforeAsync(new Object())
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+    }
+
+    @Nested
+    class PutVirtualThreadVerifies {
+
+        @Test
+        public void fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    mockCoachLegacyTwoMocks::putVirtualThreadVerifies
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void withVirtualThreadVerifies_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().withVirtualThreadVerifies()
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+    }
+
+    @Nested
+    class PutLambdaListener {
+
+        private final LambdaListener lambdaListener = mock(LambdaListener.class);
+
+        @Test
+        void whenWhenBefore_ThenCallsListenerForEachWhen() {
+            mockCoachLegacyTwoMocks.putLambdaListener(lambdaListener).whenBefore(mock2);
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.WHEN), eq(1), same(mock1), anyLong());
+            verifyNoMoreInteractions(lambdaListener);
+        }
+
+        @Test
+        void whenVerifyAll_ThenCallsListenerForEachVerify() {
+            mockCoachLegacyTwoMocks.putLambdaListener(lambdaListener).verifyAll();
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.VERIFY), eq(1), same(mock1), anyLong());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.VERIFY), eq(2), same(mock2), anyLong());
+            verifyNoMoreInteractions(lambdaListener);
+        }
+
+        @Test
+        void whenBuilderWithLambdaListener_ThenCallsListener() {
+            MockCoachLegacy.builder()
+                    .add(mock1, when1, verify1)
+                    .withLambdaListener(lambdaListener)
+                    .build()
+                    .whenAll();
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.WHEN), eq(1), same(mock1), anyLong());
+        }
+    }
+
+    @Nested
+    class PutSoftVerifies {
+
+        @Test
+        void whenEveryVerifyFails_ThenThrowMultipleVerifyFailuresException() throws Exception {
+            String expectedMessage = "v1, v2 throw an exception! Please check your verifies.";
+
+            doThrow(new Exception()).when(verify1).run();
+            doThrow(new Exception()).when(verify2).run();
+
+            mockCoachLegacyTwoMocks.putSoftVerifies();
+
+            MultipleVerifyFailuresException actualException = assertThrows(
+                    MultipleVerifyFailuresException.class,
+                    mockCoachLegacyTwoMocks::verifyAll
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenBuilderWithSoftVerifies_ThenRunsEveryVerify() throws Exception {
+            doThrow(new Exception()).when(verify1).run();
+
+            MockCoach mockCoachLegacy = MockCoachLegacy.builder()
+                    .add(mock1, when1, verify1)
+                    .add(mock2, when2, verify2)
+                    .withSoftVerifies()
+                    .build();
+
+            assertThrows(RuntimeException.class, mockCoachLegacy::verifyAll);
+            verify(verify2, times(1)).run();
+        }
+    }
+
+    @Nested
+    class Template {
+
+        @Test
+        public void template_fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    mockCoachLegacyTwoMocks::template
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void newSession_fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    mockCoachLegacyTwoMocks::newSession
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void buildTemplate_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> MockCoachLegacy.builder()
+                            .add(mock1, when1, verify1)
+                            .buildTemplate()
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class Handle {
+
+        @Test
+        public void handle_fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> mockCoachLegacyTwoMocks.handle(mock1)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void whenBefore_fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+            MockHandle<Object> handle = new MockCoach(mock1, when1, verify1).handle(mock1);
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> mockCoachLegacyTwoMocks.whenBefore(handle)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void addAndGetHandle_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().addAndGetHandle(mock1, when1, verify1)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void addCoach_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+            MockCoach innerCoach = new MockCoach.Builder().add(mock1, when1, verify1).build();
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().addCoach(innerCoach)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void addLoop_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+            MockCoach loop = new MockCoach.Builder().add(mock1, when1, verify1).build();
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().addLoop(2, loop)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class PutBatchVerifyNoInteractions {
+
+        @Test
+        public void fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> mockCoachLegacyTwoMocks.putBatchVerifyNoInteractions(mocks -> {})
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void withBatchVerifyNoInteractions_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().withBatchVerifyNoInteractions(mocks -> {})
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class PutGeneratedRunner {
+
+        @Test
+        public void fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    mockCoachLegacyTwoMocks::putGeneratedRunner
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        public void withGeneratedRunner_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder().withGeneratedRunner()
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class PutThreadLocalCursor {
+
+        @Test
+        public void fails() {
+            String expectedMessage = "Feature only possible in MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    mockCoachLegacyTwoMocks::putThreadLocalCursor
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+    }
+
     @Nested
     class Builder {
 
@@ -1622,6 +2018,25 @@ class MockCoachLegacyTest {
 
             assertEquals(expectedMessage, actualException.getMessage());
         }
+
+        @Test
+        public void withParallelVerifies_fails() {
+            String expectedMessage = "Feature only possible for MockCoach, not MockCoachLegacy";
+
+            UnsupportedOperationException actualException = assertThrows(
+                    UnsupportedOperationException.class,
+                    () -> new MockCoachLegacy.Builder()
+                            .add(
+                                    mock1,
+                                    when1,
+                                    verify1
+                            )
+                            .withParallelVerifies()
+                            .build()
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
     }
 
 }
\ No newline at end of file
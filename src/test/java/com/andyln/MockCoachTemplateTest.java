@@ -0,0 +1,134 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MockCoachTemplateTest {
+
+    private final Object mock1 = mock(Object.class);
+    private final Object mock2 = mock(Object.class);
+
+    private final WhenLambda when1 = mock(WhenLambda.class);
+    private final WhenLambda when2 = mock(WhenLambda.class);
+
+    private final VerifyLambda verify1 = mock(VerifyLambda.class);
+    private final VerifyLambda verify2 = mock(VerifyLambda.class);
+
+    private final NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+
+    private final MockCoachTemplate template = MockCoach.builder()
+            .add(mock1, when1, verify1)
+            .add(mock2, when2, verify2)
+            .withVerifyNoInteractions(verifyNoInteractionLambda)
+            .buildTemplate();
+
+    @Nested
+    class NewSession {
+
+        @Test
+        void success() throws Exception {
+            MockCoach mockCoach = template.newSession();
+
+            mockCoach.whenBefore(mock2);
+            mockCoach.whenTheRest();
+
+            verify(when1, times(1)).run();
+            verifyNoInteractions(when2);
+        }
+
+        @Test
+        void whenCalledTwice_ThenReturnsSessionsWithSeparateCursors() {
+            String expectedMessage = "Cannot call whenTheRest()! Must be called only after whenBefore(mock) or whenThroughFirst()";
+
+            MockCoach firstSession = template.newSession();
+            MockCoach secondSession = template.newSession();
+
+            assertNotSame(firstSession, secondSession);
+
+            firstSession.whenBefore(mock2);
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    secondSession::whenTheRest
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            firstSession.whenTheRest();
+        }
+
+        @Test
+        void whenTemplateBuiltWithVerifyNoInteractions_ThenSessionCanVerifyNoInteractions() throws Exception {
+            MockCoach mockCoach = template.newSession();
+
+            mockCoach.verifyThrough(mock1);
+            mockCoach.verifyNoInteractionsTheRest();
+
+            verify(verifyNoInteractionLambda, times(1)).run(mock2);
+        }
+
+        @Test
+        void whenSessionSettingsChanged_ThenTemplateIsNotChanged() {
+            LambdaListener lambdaListener = mock(LambdaListener.class);
+
+            template.newSession().putLambdaListener(lambdaListener);
+            template.newSession().whenAll();
+
+            verifyNoInteractions(lambdaListener);
+        }
+    }
+
+    @Nested
+    class MockCoachTemplateMethod {
+
+        @Test
+        void success() throws Exception {
+            MockCoach mockCoach = new MockCoach(mock1, when1, verify1, mock2, when2, verify2);
+
+            MockCoach session = mockCoach.template().newSession();
+            session.verifyAll();
+
+            verify(verify1, times(1)).run();
+            verify(verify2, times(1)).run();
+        }
+
+        @Test
+        void newSession_ThenReturnsMockCoachWithFreshCursor() {
+            String expectedMessage = "Cannot call verifyTheRest()! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()";
+
+            MockCoach mockCoach = new MockCoach(mock1, when1, verify1, mock2, when2, verify2);
+            mockCoach.verifyThrough(mock1);
+
+            MockCoach session = mockCoach.newSession();
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    session::verifyTheRest
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void newSession_ThenKeepsSettings() throws Exception {
+            LambdaListener lambdaListener = mock(LambdaListener.class);
+            RangeListener rangeListener = mock(RangeListener.class);
+            doThrow(new Exception()).when(verify1).run();
+            doThrow(new Exception()).when(verify2).run();
+            MockCoach mockCoach = new MockCoach(mock1, when1, verify1, mock2, when2, verify2)
+                    .putLambdaListener(lambdaListener)
+                    .putRangeListener(rangeListener)
+                    .putSoftVerifies();
+
+            MockCoach session = mockCoach.newSession();
+
+            assertThrows(MultipleVerifyFailuresException.class, session::verifyAll);
+            verify(lambdaListener, times(2)).onLambdaRun(eq(LambdaPhase.VERIFY), anyInt(), any(), anyLong());
+            verify(rangeListener, times(1)).onRangeRun(eq("verifyAll"), eq(1), eq(2), anyLong());
+        }
+    }
+
+}
@@ -2,9 +2,25 @@ package com.andyln;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.*;
 
 class MockCoachTest {
@@ -407,6 +423,154 @@ class MockCoachTest {
 
     }
 
+    @Nested
+    class WhenAllAsync {
+
+        private final List<String> events = new ArrayList<>();
+
+        // Completes when second fixture is prepared, so first fixture can only be ready once every fixture has started
+        private final CompletableFuture<String> secondFixture = new CompletableFuture<>();
+
+        private final AsyncWhenLambda asyncWhen1 = () -> {
+            events.add("prepare1");
+            return secondFixture.thenApply(fixture -> () -> events.add("stub1 after " + fixture));
+        };
+
+        private final AsyncWhenLambda asyncWhen2 = () -> {
+            events.add("prepare2");
+            secondFixture.complete("prepare2");
+            return CompletableFuture.completedFuture(() -> events.add("stub2"));
+        };
+
+        @Test
+        void success() {
+            MockCoach mockCoach = new MockCoach(twoMocks, new WhenLambda[]{asyncWhen1, asyncWhen2}, twoVerifies);
+
+            mockCoach.whenAllAsync();
+
+            assertEquals(Arrays.asList("prepare1", "prepare2", "stub1 after prepare2", "stub2"), events);
+        }
+
+        @Test
+        void whenMixedWithWhenLambdas_ThenStubsInChainOrder() throws Exception {
+            WhenLambda when2 = () -> events.add("when2");
+            MockCoach mockCoach = new MockCoach(
+                    threeMocksInCircleChain,
+                    new WhenLambda[]{() -> events.add("when1"), when2, asyncWhen2},
+                    threeVerifies
+            );
+
+            mockCoach.whenAllAsync();
+
+            assertEquals(Arrays.asList("prepare2", "when1", "when2", "stub2"), events);
+        }
+
+        @Test
+        void whenStubsRun_ThenRunOnCallingThread() {
+            List<Thread> stubThreads = new ArrayList<>();
+            AsyncWhenLambda asyncWhen = () -> CompletableFuture.supplyAsync(() -> "fixture")
+                    .thenApply(fixture -> () -> stubThreads.add(Thread.currentThread()));
+            MockCoach mockCoach = new MockCoach(twoMocks, new WhenLambda[]{asyncWhen, asyncWhen}, twoVerifies);
+
+            mockCoach.whenAllAsync();
+
+            assertEquals(Arrays.asList(Thread.currentThread(), Thread.currentThread()), stubThreads);
+        }
+
+        @Test
+        void whenFixtureFails_ThenThrowRuntimeExceptionAfterPreviousStubs() {
+            String expectedMessage = "w2 throws an exception! Please check your whens.";
+            Exception fixtureFailure = new Exception();
+            CompletableFuture<WhenLambda> failedFixture = new CompletableFuture<>();
+            failedFixture.completeExceptionally(fixtureFailure);
+            MockCoach mockCoach = new MockCoach(
+                    twoMocks,
+                    new WhenLambda[]{() -> events.add("when1"), (AsyncWhenLambda) () -> failedFixture},
+                    twoVerifies
+            );
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoach::whenAllAsync
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            assertSame(fixtureFailure, actualException.getCause());
+            assertEquals(Collections.singletonList("when1"), events);
+        }
+
+        @Test
+        void whenWhenThrowsException_ThenCancelsLaterFixtures() throws Exception {
+            String expectedMessage = "w1 throws an exception! Please check your whens.";
+            CompletableFuture<WhenLambda> laterFixture = new CompletableFuture<>();
+            doThrow(new Exception()).when(when1).run();
+            MockCoach mockCoach = new MockCoach(twoMocks, new WhenLambda[]{when1, (AsyncWhenLambda) () -> laterFixture}, twoVerifies);
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoach::whenAllAsync
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            assertTrue(laterFixture.isCancelled());
+        }
+
+        @Test
+        void whenAsyncWhenLambdaRunByWhenAll_ThenWaitsForFixture() {
+            MockCoach mockCoach = new MockCoach(twoMocks, new WhenLambda[]{asyncWhen2, asyncWhen1}, twoVerifies);
+
+            mockCoach.whenAll();
+
+            assertEquals(Arrays.asList("prepare2", "stub2", "prepare1", "stub1 after prepare2"), events);
+        }
+    }
+
+    @Nested
+    class WhenBeforeAsync {
+
+        @Test
+        void success() throws Exception {
+            mockCoachTwoMocks.whenBeforeAsync(mock2);
+
+            verify(when1, times(1)).run();
+            verify(when2, times(0)).run();
+        }
+
+        @Test
+        void whenTheRest_ThenRunsWhensAfterMock() throws Exception {
+            mockCoachThreeMocksInCircleChain.whenBeforeAsync(mock2);
+            mockCoachThreeMocksInCircleChain.whenTheRest();
+
+            verify(when1, times(1)).run();
+            verify(when2, times(0)).run();
+            verify(when3, times(1)).run();
+        }
+
+        @Test
+        void whenCircleChainEndpoint_ThenThrowIllegalStateException() {
+            String expectedMessage = "Cannot call whenBeforeAsync(Object mock) for first/last mock in a circle chain! For mocks in a circle chain, use whenBeforeFirst() or whenBeforeLast()";
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    () -> mockCoachThreeMocksInCircleChain.whenBeforeAsync(mock1)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenMockNotInMocks_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenBeforeAsync(Object mock) for mock not in mocks!";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTwoMocks.whenBeforeAsync(new Object())
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+    }
+
     @Nested
     class WhenTheRest {
 
@@ -1928,41 +2092,1405 @@ class MockCoachTest {
     }
 
     @Nested
-    class Builder {
+    class PutParallelVerifies {
 
-        NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+        private final ConcurrentVerifyLambda concurrentVerify2 = mock(ConcurrentVerifyLambda.class);
+        private final ConcurrentVerifyLambda concurrentVerify3 = mock(ConcurrentVerifyLambda.class);
+
+        private final Object mock3 = mock(Object.class);
+
+        // Collects submitted tasks without running them
+        private final List<Runnable> submittedTasks = new ArrayList<>();
+        private final Executor collectingExecutor = submittedTasks::add;
+
+        private MockCoach parallelMockCoach(Executor executor) {
+            return new MockCoach(
+                    new Object[]{mock1, mock2, mock3},
+                    threeWhens,
+                    new VerifyLambda[]{verify1, concurrentVerify2, concurrentVerify3}
+            ).putParallelVerifies(executor);
+        }
 
         @Test
-        void staticMethod_success() {
-            MockCoach.builder()
-                    .add(
-                            mock1,
-                            when1,
-                            verify1
-                    )
-                    .build();
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putParallelVerifies();
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
         }
 
         @Test
-        void constructor_success() {
-            new MockCoach.Builder()
-                    .add(
-                            mock1,
-                            when1,
-                            verify1
-                    )
-                    .build();
+        void whenExecutorRejectsTasks_ThenThrowMockCoachLambdaExceptionAfterSequentialVerifies() throws Exception {
+            RejectedExecutionException rejection = new RejectedExecutionException();
+            MockCoach mockCoach = parallelMockCoach(task -> {
+                throw rejection;
+            });
+
+            MockCoachLambdaException actualException = assertThrows(MockCoachLambdaException.class, mockCoach::verifyAll);
+
+            assertEquals("v2 throws an exception! Please check your verifies.", actualException.getMessage());
+            assertSame(rejection, actualException.getCause());
+            verify(verify1, times(1)).run();
         }
 
         @Test
-        void withVerifyNoInteractions_success() {
-            new MockCoach.Builder()
-                    .add(
-                            mock1,
-                            when1,
-                            verify1
-                    )
-                    .withVerifyNoInteractions(verifyNoInteractionLambda)
+        void whenExecutorIsNull_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "verifyExecutor cannot be null!";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTwoMocks.putParallelVerifies(null)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenVerifyAll_ThenRunsConcurrentVerifiesOnExecutor() throws Exception {
+            List<Runnable> executedTasks = new ArrayList<>();
+            MockCoach mockCoach = parallelMockCoach(task -> {
+                executedTasks.add(task);
+                task.run();
+            });
+
+            mockCoach.verifyAll();
+
+            assertEquals(2, executedTasks.size());
+            verify(verify1, times(1)).run();
+            verify(concurrentVerify2, times(1)).run();
+            verify(concurrentVerify3, times(1)).run();
+        }
+
+        @Test
+        void whenVerifyTheRest_ThenRunsConcurrentVerifiesOnForkJoinPool() throws Exception {
+            MockCoach mockCoach = parallelMockCoach(ForkJoinPool.commonPool());
+
+            mockCoach.verifyThrough(mock1);
+            mockCoach.verifyTheRest();
+
+            verify(verify1, times(1)).run();
+            verify(concurrentVerify2, times(1)).run();
+            verify(concurrentVerify3, times(1)).run();
+        }
+
+        @Test
+        void whenSeveralVerifiesThrowException_ThenThrowRuntimeExceptionOfLowestIndex() throws Exception {
+            String expectedMessage = "v2 throws an exception! Please check your verifies.";
+
+            doThrow(new Exception()).when(concurrentVerify2).run();
+            doThrow(new Exception()).when(concurrentVerify3).run();
+
+            // Runs v3 before v2, once both have been submitted
+            MockCoach mockCoach = parallelMockCoach(task -> {
+                submittedTasks.add(0, task);
+                if (submittedTasks.size() == 2) {
+                    submittedTasks.forEach(Runnable::run);
+                }
+            });
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoach::verifyAll
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            verify(concurrentVerify3, times(1)).run();
+        }
+
+        @Test
+        void whenConcurrentVerifyThrowsError_ThenRethrowError() throws Exception {
+            AssertionError expectedError = new AssertionError("Wanted but not invoked");
+
+            doThrow(expectedError).when(concurrentVerify3).run();
+
+            MockCoach mockCoach = parallelMockCoach(ForkJoinPool.commonPool());
+
+            AssertionError actualError = assertThrows(
+                    AssertionError.class,
+                    mockCoach::verifyAll
+            );
+
+            assertSame(expectedError, actualError);
+        }
+
+        @Test
+        void whenNoConcurrentVerifies_ThenRunsVerifiesOnCallingThread() throws Exception {
+            MockCoach mockCoach = mockCoachTwoMocks.putParallelVerifies(collectingExecutor);
+
+            mockCoach.verifyAll();
+
+            assertEquals(0, submittedTasks.size());
+            verify(verify1, times(1)).run();
+            verify(verify2, times(1)).run();
+        }
+
+        @Test
+        void whenConcurrentNoInteractionLambda_ThenRunsNoInteractionsOnExecutor() throws Exception {
+            ConcurrentNoInteractionLambda verifyNoInteractionLambda = mock(ConcurrentNoInteractionLambda.class);
+            List<Runnable> executedTasks = new ArrayList<>();
+            MockCoach mockCoach = parallelMockCoach(task -> {
+                executedTasks.add(task);
+                task.run();
+            }).putVerifyNoInteractions(verifyNoInteractionLambda);
+
+            mockCoach.verifyBefore(mock1);
+            mockCoach.verifyNoInteractionsTheRest();
+
+            assertEquals(2, executedTasks.size());
+            verify(verifyNoInteractionLambda, times(1)).run(mock2);
+            verify(verifyNoInteractionLambda, times(1)).run(mock3);
+        }
+
+        @Test
+        void whenNoInteractionLambdaIsNotConcurrent_ThenRunsNoInteractionsOnCallingThread() throws Exception {
+            NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+            MockCoach mockCoach = parallelMockCoach(collectingExecutor).putVerifyNoInteractions(verifyNoInteractionLambda);
+
+            mockCoach.verifyBefore(mock1);
+            mockCoach.verifyNoInteractionsTheRest();
+
+            assertEquals(0, submittedTasks.size());
+            verify(verifyNoInteractionLambda, times(1)).run(mock2);
+            verify(verifyNoInteractionLambda, times(1)).run(mock3);
+        }
+    }
+
+    @Nested
+    class PutVirtualThreadVerifies {
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putVirtualThreadVerifies();
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
+        }
+
+        @Test
+        void whenVirtualThreadsNotAvailable_ThenRunsVerifiesOnCallingThread() throws Exception {
+            assumeFalse(MockCoach.isVirtualThreadVerifiesAvailable());
+
+            Thread callingThread = Thread.currentThread();
+            List<Thread> verifyThreads = new ArrayList<>();
+            ConcurrentVerifyLambda recordingVerify = () -> verifyThreads.add(Thread.currentThread());
+            MockCoach mockCoach = new MockCoach(
+                    new Object[]{mock1, mock2},
+                    twoWhens,
+                    new VerifyLambda[]{recordingVerify, recordingVerify}
+            ).putVirtualThreadVerifies();
+
+            mockCoach.verifyAll();
+
+            assertEquals(Arrays.asList(callingThread, callingThread), verifyThreads);
+        }
+
+        // Skipped against target/classes, where the Java 21 layer is not on the class path. See VirtualThreadsJava21Test.
+        @Test
+        void whenVirtualThreadsAvailable_ThenRunsVerifiesOnVirtualThreads() throws Exception {
+            assumeTrue(MockCoach.isVirtualThreadVerifiesAvailable());
+
+            Thread callingThread = Thread.currentThread();
+            List<Thread> verifyThreads = Collections.synchronizedList(new ArrayList<>());
+            ConcurrentVerifyLambda recordingVerify = () -> verifyThreads.add(Thread.currentThread());
+            MockCoach mockCoach = new MockCoach(
+                    new Object[]{mock1, mock2},
+                    twoWhens,
+                    new VerifyLambda[]{recordingVerify, recordingVerify}
+            ).putVirtualThreadVerifies();
+
+            mockCoach.verifyAll();
+
+            assertEquals(2, verifyThreads.size());
+            assertFalse(verifyThreads.contains(callingThread));
+        }
+    }
+
+    @Nested
+    class PutRangeListener {
+
+        private final RangeListener rangeListener = mock(RangeListener.class);
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putRangeListener(rangeListener);
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
+        }
+
+        @Test
+        void whenRangeMethods_ThenCallsListenerForEachRange() {
+            mockCoachThreeMocksInCircleChain.putRangeListener(rangeListener);
+
+            mockCoachThreeMocksInCircleChain.whenBefore(mock2);
+            mockCoachThreeMocksInCircleChain.whenTheRest();
+            mockCoachThreeMocksInCircleChain.verifyAll();
+
+            verify(rangeListener, times(1)).onRangeRun(eq("whenBefore"), eq(1), eq(1), anyLong());
+            verify(rangeListener, times(1)).onRangeRun(eq("whenTheRest"), eq(3), eq(3), anyLong());
+            verify(rangeListener, times(1)).onRangeRun(eq("verifyAll"), eq(1), eq(3), anyLong());
+            verifyNoMoreInteractions(rangeListener);
+        }
+
+        @Test
+        void whenLambdaThrowsException_ThenCallsListener() throws Exception {
+            mockCoachTwoMocks.putRangeListener(rangeListener);
+            doThrow(new Exception()).when(verify2).run();
+
+            assertThrows(RuntimeException.class, mockCoachTwoMocks::verifyAll);
+
+            verify(rangeListener, times(1)).onRangeRun(eq("verifyAll"), eq(1), eq(2), anyLong());
+        }
+
+        @Test
+        void getRangeListener_ThenReturnsListenerPut() {
+            assertNull(mockCoachTwoMocks.getRangeListener());
+
+            mockCoachTwoMocks.putRangeListener(rangeListener);
+
+            assertSame(rangeListener, mockCoachTwoMocks.getRangeListener());
+        }
+
+        @Test
+        void whenListenerRemoved_ThenListenerNotCalled() {
+            mockCoachTwoMocks.putRangeListener(rangeListener).putRangeListener(null);
+
+            mockCoachTwoMocks.whenAll();
+
+            verifyNoInteractions(rangeListener);
+        }
+
+        @Test
+        void whenNewSession_ThenSessionCallsListener() {
+            MockCoach session = mockCoachTwoMocks.putRangeListener(rangeListener).template().newSession();
+
+            session.whenAll();
+
+            verify(rangeListener, times(1)).onRangeRun(eq("whenAll"), eq(1), eq(2), anyLong());
+        }
+    }
+
+    @Nested
+    class PutLambdaUsage {
+
+        private final LambdaUsage lambdaUsage = new LambdaUsage(3);
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachThreeMocksInCircleChain.putLambdaUsage(lambdaUsage);
+
+            assertEquals(mockCoachThreeMocksInCircleChain, mockCoach);
+        }
+
+        @Test
+        void whenChainLengthDiffers_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "lambdaUsage must have the same chain length as mocks!";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTwoMocks.putLambdaUsage(lambdaUsage)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenRangeMethods_ThenMarksLambdasOfRanges() {
+            mockCoachThreeMocksInCircleChain.putLambdaUsage(lambdaUsage);
+
+            mockCoachThreeMocksInCircleChain.whenBefore(mock2);
+            mockCoachThreeMocksInCircleChain.verifyThroughFirst();
+
+            assertEquals(Arrays.asList(2, 3), lambdaUsage.getUnusedWhens());
+            assertEquals(Arrays.asList(2, 3), lambdaUsage.getUnusedVerifies());
+        }
+
+        @Test
+        void whenRangeThrowsException_ThenLambdasNotMarked() throws Exception {
+            mockCoachThreeMocksInCircleChain.putLambdaUsage(lambdaUsage);
+            doThrow(new Exception()).when(when2).run();
+
+            assertThrows(RuntimeException.class, mockCoachThreeMocksInCircleChain::whenAll);
+
+            assertEquals(Arrays.asList(1, 2, 3), lambdaUsage.getUnusedWhens());
+        }
+
+        @Test
+        void whenNewSession_ThenSessionMarksSameUsage() {
+            MockCoach session = mockCoachThreeMocksInCircleChain.putLambdaUsage(lambdaUsage).template().newSession();
+
+            session.verifyAll();
+
+            assertEquals(Collections.emptyList(), lambdaUsage.getUnusedVerifies());
+        }
+    }
+
+    @Nested
+    class PutLambdaListener {
+
+        private final LambdaListener lambdaListener = mock(LambdaListener.class);
+
+        private final NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putLambdaListener(lambdaListener);
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
+        }
+
+        @Test
+        void whenWhenAll_ThenCallsListenerForEachWhen() {
+            mockCoachTwoMocks.putLambdaListener(lambdaListener).whenAll();
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.WHEN), eq(1), same(mock1), anyLong());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.WHEN), eq(2), same(mock2), anyLong());
+            verifyNoMoreInteractions(lambdaListener);
+        }
+
+        @Test
+        void whenVerifyThroughThenVerifyNoInteractionsTheRest_ThenCallsListenerForEachLambda() {
+            mockCoachTwoMocks
+                    .putLambdaListener(lambdaListener)
+                    .putVerifyNoInteractions(verifyNoInteractionLambda);
+
+            mockCoachTwoMocks.verifyThrough(mock1);
+            mockCoachTwoMocks.verifyNoInteractionsTheRest();
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.VERIFY), eq(1), same(mock1), anyLong());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.NO_INTERACTION), eq(2), same(mock2), anyLong());
+            verifyNoMoreInteractions(lambdaListener);
+        }
+
+        @Test
+        void whenLambdaThrowsException_ThenCallsListenerBeforeThrowingRuntimeException() throws Exception {
+            String expectedMessage = "v2 throws an exception! Please check your verifies.";
+
+            doThrow(new Exception()).when(verify2).run();
+
+            mockCoachTwoMocks.putLambdaListener(lambdaListener);
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoachTwoMocks::verifyAll
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.VERIFY), eq(1), same(mock1), anyLong());
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.VERIFY), eq(2), same(mock2), anyLong());
+        }
+
+        @Test
+        void whenListenerRemoved_ThenListenerIsNotCalled() {
+            mockCoachTwoMocks.putLambdaListener(lambdaListener).putLambdaListener(null).whenAll();
+
+            verifyNoInteractions(lambdaListener);
+        }
+    }
+
+    @Nested
+    class PutSoftVerifies {
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putSoftVerifies();
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
+        }
+
+        @Test
+        void whenEveryVerifyFails_ThenThrowMultipleVerifyFailuresException() throws Exception {
+            String expectedMessage = "v1, v2 throw an exception! Please check your verifies.";
+            Exception failure1 = new Exception();
+            AssertionError failure2 = new AssertionError();
+
+            doThrow(failure1).when(verify1).run();
+            doThrow(failure2).when(verify2).run();
+
+            mockCoachTwoMocks.putSoftVerifies();
+
+            MultipleVerifyFailuresException actualException = assertThrows(
+                    MultipleVerifyFailuresException.class,
+                    mockCoachTwoMocks::verifyAll
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            assertEquals(2, actualException.getFailures().size());
+            assertSame(failure1, actualException.getFailures().get(1));
+            assertSame(failure2, actualException.getFailures().get(2));
+            assertEquals(2, actualException.getSuppressed().length);
+        }
+
+        @Test
+        void whenOneVerifyFails_ThenRunsEveryVerifyAndThrowRuntimeException() throws Exception {
+            String expectedMessage = "v1 throws an exception! Please check your verifies.";
+
+            doThrow(new Exception()).when(verify1).run();
+
+            mockCoachTwoMocks.putSoftVerifies();
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoachTwoMocks::verifyAll
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            verify(verify2, times(1)).run();
+        }
+
+        @Test
+        void whenVerifyTheRest_ThenOnlyRunsVerifiesInRange() throws Exception {
+            doThrow(new Exception()).when(verify2).run();
+
+            mockCoachTwoMocks.putSoftVerifies();
+
+            mockCoachTwoMocks.verifyThrough(mock1);
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoachTwoMocks::verifyTheRest
+            );
+
+            assertEquals("v2 throws an exception! Please check your verifies.", actualException.getMessage());
+            verify(verify1, times(1)).run();
+        }
+
+        @Test
+        void whenParallelVerifies_ThenThrowMultipleVerifyFailuresException() throws Exception {
+            ConcurrentVerifyLambda concurrentVerify1 = () -> {
+                throw new Exception();
+            };
+            MockCoach mockCoach = new MockCoach(
+                    mock1, when1, concurrentVerify1,
+                    mock2, when2, verify2
+            ).putParallelVerifies(Runnable::run).putSoftVerifies();
+
+            doThrow(new Exception()).when(verify2).run();
+
+            MultipleVerifyFailuresException actualException = assertThrows(
+                    MultipleVerifyFailuresException.class,
+                    mockCoach::verifyAll
+            );
+
+            assertEquals("v1, v2 throw an exception! Please check your verifies.", actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class PutBatchVerifyNoInteractions {
+
+        private final List<List<Object>> batches = new ArrayList<>();
+
+        private final BatchNoInteractionLambda recordingBatch = mocks -> batches.add(new ArrayList<>(mocks));
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putBatchVerifyNoInteractions(recordingBatch);
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
+        }
+
+        @Test
+        void whenVerifyNoInteractionsTheRest_ThenRunsBatchOnceOnRemainingMocks() {
+            mockCoachThreeMocksInCircleChain.putBatchVerifyNoInteractions(recordingBatch);
+
+            mockCoachThreeMocksInCircleChain.verifyBeforeFirst();
+            mockCoachThreeMocksInCircleChain.verifyNoInteractionsTheRest();
+
+            assertEquals(Collections.singletonList(Arrays.asList(mock2, mock1)), batches);
+        }
+
+        @Test
+        void whenBatchFailsOnMock_ThenThrowRuntimeExceptionForMock() {
+            String expectedMessage = "m2 throws an exception! Please check your mocks and verification lambda";
+
+            mockCoachTwoMocks.putBatchVerifyNoInteractions(mocks -> {
+                if (mocks.contains(mock2)) {
+                    throw new Exception();
+                }
+            });
+
+            mockCoachTwoMocks.verifyBefore(mock1);
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoachTwoMocks::verifyNoInteractionsTheRest
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenBatchThrowsAssertionErrorOnMock_ThenThrowMockCoachLambdaExceptionForMock() {
+            AssertionError noInteractionsWanted = new AssertionError("No interactions wanted here");
+            mockCoachTwoMocks.putBatchVerifyNoInteractions(mocks -> {
+                if (mocks.contains(mock2)) {
+                    throw noInteractionsWanted;
+                }
+            });
+
+            mockCoachTwoMocks.verifyBefore(mock1);
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    mockCoachTwoMocks::verifyNoInteractionsTheRest
+            );
+
+            assertEquals("m2 throws an exception! Please check your mocks and verification lambda", actualException.getMessage());
+            assertSame(noInteractionsWanted, actualException.getCause());
+        }
+
+        @Test
+        void whenBatchThrowsAssertionErrorWithLambdaListener_ThenThrowMockCoachLambdaExceptionForMock() {
+            mockCoachTwoMocks
+                    .putLambdaListener((phase, index, mock, elapsedNanos) -> {})
+                    .putBatchVerifyNoInteractions(mocks -> {
+                        if (mocks.contains(mock2)) {
+                            throw new AssertionError();
+                        }
+                    });
+
+            mockCoachTwoMocks.verifyBefore(mock1);
+
+            MockCoachLambdaException actualException = assertThrows(
+                    MockCoachLambdaException.class,
+                    mockCoachTwoMocks::verifyNoInteractionsTheRest
+            );
+
+            assertEquals(2, actualException.getIndex());
+        }
+
+        @Test
+        void whenBatchAndSingleLambda_ThenOnlyRunsBatch() throws Exception {
+            NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+
+            mockCoachTwoMocks
+                    .putVerifyNoInteractions(verifyNoInteractionLambda)
+                    .putBatchVerifyNoInteractions(recordingBatch);
+
+            mockCoachTwoMocks.verifyThrough(mock1);
+            mockCoachTwoMocks.verifyNoInteractionsTheRest();
+
+            assertEquals(Collections.singletonList(Collections.singletonList(mock2)), batches);
+            verifyNoInteractions(verifyNoInteractionLambda);
+        }
+    }
+
+    @Nested
+    class PutGeneratedRunner {
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putGeneratedRunner();
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
+        }
+
+        @Test
+        void whenWhenBeforeThenWhenTheRest_ThenRunsEveryWhen() throws Exception {
+            mockCoachThreeMocksInCircleChain.putGeneratedRunner();
+
+            mockCoachThreeMocksInCircleChain.whenBeforeLast();
+            verify(when1, times(1)).run();
+            verify(when2, times(1)).run();
+            verifyNoInteractions(when3);
+
+            mockCoachThreeMocksInCircleChain.whenAll();
+            verify(when3, times(1)).run();
+        }
+
+        @Test
+        void whenVerifyThrowsException_ThenThrowRuntimeException() throws Exception {
+            String expectedMessage = "v2 throws an exception! Please check your verifies.";
+
+            doThrow(new Exception()).when(verify2).run();
+
+            mockCoachTwoMocks.putGeneratedRunner();
+
+            RuntimeException actualException = assertThrows(
+                    RuntimeException.class,
+                    mockCoachTwoMocks::verifyAll
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            verify(verify1, times(1)).run();
+        }
+
+        @Test
+        void whenSession_ThenSharesGeneratedRunner() throws Exception {
+            mockCoachTwoMocks.putGeneratedRunner().newSession().verifyThrough(mock1);
+
+            verify(verify1, times(1)).run();
+            verifyNoInteractions(verify2);
+        }
+    }
+
+    @Nested
+    class PutThreadLocalCursor {
+
+        private void runOnOtherThread(Runnable runnable) throws InterruptedException {
+            Thread thread = new Thread(runnable);
+            thread.start();
+            thread.join();
+        }
+
+        @Test
+        void success() {
+            MockCoach mockCoach = mockCoachTwoMocks.putThreadLocalCursor();
+
+            assertEquals(mockCoachTwoMocks, mockCoach);
+        }
+
+        @Test
+        void whenWhenBeforeOnOtherThread_ThenWhenTheRestOnThisThreadThrowsIllegalStateException() throws Exception {
+            String expectedMessage = "Cannot call whenTheRest()! Must be called only after whenBefore(mock) or whenThroughFirst()";
+
+            mockCoachTwoMocks.putThreadLocalCursor();
+
+            runOnOtherThread(() -> mockCoachTwoMocks.whenBefore(mock2));
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    mockCoachTwoMocks::whenTheRest
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenEachThreadUsesCursor_ThenEachThreadRunsItsOwnRange() throws Exception {
+            mockCoachTwoMocks.putThreadLocalCursor();
+
+            mockCoachTwoMocks.verifyThrough(mock1);
+            runOnOtherThread(() -> mockCoachTwoMocks.verifyThrough(mock2));
+            mockCoachTwoMocks.verifyTheRest();
+
+            verify(verify1, times(2)).run();
+            verify(verify2, times(2)).run();
+        }
+
+        @Test
+        void whenNewSession_ThenSessionUsesThreadLocalCursor() throws Exception {
+            String expectedMessage = "Cannot call verifyTheRest()! Must be called only after verifyBefore(mock)/verifyThrough(mock) or verifyBeforeFirst()/verifyThroughFirst()";
+
+            MockCoach session = mockCoachTwoMocks.putThreadLocalCursor().newSession();
+
+            runOnOtherThread(() -> session.verifyBefore(mock2));
+
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    session::verifyTheRest
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class Handle {
+
+        private final Object mock3 = mock(Object.class);
+
+        private final MockCoach otherMockCoach = new MockCoach(mock1, when1, verify1, mock2, when2, verify2);
+
+        @Test
+        void success() {
+            MockHandle<Object> handle = mockCoachTwoMocks.handle(mock2);
+
+            assertSame(mock2, handle.getMock());
+        }
+
+        @Test
+        void whenMockNotInMocks_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call handle(Object mock) for mock not in mocks!";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTwoMocks.handle(new Object())
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenBeforeThenWhenTheRest_success() throws Exception {
+            mockCoachTwoMocks.whenBefore(mockCoachTwoMocks.handle(mock1));
+
+            verifyNoInteractions(when1, when2);
+
+            mockCoachTwoMocks.whenTheRest();
+
+            verifyNoInteractions(when1);
+            verify(when2, times(1)).run();
+        }
+
+        @Test
+        void verifyThroughThenVerifyTheRestAfter_success() throws Exception {
+            MockCoach mockCoachThreeMocks = new MockCoach(mock1, when1, verify1, mock2, when2, verify2, mock3, when3, verify3);
+
+            mockCoachThreeMocks.verifyThrough(mockCoachThreeMocks.handle(mock1));
+            mockCoachThreeMocks.verifyTheRestAfter(mockCoachThreeMocks.handle(mock2));
+
+            verify(verify1, times(1)).run();
+            verifyNoInteractions(verify2);
+            verify(verify3, times(1)).run();
+        }
+
+        @Test
+        void whenHandleOfCircleChainLastMock_ThenVerifyBeforeRunsAllButLastVerify() throws Exception {
+            MockCoach.Builder builder = MockCoach.builder();
+            builder.add(mock1, when1, verify1);
+            builder.add(mock2, when2, verify2);
+            MockHandle<Object> lastHandle = builder.addAndGetHandle(mock1, when3, verify3);
+            MockCoach mockCoach = builder.build();
+
+            mockCoach.verifyBefore(lastHandle);
+
+            verify(verify1, times(1)).run();
+            verify(verify2, times(1)).run();
+            verifyNoInteractions(verify3);
+        }
+
+        @Test
+        void whenHandleOfAnotherMockCoach_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenBefore(MockHandle handle) for handle of another chain!";
+
+            MockHandle<Object> otherHandle = otherMockCoach.handle(mock2);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTwoMocks.whenBefore(otherHandle)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+            verifyNoInteractions(when1, when2);
+        }
+
+        @Test
+        void whenNullHandle_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call verifyThrough(MockHandle handle) for handle of another chain!";
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTwoMocks.verifyThrough((MockHandle<?>) null)
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void whenHandleUsedBySession_ThenSuccess() throws Exception {
+            MockHandle<Object> handle = mockCoachTwoMocks.handle(mock2);
+
+            mockCoachTwoMocks.template().newSession().verifyBefore(handle);
+
+            verify(verify1, times(1)).run();
+            verifyNoInteractions(verify2);
+        }
+
+        @Test
+        void whenTheRestAfterLastMock_ThenThrowIllegalArgumentException() {
+            String expectedMessage = "Cannot call whenTheRestAfter(MockHandle handle) for the last mock! Not calling this method will have identical functionality";
+
+            mockCoachTwoMocks.whenBefore(mockCoachTwoMocks.handle(mock1));
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTwoMocks.whenTheRestAfter(mockCoachTwoMocks.handle(mock2))
+            );
+
+            assertEquals(expectedMessage, actualException.getMessage());
+        }
+
+        @Test
+        void verifyNoInteractionsTheRestAfter_success() throws Exception {
+            NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+            MockCoach mockCoachThreeMocks = new MockCoach(mock1, when1, verify1, mock2, when2, verify2, mock3, when3, verify3)
+                    .putVerifyNoInteractions(verifyNoInteractionLambda);
+
+            mockCoachThreeMocks.verifyThrough(mockCoachThreeMocks.handle(mock1));
+            mockCoachThreeMocks.verifyNoInteractionsTheRestAfter(mockCoachThreeMocks.handle(mock2));
+
+            verify(verifyNoInteractionLambda, times(1)).run(mock3);
+            verifyNoMoreInteractions(verifyNoInteractionLambda);
+        }
+    }
+
+    @Nested
+    class Builder {
+
+        NoInteractionLambda verifyNoInteractionLambda = mock(NoInteractionLambda.class);
+
+        @Test
+        void staticMethod_success() {
+            MockCoach.builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .build();
+        }
+
+        @Test
+        void constructor_success() {
+            new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .build();
+        }
+
+        @Test
+        void withVerifyNoInteractions_success() {
+            new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .withVerifyNoInteractions(verifyNoInteractionLambda)
+                    .build();
+        }
+
+        @Test
+        void withParallelVerifies_success() {
+            new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .withParallelVerifies()
+                    .build();
+        }
+
+        @Test
+        void withParallelVerifies_whenExecutorIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoach.Builder().withParallelVerifies(null)
+            );
+
+            assertEquals("verifyExecutor cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void withLambdaListener_success() {
+            LambdaListener lambdaListener = mock(LambdaListener.class);
+
+            new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .withLambdaListener(lambdaListener)
+                    .build()
+                    .whenAll();
+
+            verify(lambdaListener, times(1)).onLambdaRun(eq(LambdaPhase.WHEN), eq(1), same(mock1), anyLong());
+        }
+
+        @Test
+        void addAndGetHandle_success() throws Exception {
+            MockCoach.Builder builder = new MockCoach.Builder();
+            MockHandle<Object> handle1 = builder.addAndGetHandle(mock1, when1, verify1);
+            MockHandle<Object> handle2 = builder.addAndGetHandle(mock2, when2, verify2);
+            MockCoach mockCoach = builder.build();
+
+            assertSame(mock1, handle1.getMock());
+            mockCoach.whenBefore(handle2);
+
+            verify(when1, times(1)).run();
+            verifyNoInteractions(when2);
+        }
+
+        @Test
+        void addCoach_whenBeforeOuterMockAndVerifyThroughCoach_ThenRunInnerLambdas() throws Exception {
+            Object outerMock = mock(Object.class);
+            WhenLambda outerWhen = mock(WhenLambda.class);
+            VerifyLambda outerVerify = mock(VerifyLambda.class);
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .add(mock2, when2, verify2)
+                    .build();
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .addCoach(innerCoach)
+                    .add(outerMock, outerWhen, outerVerify)
+                    .build();
+
+            mockCoach.whenBefore(outerMock);
+            mockCoach.verifyThrough(innerCoach);
+
+            InOrder inOrder = inOrder(when1, when2, verify1, verify2);
+            inOrder.verify(when1).run();
+            inOrder.verify(when2).run();
+            inOrder.verify(verify1).run();
+            inOrder.verify(verify2).run();
+            verifyNoInteractions(outerWhen, outerVerify);
+        }
+
+        @Test
+        void addCoach_whenNestedCoaches_ThenFlattenInOrder() throws Exception {
+            List<String> calls = new ArrayList<>();
+            Object mock3 = mock(Object.class);
+            Object mock4 = mock(Object.class);
+            MockCoach innermostCoach = new MockCoach.Builder()
+                    .add(mock2, () -> calls.add("w2"), () -> calls.add("v2"))
+                    .build();
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mock1, () -> calls.add("w1"), () -> calls.add("v1"))
+                    .addCoach(innermostCoach)
+                    .add(mock3, () -> calls.add("w3"), () -> calls.add("v3"))
+                    .build();
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .addCoach(innerCoach)
+                    .add(mock4, () -> calls.add("w4"), () -> calls.add("v4"))
+                    .build();
+
+            mockCoach.whenAll();
+
+            assertEquals(Arrays.asList("w1", "w2", "w3", "w4"), calls);
+        }
+
+        @Test
+        void addCoach_whenInnerChainIsCircleChain_ThenAddressCoachAsOneStep() throws Exception {
+            List<String> calls = new ArrayList<>();
+            Object mockA = mock(Object.class);
+            Object mockB = mock(Object.class);
+            Object mockC = mock(Object.class);
+            Object mockD = mock(Object.class);
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mockB, () -> calls.add("wB1"), () -> calls.add("vB1"))
+                    .add(mockC, () -> calls.add("wC"), () -> calls.add("vC"))
+                    .add(mockB, () -> calls.add("wB2"), () -> calls.add("vB2"))
+                    .build();
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mockA, () -> calls.add("wA"), () -> calls.add("vA"))
+                    .addCoach(innerCoach)
+                    .add(mockD, () -> calls.add("wD"), () -> calls.add("vD"))
+                    .build();
+
+            mockCoach.whenBefore(innerCoach);
+            mockCoach.whenTheRest();
+            assertEquals(Arrays.asList("wA", "wD"), calls);
+
+            calls.clear();
+            mockCoach.verifyThrough(innerCoach);
+            assertEquals(Arrays.asList("vA", "vB1", "vC", "vB2"), calls);
+
+            calls.clear();
+            mockCoach.verifyTheRest();
+            assertEquals(Collections.singletonList("vD"), calls);
+        }
+
+        @Test
+        void addCoach_whenTheRestAfterCoach_ThenRunLambdasAfterWholeCoach() throws Exception {
+            Object mock3 = mock(Object.class);
+            WhenLambda when4 = mock(WhenLambda.class);
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mock2, when2, verify2)
+                    .add(mock3, when3, verify3)
+                    .build();
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .addCoach(innerCoach)
+                    .add(mock(Object.class), when4, verify1)
+                    .build();
+
+            mockCoach.whenBefore(mock1);
+            mockCoach.whenTheRestAfter(innerCoach);
+
+            verifyNoInteractions(when1, when2, when3);
+            verify(when4, times(1)).run();
+        }
+
+        @Test
+        void addCoach_whenTheRestAfterLastCoach_ThenThrowIllegalArgumentException() {
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mock2, when2, verify2)
+                    .build();
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .addCoach(innerCoach)
+                    .build();
+            mockCoach.whenBefore(mock1);
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoach.whenTheRestAfter(innerCoach)
+            );
+
+            assertEquals("Cannot call whenTheRestAfter(Object mock) for the last mock! Not calling this method will have identical functionality", actualException.getMessage());
+        }
+
+        @Test
+        void addCoach_whenInnerMockAlsoInOuterChain_ThenBuild() throws Exception {
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .build();
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock2, when2, verify2)
+                    .addCoach(innerCoach)
+                    .add(mock1, when3, verify3)
+                    .build();
+
+            mockCoach.whenBefore(mock1);
+
+            InOrder inOrder = inOrder(when2, when1);
+            inOrder.verify(when2).run();
+            inOrder.verify(when1).run();
+            verifyNoInteractions(when3);
+        }
+
+        @Test
+        void addCoach_whenInnerMock_ThenThrowIllegalArgumentException() {
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .build();
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .addCoach(innerCoach)
+                    .add(mock2, when2, verify2)
+                    .build();
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoach.whenBefore(mock1)
+            );
+
+            assertEquals("Cannot call whenBefore(Object mock) for mock not in mocks!", actualException.getMessage());
+        }
+
+        @Test
+        void addCoach_whenSameCoachTwice_ThenThrowIllegalArgumentException() {
+            MockCoach innerCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .build();
+            MockCoach.Builder builder = new MockCoach.Builder()
+                    .addCoach(innerCoach)
+                    .add(mock2, when2, verify2)
+                    .addCoach(innerCoach);
+
+            IllegalArgumentException actualException = assertThrows(IllegalArgumentException.class, builder::build);
+
+            assertEquals("m3 cannot be the same as a previous mock in mocks!", actualException.getMessage());
+        }
+
+        @Test
+        void addLoop_success() throws Exception {
+            Object mock3 = mock(Object.class);
+            RepeatedVerifyLambda repeatedVerify2 = mock(RepeatedVerifyLambda.class);
+            List<Integer> repeatedCalls = new ArrayList<>();
+            MockCoach loop = new MockCoach.Builder()
+                    .add(mock2, when2, repeatedVerify2)
+                    .add(mock3, when3, (RepeatedVerifyLambda) repeatedCalls::add)
+                    .build();
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .addLoop(5, loop)
+                    .build();
+
+            mockCoach.whenAll();
+            mockCoach.verifyAll();
+
+            verify(when1, times(1)).run();
+            verify(when2, times(1)).run();
+            verify(when3, times(1)).run();
+            verify(verify1, times(1)).run();
+            verify(repeatedVerify2, times(1)).run(5);
+            assertEquals(Collections.singletonList(5), repeatedCalls);
+        }
+
+        @Test
+        void addLoop_whenMockitoVerifiesOfLoopCalledTimes_ThenPass() throws Exception {
+            Runnable poller = mock(Runnable.class);
+            MockCoach loop = new MockCoach.Builder()
+                    .add(poller, () -> {}, (RepeatedVerifyLambda) repetitions -> verify(poller, times(repetitions)).run())
+                    .build();
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .addLoop(4, loop)
+                    .build();
+
+            for (int i = 0; i < 4; i++) {
+                poller.run();
+            }
+
+            mockCoach.verifyAll();
+        }
+
+        @Test
+        void addLoop_whenMockitoVerifiesOfLoopCalledOtherTimes_ThenThrowAssertionError() {
+            Runnable poller = mock(Runnable.class);
+            MockCoach loop = new MockCoach.Builder()
+                    .add(poller, () -> {}, (RepeatedVerifyLambda) repetitions -> verify(poller, times(repetitions)).run())
+                    .build();
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .addLoop(4, loop)
+                    .build();
+
+            for (int i = 0; i < 3; i++) {
+                poller.run();
+            }
+
+            assertThrows(AssertionError.class, mockCoach::verifyAll);
+        }
+
+        @Test
+        void addLoop_whenVerifyIsNotRepeatedVerifyLambda_ThenThrowIllegalArgumentException() {
+            MockCoach loop = new MockCoach.Builder()
+                    .add(mock2, when2, verify2)
+                    .build();
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoach.Builder().addLoop(2, loop)
+            );
+
+            assertEquals("v1 of loop must be a RepeatedVerifyLambda! Example: 'times -> verify(mock, times(times)).method()'", actualException.getMessage());
+        }
+
+        @Test
+        void addLoop_whenVerifyThroughLoopMock_ThenRepeatOnlyLoopVerifies() throws Exception {
+            RepeatedVerifyLambda repeatedVerify2 = mock(RepeatedVerifyLambda.class);
+            MockCoach loop = new MockCoach.Builder()
+                    .add(mock2, when2, repeatedVerify2)
+                    .build();
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .addLoop(3, loop)
+                    .build();
+
+            mockCoach.verifyThrough(mock1);
+            verifyNoInteractions(repeatedVerify2);
+
+            mockCoach.verifyTheRest();
+            verify(verify1, times(1)).run();
+            verify(repeatedVerify2, times(1)).run(3);
+        }
+
+        @Test
+        void addLoop_whenTimesLessThanOne_ThenThrowIllegalArgumentException() {
+            MockCoach loop = new MockCoach.Builder().add(mock1, when1, verify1).build();
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoach.Builder().addLoop(0, loop)
+            );
+
+            assertEquals("times must be at least 1!", actualException.getMessage());
+        }
+
+        @Test
+        void addLoop_whenLoopIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoach.Builder().addLoop(2, null)
+            );
+
+            assertEquals("loop cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void add_whenLargeChain_ThenBuildInOrder() throws Exception {
+            int chainSize = 10_000;
+            Object[] mocks = new Object[chainSize];
+            List<Integer> calls = new ArrayList<>();
+            MockCoach.Builder builder = new MockCoach.Builder();
+            for (int i = 0; i < chainSize; i++) {
+                int index = i;
+                mocks[i] = new Object();
+                builder.add(mocks[i], () -> calls.add(index), () -> {});
+            }
+            MockCoach mockCoach = builder.build();
+
+            mockCoach.whenBefore(mocks[chainSize - 1]);
+
+            assertEquals(chainSize - 1, calls.size());
+            assertEquals(chainSize - 2, calls.get(chainSize - 2));
+        }
+
+        @Test
+        void addCoach_whenCoachIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoach.Builder().addCoach(null)
+            );
+
+            assertEquals("coach cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void addCoach_whenCoachIsMockCoachLegacy_ThenThrowIllegalArgumentException() {
+            MockCoach legacyCoach = new MockCoachLegacy.Builder()
+                    .add(mock1, when1, verify1)
+                    .build();
+
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoach.Builder().addCoach(legacyCoach)
+            );
+
+            assertEquals("coach cannot be MockCoachLegacy!", actualException.getMessage());
+        }
+
+        @Test
+        void addAndGetHandle_whenHandleOfAnotherBuilder_ThenThrowIllegalArgumentException() {
+            MockHandle<Object> otherHandle = new MockCoach.Builder().addAndGetHandle(mock1, when1, verify1);
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(mock1, when1, verify1)
+                    .build();
+
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoach.whenBefore(otherHandle)
+            );
+        }
+
+        @Test
+        void withLambdaUsage_success() {
+            LambdaUsage lambdaUsage = new LambdaUsage(2);
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .add(
+                            mock2,
+                            when2,
+                            verify2
+                    )
+                    .withLambdaUsage(lambdaUsage)
+                    .build();
+
+            mockCoach.whenAll();
+
+            assertEquals(Collections.emptyList(), lambdaUsage.getUnusedWhens());
+        }
+
+        @Test
+        void withRangeListener_success() {
+            RangeListener rangeListener = mock(RangeListener.class);
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .add(
+                            mock2,
+                            when2,
+                            verify2
+                    )
+                    .withRangeListener(rangeListener)
+                    .build();
+
+            mockCoach.verifyAll();
+
+            verify(rangeListener, times(1)).onRangeRun(eq("verifyAll"), eq(1), eq(2), anyLong());
+        }
+
+        @Test
+        void withVirtualThreadVerifies_success() throws Exception {
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .add(
+                            mock2,
+                            when2,
+                            verify2
+                    )
+                    .withVirtualThreadVerifies()
+                    .build();
+
+            mockCoach.verifyAll();
+
+            verify(verify1, times(1)).run();
+            verify(verify2, times(1)).run();
+        }
+
+        @Test
+        void withBatchVerifyNoInteractions_success() {
+            List<Object> checkedMocks = new ArrayList<>();
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .add(
+                            mock2,
+                            when2,
+                            verify2
+                    )
+                    .withBatchVerifyNoInteractions(checkedMocks::addAll)
+                    .build();
+
+            mockCoach.verifyBefore(mock1);
+            mockCoach.verifyNoInteractionsTheRest();
+
+            assertEquals(Collections.singletonList(mock2), checkedMocks);
+        }
+
+        @Test
+        void withSoftVerifies_success() throws Exception {
+            doThrow(new Exception()).when(verify1).run();
+
+            MockCoach mockCoach = new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .add(
+                            mock2,
+                            when2,
+                            verify2
+                    )
+                    .withSoftVerifies()
+                    .build();
+
+            assertThrows(RuntimeException.class, mockCoach::verifyAll);
+            verify(verify2, times(1)).run();
+        }
+
+        @Test
+        void withGeneratedRunner_success() throws Exception {
+            new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .withGeneratedRunner()
+                    .build()
+                    .whenAll();
+
+            verify(when1, times(1)).run();
+        }
+
+        @Test
+        void withThreadLocalCursor_success() {
+            new MockCoach.Builder()
+                    .add(
+                            mock1,
+                            when1,
+                            verify1
+                    )
+                    .withThreadLocalCursor()
                     .build();
         }
     }
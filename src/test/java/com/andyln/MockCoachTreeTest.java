@@ -0,0 +1,297 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockCoachTreeTest {
+
+    private final Object a = new Object();
+    private final Object b = new Object();
+    private final Object c = new Object();
+    private final Object d = new Object();
+    private final Object e = new Object();
+
+    private final List<String> calls = new ArrayList<>();
+
+    private WhenLambda when(String name) {
+        return () -> calls.add(name);
+    }
+
+    private VerifyLambda verify(String name) {
+        return () -> calls.add(name);
+    }
+
+    // A -> B -> C -> D ("approved"), A -> B -> C -> E ("approvedWithCoupon"), A -> B -> D ("rejected")
+    private final MockCoachTree mockCoachTree = new MockCoachTree.Builder()
+            .add(a, when("wa"), verify("va"))
+            .add(b, when("wb"), verify("vb"))
+            .branch("approved", approved -> approved
+                    .add(c, when("wc"), verify("vc"))
+                    .branch("approvedWithoutCoupon", b -> b.add(d, when("wd"), verify("vd")))
+                    .branch("approvedWithCoupon", b -> b.add(e, when("we"), verify("ve"))))
+            .branch("rejected", b -> b.add(d, when("wd2"), verify("vd2")))
+            .build();
+
+    @Nested
+    class Builder {
+
+        @Test
+        void whenMockIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachTree.Builder().add(a, when("w1"), verify("v1")).add(null, when("w2"), verify("v2"))
+            );
+
+            assertEquals("m2 cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void whenMockIsString_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachTree.Builder().add("a", when("w1"), verify("v1"))
+            );
+
+            assertEquals("m1 cannot be instance of String!", actualException.getMessage());
+        }
+
+        @Test
+        void whenLambdaIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachTree.Builder().add(a, null, verify("v1"))
+            );
+
+            assertEquals("w1/v1 cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void whenMockAlreadyInBranch_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachTree.Builder()
+                            .add(a, when("w1"), verify("v1"))
+                            .branch("branch", branch -> branch.add(b, when("w2"), verify("v2")).add(a, when("w3"), verify("v3")))
+            );
+
+            assertEquals("m3 cannot be the same as a previous mock in its branch!", actualException.getMessage());
+        }
+
+        @Test
+        void whenSameMockInSiblingBranches_ThenBuild() {
+            assertDoesNotThrow(() -> new MockCoachTree.Builder()
+                    .branch("first", branch -> branch.add(a, when("w1"), verify("v1")))
+                    .branch("second", branch -> branch.add(a, when("w1"), verify("v1")))
+                    .build());
+        }
+
+        @Test
+        void whenAddAfterBranch_ThenThrowIllegalStateException() {
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    () -> new MockCoachTree.Builder()
+                            .branch("branch", branch -> branch.add(a, when("w1"), verify("v1")))
+                            .add(b, when("w2"), verify("v2"))
+            );
+
+            assertEquals("Cannot call add(...) after branch(...)! Add shared mocks before branching", actualException.getMessage());
+        }
+
+        @Test
+        void whenBranchNameAlreadyUsed_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachTree.Builder()
+                            .branch("branch", branch -> branch.add(a, when("w1"), verify("v1")))
+                            .branch("branch", branch -> branch.add(b, when("w1"), verify("v1")))
+            );
+
+            assertEquals("Branch \"branch\" is already in tree!", actualException.getMessage());
+        }
+
+        @Test
+        void whenBranchNameIsNull_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachTree.Builder().branch(null, branch -> branch.add(a, when("w1"), verify("v1")))
+            );
+
+            assertEquals("Branch name cannot be null!", actualException.getMessage());
+        }
+
+        @Test
+        void whenBranchAddsNoMock_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MockCoachTree.Builder().add(a, when("w1"), verify("v1")).branch("branch", branch -> {})
+            );
+
+            assertEquals("Branch \"branch\" must add at least one mock!", actualException.getMessage());
+        }
+
+        @Test
+        void whenNoBranches_ThenThrowIllegalStateException() {
+            IllegalStateException actualException = assertThrows(
+                    IllegalStateException.class,
+                    () -> new MockCoachTree.Builder().add(a, when("w1"), verify("v1")).build()
+            );
+
+            assertEquals("Tree must have at least one branch! For a single chain, use MockCoach", actualException.getMessage());
+        }
+    }
+
+    @Nested
+    class WhenBefore {
+
+        @Test
+        void whenMockInSharedPrefix_ThenRunSharedWhensOnce() {
+            mockCoachTree.whenBefore("approvedWithCoupon", b);
+
+            assertEquals(Collections.singletonList("wa"), calls);
+        }
+
+        @Test
+        void whenMockInBranch_ThenRunPrefixThenBranchWhens() {
+            mockCoachTree.whenBefore("approvedWithCoupon", e);
+
+            assertEquals(Arrays.asList("wa", "wb", "wc"), calls);
+        }
+
+        @Test
+        void whenMockInMultipleBranches_ThenRunWhensOfSelectedBranch() {
+            mockCoachTree.whenBefore("rejected", d);
+
+            assertEquals(Arrays.asList("wa", "wb"), calls);
+        }
+
+        @Test
+        void whenBranchEndsAtInternalNode_ThenRunWhensToBranchEnd() {
+            mockCoachTree.whenAll("approved");
+
+            assertEquals(Arrays.asList("wa", "wb", "wc"), calls);
+        }
+
+        @Test
+        void whenThenTheRest_ThenRunBranchAfterMock() {
+            mockCoachTree.whenBefore("approvedWithoutCoupon", c);
+            mockCoachTree.whenTheRest();
+
+            assertEquals(Arrays.asList("wa", "wb", "wd"), calls);
+        }
+
+        @Test
+        void whenBranchNotInTree_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTree.whenBefore("missing", a)
+            );
+
+            assertEquals("Cannot call whenBefore(String branch, Object mock) for branch not in tree!", actualException.getMessage());
+        }
+
+        @Test
+        void whenMockNotInBranch_ThenThrowIllegalArgumentException() {
+            IllegalArgumentException actualException = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> mockCoachTree.whenBefore("rejected", c)
+            );
+
+            assertEquals("Cannot call whenBefore(String branch, Object mock) for mock not in branch!", actualException.getMessage());
+        }
+
+        @Test
+        void whenWhenThrowsException_ThenThrowMockCoachLambdaException() {
+            Exception cause = new Exception();
+            MockCoachTree tree = new MockCoachTree.Builder()
+                    .add(a, when("wa"), verify("va"))
+                    .branch("100%", branch -> branch.add(b, () -> {
+                        throw cause;
+                    }, verify("vb")).add(c, when("wc"), verify("vc")))
+                    .build();
+
+            MockCoachLambdaException actualException = assertThrows(MockCoachLambdaException.class, () -> tree.whenBefore("100%", c));
+
+            assertEquals("w2 of branch \"100%\" throws an exception! Please check your whens.", actualException.getMessage());
+            assertEquals(LambdaPhase.WHEN, actualException.getPhase());
+            assertSame(b, actualException.getMock());
+            assertSame(cause, actualException.getCause());
+        }
+    }
+
+    @Nested
+    class WhenTheRest {
+
+        @Test
+        void whenCalledFirst_ThenThrowIllegalStateException() {
+            IllegalStateException actualException = assertThrows(IllegalStateException.class, mockCoachTree::whenTheRest);
+
+            assertEquals("Cannot call whenTheRest()! Must be called only after whenBefore(branch, mock)", actualException.getMessage());
+        }
+
+        @Test
+        void whenCalledTwice_ThenThrowIllegalStateException() {
+            mockCoachTree.whenBefore("rejected", a);
+            mockCoachTree.whenTheRest();
+
+            assertThrows(IllegalStateException.class, mockCoachTree::whenTheRest);
+            assertEquals(Arrays.asList("wb", "wd2"), calls);
+        }
+    }
+
+    @Nested
+    class Verify {
+
+        @Test
+        void whenVerifyBeforeThenTheRest_ThenSkipVerifyOfMock() {
+            mockCoachTree.verifyBefore("approvedWithCoupon", c);
+            mockCoachTree.verifyTheRest();
+
+            assertEquals(Arrays.asList("va", "vb", "ve"), calls);
+        }
+
+        @Test
+        void whenVerifyThroughThenTheRest_ThenRunWholeBranch() {
+            mockCoachTree.verifyThrough("rejected", b);
+            assertEquals(Arrays.asList("va", "vb"), calls);
+
+            mockCoachTree.verifyTheRest();
+            assertEquals(Arrays.asList("va", "vb", "vd2"), calls);
+        }
+
+        @Test
+        void whenVerifyAll_ThenRunVerifiesOfBranch() {
+            mockCoachTree.verifyAll("approvedWithoutCoupon");
+
+            assertEquals(Arrays.asList("va", "vb", "vc", "vd"), calls);
+        }
+
+        @Test
+        void whenVerifyTheRestCalledFirst_ThenThrowIllegalStateException() {
+            IllegalStateException actualException = assertThrows(IllegalStateException.class, mockCoachTree::verifyTheRest);
+
+            assertEquals("Cannot call verifyTheRest()! Must be called only after verifyBefore(branch, mock)/verifyThrough(branch, mock)", actualException.getMessage());
+        }
+
+        @Test
+        void whenVerifyThrowsException_ThenThrowMockCoachLambdaException() {
+            MockCoachTree tree = new MockCoachTree.Builder()
+                    .add(a, when("wa"), () -> {
+                        throw new Exception();
+                    })
+                    .branch("branch", branch -> branch.add(b, when("wb"), verify("vb")))
+                    .build();
+
+            MockCoachLambdaException actualException = assertThrows(MockCoachLambdaException.class, () -> tree.verifyAll("branch"));
+
+            assertEquals("v1 of branch \"branch\" throws an exception! Please check your verifies.", actualException.getMessage());
+            assertEquals(LambdaPhase.VERIFY, actualException.getPhase());
+        }
+    }
+}
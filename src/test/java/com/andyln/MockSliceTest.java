@@ -0,0 +1,85 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockSliceTest {
+
+    private final Object mock1 = new Object();
+    private final Object mock2 = new Object();
+    private final Object mock3 = new Object();
+
+    private final Object[] mocks = {mock1, mock2, mock3};
+
+    @Nested
+    class Get {
+
+        @Test
+        void success() {
+            MockSlice slice = new MockSlice(mocks, 1, 3);
+
+            assertEquals(2, slice.size());
+            assertSame(mock2, slice.get(0));
+            assertSame(mock3, slice.get(1));
+        }
+
+        @Test
+        void whenIndexOutsideSlice_ThenThrowIndexOutOfBoundsException() {
+            MockSlice slice = new MockSlice(mocks, 1, 2);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> slice.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> slice.get(-1));
+        }
+
+        @Test
+        void whenMocksChange_ThenSliceSeesChange() {
+            Object[] changingMocks = {mock1, mock2};
+            MockSlice slice = new MockSlice(changingMocks, 0, 2);
+
+            changingMocks[1] = mock3;
+
+            assertSame(mock3, slice.get(1));
+        }
+    }
+
+    @Nested
+    class ToArray {
+
+        @Test
+        void success() {
+            Object[] array = new MockSlice(mocks, 0, 2).toArray();
+
+            assertArrayEquals(new Object[]{mock1, mock2}, array);
+            assertEquals(Object[].class, array.getClass());
+        }
+
+        @Test
+        void whenEmptySlice_ThenEmptyArray() {
+            assertEquals(0, new MockSlice(mocks, 2, 2).toArray().length);
+        }
+    }
+
+    @Nested
+    class Equals {
+
+        @Test
+        void whenSameMocks_ThenEqualsList() {
+            assertEquals(Arrays.asList(mock2, mock3), new MockSlice(mocks, 1, 3));
+            assertEquals(Collections.emptyList(), new MockSlice(mocks, 0, 0));
+        }
+    }
+
+    @Test
+    void whenModified_ThenThrowUnsupportedOperationException() {
+        MockSlice slice = new MockSlice(mocks, 0, 3);
+
+        assertThrows(UnsupportedOperationException.class, () -> slice.set(0, mock2));
+        assertThrows(UnsupportedOperationException.class, () -> slice.add(mock2));
+    }
+
+}
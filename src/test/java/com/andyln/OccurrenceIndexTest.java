@@ -0,0 +1,75 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccurrenceIndexTest {
+
+    private final Object a = new Object();
+    private final Object b = new Object();
+    private final Object c = new Object();
+    private final Object d = new Object();
+
+    // A -> B -> C -> B -> D
+    private final OccurrenceIndex occurrenceIndex = new OccurrenceIndex(new Object[]{a, b, c, b, d});
+
+    @Nested
+    class IndexOf {
+
+        @Test
+        void success() {
+            assertEquals(0, occurrenceIndex.indexOf(a, 1));
+            assertEquals(1, occurrenceIndex.indexOf(b, 1));
+            assertEquals(2, occurrenceIndex.indexOf(c, 1));
+            assertEquals(3, occurrenceIndex.indexOf(b, 2));
+            assertEquals(4, occurrenceIndex.indexOf(d, 1));
+        }
+
+        @Test
+        void whenOccurrenceOutOfRange_ThenNotFound() {
+            assertEquals(OccurrenceIndex.NOT_FOUND, occurrenceIndex.indexOf(b, 0));
+            assertEquals(OccurrenceIndex.NOT_FOUND, occurrenceIndex.indexOf(b, 3));
+        }
+
+        @Test
+        void whenMockNotInMocks_ThenNotFound() {
+            assertEquals(OccurrenceIndex.NOT_FOUND, occurrenceIndex.indexOf(new Object(), 1));
+        }
+
+        @Test
+        void whenHundredsOfRepeats_ThenEveryOccurrenceFound() {
+            int repeats = 500;
+            Object[] mocks = new Object[2 * repeats];
+            for (int i = 0; i < repeats; i++) {
+                mocks[2 * i] = a;
+                mocks[2 * i + 1] = new Object();
+            }
+
+            OccurrenceIndex repeatingIndex = new OccurrenceIndex(mocks);
+
+            assertEquals(repeats, repeatingIndex.occurrences(a));
+            for (int occurrence = 1; occurrence <= repeats; occurrence++) {
+                assertEquals(2 * (occurrence - 1), repeatingIndex.indexOf(a, occurrence));
+                assertEquals(2 * occurrence - 1, repeatingIndex.indexOf(mocks[2 * occurrence - 1], 1));
+            }
+        }
+    }
+
+    @Nested
+    class Occurrences {
+
+        @Test
+        void success() {
+            assertEquals(1, occurrenceIndex.occurrences(a));
+            assertEquals(2, occurrenceIndex.occurrences(b));
+        }
+
+        @Test
+        void whenMockNotInMocks_ThenZero() {
+            assertEquals(0, occurrenceIndex.occurrences(new Object()));
+        }
+    }
+
+}
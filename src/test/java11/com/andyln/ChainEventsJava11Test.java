@@ -0,0 +1,100 @@
+package com.andyln;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ChainEventsJava11Test {
+
+    // Tests run against target/classes, where the Java 11 version of ChainEvents is only under META-INF/versions/11.
+    // So classes are loaded the way the multi-release jar is read on Java 11: versioned classes first, without the test class path.
+
+    @TempDir
+    Path tempDir;
+
+    private static ClassLoader java11ClassLoader() throws Exception {
+        Path classes = Path.of(MockCoach.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path java11Classes = classes.resolve("META-INF/versions/11");
+        assumeTrue(Files.isDirectory(java11Classes), "Java 11 layer is not compiled");
+
+        return new URLClassLoader(new URL[]{java11Classes.toUri().toURL(), classes.toUri().toURL()}, ClassLoader.getPlatformClassLoader());
+    }
+
+    private static boolean isRecording(ClassLoader classLoader) throws Exception {
+        Method isRecording = classLoader.loadClass("com.andyln.ChainEvents").getDeclaredMethod("isRecording");
+        isRecording.setAccessible(true);
+        return (boolean) isRecording.invoke(null);
+    }
+
+    private static Object noOpLambda(ClassLoader classLoader, String lambdaClassName) throws Exception {
+        Class<?> lambdaClass = classLoader.loadClass(lambdaClassName);
+        return Proxy.newProxyInstance(classLoader, new Class<?>[]{lambdaClass}, (proxy, method, arguments) -> null);
+    }
+
+    @Test
+    void isRecording_whenNoRecording_ThenFalse() throws Exception {
+        assertFalse(isRecording(java11ClassLoader()));
+    }
+
+    @Test
+    void isRecording_whenEventEnabled_ThenTrueUntilRecordingStops() throws Exception {
+        ClassLoader classLoader = java11ClassLoader();
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.andyln.RangeCall");
+            recording.start();
+
+            assertTrue(isRecording(classLoader));
+
+            recording.stop();
+            assertFalse(isRecording(classLoader));
+        }
+    }
+
+    @Test
+    void whenRecording_ThenCommitRangeCallAndLambdaRunEvents() throws Exception {
+        ClassLoader classLoader = java11ClassLoader();
+        Class<?> mockCoachClass = classLoader.loadClass("com.andyln.MockCoach");
+        Object mockCoach = mockCoachClass
+                .getConstructor(Object.class, classLoader.loadClass("com.andyln.WhenLambda"), classLoader.loadClass("com.andyln.VerifyLambda"))
+                .newInstance(new Object(), noOpLambda(classLoader, "com.andyln.WhenLambda"), noOpLambda(classLoader, "com.andyln.VerifyLambda"));
+        Path dump = tempDir.resolve("mock-coach.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.andyln.RangeCall");
+            recording.enable("com.andyln.LambdaRun");
+            recording.start();
+
+            mockCoachClass.getMethod("whenAll").invoke(mockCoach);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<String> rangeNames = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.andyln.RangeCall"))
+                .map(event -> event.getString("rangeName"))
+                .collect(Collectors.toList());
+        List<String> lambdaPhases = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.andyln.LambdaRun"))
+                .map(event -> event.getString("phase"))
+                .collect(Collectors.toList());
+        assertEquals(List.of("whenAll"), rangeNames);
+        assertEquals(List.of("WHEN"), lambdaPhases);
+    }
+}
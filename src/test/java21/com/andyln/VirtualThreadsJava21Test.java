@@ -0,0 +1,79 @@
+package com.andyln;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsJava21Test {
+
+    // Tests run against target/classes, where the Java 21 version of VirtualThreads is only under META-INF/versions/21.
+    // So classes are loaded the way the multi-release jar is read on Java 21: versioned classes first, without the test class path.
+
+    private static ClassLoader java21ClassLoader() throws Exception {
+        Path classes = Path.of(MockCoach.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path java21Classes = classes.resolve("META-INF/versions/21");
+        assumeTrue(Files.isDirectory(java21Classes), "Java 21 layer is not compiled");
+
+        return new URLClassLoader(new URL[]{java21Classes.toUri().toURL(), classes.toUri().toURL()}, ClassLoader.getPlatformClassLoader());
+    }
+
+    private static Object lambdas(ClassLoader classLoader, String arrayClassName, String lambdaClassName, Runnable run, int length) throws Exception {
+        Class<?> lambdaClass = classLoader.loadClass(lambdaClassName);
+        Object lambda = Proxy.newProxyInstance(classLoader, new Class<?>[]{lambdaClass}, (proxy, method, arguments) -> {
+            if (method.getName().equals("run")) {
+                run.run();
+            }
+            return null;
+        });
+
+        Object lambdas = Array.newInstance(classLoader.loadClass(arrayClassName), length);
+        for (int i = 0; i < length; i++) {
+            Array.set(lambdas, i, lambda);
+        }
+        return lambdas;
+    }
+
+    @Test
+    void isVirtualThreadVerifiesAvailable_ThenTrue() throws Exception {
+        Method isVirtualThreadVerifiesAvailable = java21ClassLoader().loadClass("com.andyln.MockCoach").getMethod("isVirtualThreadVerifiesAvailable");
+
+        assertTrue((boolean) isVirtualThreadVerifiesAvailable.invoke(null));
+    }
+
+    @Test
+    void putVirtualThreadVerifies_ThenRunsVerifiesOnVirtualThreads() throws Exception {
+        ClassLoader classLoader = java21ClassLoader();
+        Class<?> mockCoachClass = classLoader.loadClass("com.andyln.MockCoach");
+        Class<?> whenLambdaClass = classLoader.loadClass("com.andyln.WhenLambda");
+        Class<?> verifyLambdaClass = classLoader.loadClass("com.andyln.VerifyLambda");
+        List<Thread> verifyThreads = Collections.synchronizedList(new ArrayList<>());
+        Object mockCoach = mockCoachClass
+                .getConstructor(Object[].class, whenLambdaClass.arrayType(), verifyLambdaClass.arrayType())
+                .newInstance(
+                        new Object[]{new Object(), new Object()},
+                        lambdas(classLoader, "com.andyln.WhenLambda", "com.andyln.WhenLambda", () -> {}, 2),
+                        lambdas(classLoader, "com.andyln.VerifyLambda", "com.andyln.ConcurrentVerifyLambda", () -> verifyThreads.add(Thread.currentThread()), 2)
+                );
+
+        mockCoachClass.getMethod("putVirtualThreadVerifies").invoke(mockCoach);
+        mockCoachClass.getMethod("verifyAll").invoke(mockCoach);
+
+        assertEquals(2, verifyThreads.size());
+        for (Thread verifyThread : verifyThreads) {
+            assertTrue(verifyThread.isVirtual());
+            assertTrue(verifyThread.getName().startsWith("mock-coach-verify-"));
+        }
+    }
+}